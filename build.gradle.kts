@@ -6,6 +6,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.6"
     kotlin("jvm") version "1.9.22"
     kotlin("plugin.spring") version "1.9.22"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "me.letsdev"
@@ -39,6 +40,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-log4j2")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
@@ -87,22 +89,49 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// Argon2 압축 함수의 Vector API 구현(Argon2Compression.VECTOR)이 사용하는 인큐베이터 모듈
+// NOTE javac는 이 모듈을 쓰면 "using incubating module(s)" 경고를 항상 한 번 출력하고, 이 경고만 끄는 -Xlint 키는 없습니다.
+//  JavaCompile에 -Werror를 추가하면 빌드가 실패하므로, 경고를 오류로 다루려면 이 경고를 제외하고 검사해야 합니다.
+val vectorModuleArgs = listOf("--add-modules", "jdk.incubator.vector")
+
 tasks.withType<JavaCompile> {
     options.compilerArgs.addAll(
             listOf(
                 "--enable-preview",
                 "-Amapstruct.defaultComponentModel=spring"
-            )
+            ) + vectorModuleArgs
     )
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
-    jvmArgs("--enable-preview")
+    jvmArgs(listOf("--enable-preview") + vectorModuleArgs)
 }
 
 tasks.named<JavaExec>("bootRun") {
-    jvmArgs("--enable-preview")
+    jvmArgs(listOf("--enable-preview") + vectorModuleArgs)
+}
+
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    jvmArgsAppend = listOf("--enable-preview") + vectorModuleArgs
+    resultFormat = "JSON"
+}
+
+// 1, N/2, N 스레드로 모든 벤치마크를 실행합니다. (GC 프로파일러로 할당률 측정)
+tasks.register<JavaExec>("jmhThreadGrid") {
+    group = "benchmark"
+    description = "Runs every JMH benchmark at 1, N/2 and N threads with the GC profiler."
+    val jmhJar = tasks.named<Jar>("jmhJar")
+    dependsOn(jmhJar)
+    classpath = files(jmhJar.flatMap { it.archiveFile })
+    mainClass = "letsdev.core.password.PasswordEncoderBenchmarkRunner"
+    jvmArgs(listOf("--enable-preview") + vectorModuleArgs)
+    args(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
+    doFirst {
+        layout.buildDirectory.dir("results/jmh").get().asFile.mkdirs()
+    }
 }
 
 tasks.withType<KotlinCompile> {
@@ -0,0 +1,39 @@
+package letsdev.core.password;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.TreeSet;
+
+/**
+ * 모든 벤치마크를 1, N/2, N 스레드로 실행합니다. (N: 가용 프로세서 수)
+ * <p>
+ * {@code ./gradlew jmhThreadGrid -PjmhIncludes=BCrypt}처럼 실행할 벤치마크를 정규식으로 좁힐 수 있습니다.
+ */
+public class PasswordEncoderBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String includes = args.length > 0 ? args[0] : ".*";
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        var threadCounts = new TreeSet<Integer>();
+        threadCounts.add(1);
+        threadCounts.add(Math.max(1, processors / 2));
+        threadCounts.add(processors);
+
+        for (int threads : threadCounts) {
+            var options = new OptionsBuilder()
+                    .include(includes)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .jvmArgsAppend("--enable-preview", "--add-modules", "jdk.incubator.vector")
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(STR."build/results/jmh/results-threads-\{threads}.json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package letsdev.core.password;
+
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderFactoryBenchmark {
+
+    @Param({"BCRYPT", "ARGON2ID"})
+    public String algorithm;
+
+    private PasswordEncoderFactory factory;
+    // 크기가 0인 캐시는 로딩 직후 요소를 제거하므로 매 호출이 miss가 됩니다.
+    private PasswordEncoderFactory missingFactory;
+    private PasswordEncoderOption option;
+
+    @Setup
+    public void setUp() {
+        option = switch (algorithm) {
+            case "BCRYPT" -> new BcryptPasswordEncoderOption(12);
+            case "ARGON2ID" -> Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                    .gain(3f)
+                    .build();
+            default -> throw new IllegalArgumentException(algorithm);
+        };
+        factory = new PasswordEncoderFactory();
+        factory.create(option);
+        missingFactory = PasswordEncoderFactory.builder()
+                .maximumSize(0)
+                .build();
+    }
+
+    @Benchmark
+    public PasswordEncoder createHit() {
+        return factory.create(option);
+    }
+
+    @Benchmark
+    public PasswordEncoder createMiss() {
+        return missingFactory.create(option);
+    }
+}
@@ -0,0 +1,61 @@
+package letsdev.core.password.encoder.adapter;
+
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인코딩된 Argon2 해시 디코딩: 한 번 읽는 코덱과 이전의 split 기반 디코딩 비교
+ * (-prof gc로 호출당 할당량도 함께 확인합니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Argon2EncodingUtilBenchmark {
+
+    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
+
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        byte[] salt = {
+                'S', 'a', 'l', 't', 'W', 'i', 't', 'h', '1', '6', 'l', 'e', 'n', 'g', 't', 'h'
+        };
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withSalt(salt)
+                .withParallelism(1)
+                .withMemoryAsKB(148_029)
+                .withIterations(1)
+                .build();
+        encodedPassword = Argon2EncodingUtil.encode(new byte[32], parameters);
+    }
+
+    @Benchmark
+    public DecodedArgon2Hash decode() {
+        return Argon2EncodingUtil.decode(encodedPassword);
+    }
+
+    // 이전 구현: 정규식 split, 솔트와 다이제스트만 읽음
+    @Benchmark
+    public void legacySplitDecode(Blackhole blackhole) {
+        String[] parts = encodedPassword.split("\\$");
+        blackhole.consume(BASE64_DECODER.decode(parts[parts.length - 2]));
+        blackhole.consume(BASE64_DECODER.decode(parts[parts.length - 1]));
+    }
+}
@@ -0,0 +1,69 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Argon2IdPasswordEncoderAdapterBenchmark {
+
+    private static final String RAW_PASSWORD = "abcd1234";
+    private static final byte[] CUSTOM_SALT = {
+            'S', 'a', 'l', 't', 'W', 'i', 't', 'h', '1', '6', 'l', 'e', 'n', 'g', 't', 'h'
+    };
+
+    @Param({"1", "3"})
+    public float gain;
+
+    @Param({"1", "3"})
+    public int iterations;
+
+    @Param({"1", "2"})
+    public int parallelism;
+
+    private Argon2IdPasswordEncoderAdapter encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        var option = Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                .gain(gain)
+                .iterations(iterations)
+                .parallelism(parallelism)
+                .build()
+                .as(Argon2idPasswordEncoderOption.class);
+        encoder = new Argon2IdPasswordEncoderAdapter(option);
+        encodedPassword = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encodeWithCustomSalt() {
+        return encoder.encodeWithCustomSalt(RAW_PASSWORD, CUSTOM_SALT);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,63 @@
+package letsdev.core.password.encoder.engine;
+
+import letsdev.core.password.encoder.option.Argon2Compression;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 크기별 Argon2id 해싱 시간: 스칼라 압축 함수와 Vector API 압축 함수 비교
+ * (VECTOR는 {@code --add-modules jdk.incubator.vector}가 있어야 실제로 벡터 구현을 씁니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Argon2EngineCompressionBenchmark {
+
+    private static final byte[] RAW_PASSWORD = "abcd1234".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SALT = {
+            'S', 'a', 'l', 't', 'W', 'i', 't', 'h', '1', '6', 'l', 'e', 'n', 'g', 't', 'h'
+    };
+
+    @Param({"1024", "19456", "65536"})
+    public int memory;
+
+    @Param({"SCALAR", "VECTOR"})
+    public Argon2Compression compression;
+
+    private Argon2Engine engine;
+    private Argon2Parameters parameters;
+
+    @Setup
+    public void setUp() {
+        engine = new Argon2Engine(new Argon2MemoryPool(), Argon2MemoryBudget.unlimited(), null, compression);
+        parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withSalt(SALT)
+                .withParallelism(1)
+                .withMemoryAsKB(memory)
+                .withIterations(2)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] generateBytes() {
+        byte[] hash = new byte[32];
+        engine.generateBytes(parameters, RAW_PASSWORD, hash);
+        return hash;
+    }
+}
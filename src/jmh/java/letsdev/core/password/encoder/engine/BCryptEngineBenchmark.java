@@ -0,0 +1,68 @@
+package letsdev.core.password.encoder.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * strength별 BCrypt 해싱: Spring Security {@code BCrypt.hashpw}와 {@link BCryptEngine} 비교
+ * (호출당 할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm}으로 봅니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BCryptEngineBenchmark {
+
+    private static final byte[] RAW_PASSWORD = "abcd1234".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SALT = {
+            'S', 'a', 'l', 't', 'W', 'i', 't', 'h', '1', '6', 'l', 'e', 'n', 'g', 't', 'h'
+    };
+
+    @Param({"4", "10", "12"})
+    public int strength;
+
+    private String springSalt;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encodedPassword = BCryptEngine.hash("", ByteBuffer.wrap(RAW_PASSWORD), SALT, strength);
+        springSalt = encodedPassword.substring(0, 29);
+    }
+
+    @Benchmark
+    public String springHashpw() {
+        return BCrypt.hashpw(RAW_PASSWORD, springSalt);
+    }
+
+    @Benchmark
+    public String engineHash() {
+        return BCryptEngine.hash("{bcrypt}", ByteBuffer.wrap(RAW_PASSWORD), SALT, strength);
+    }
+
+    @Benchmark
+    public boolean springCheckpw() {
+        return BCrypt.checkpw(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean engineVerify() {
+        return BCryptEngine.verify(ByteBuffer.wrap(RAW_PASSWORD), encodedPassword, 0);
+    }
+}
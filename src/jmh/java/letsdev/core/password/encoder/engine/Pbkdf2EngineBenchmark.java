@@ -0,0 +1,68 @@
+package letsdev.core.password.encoder.engine;
+
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PRF별 PBKDF2 키 유도: JDK {@code SecretKeyFactory}와 {@link Pbkdf2Engine} 비교
+ * (HMAC-SHA-256은 {@code -XX:-UseSHA}로 SHA 인트린식이 없을 때도 비교해 봅니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Pbkdf2EngineBenchmark {
+
+    private static final String RAW_PASSWORD = "abcd1234";
+    private static final byte[] SALT = {
+            'S', 'a', 'l', 't', 'W', 'i', 't', 'h', '1', '6', 'l', 'e', 'n', 'g', 't', 'h'
+    };
+    private static final int ITERATIONS = 100_000;
+
+    @Param({"HMAC_SHA256", "HMAC_SHA512"})
+    public Pbkdf2Algorithm algorithm;
+
+    private SecretKeyFactory secretKeyFactory;
+    private byte[] rawPasswordBytes;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        secretKeyFactory = SecretKeyFactory.getInstance(switch (algorithm) {
+            case HMAC_SHA256 -> "PBKDF2WithHmacSHA256";
+            case HMAC_SHA512 -> "PBKDF2WithHmacSHA512";
+        });
+        rawPasswordBytes = RAW_PASSWORD.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] jdkSecretKeyFactory() throws GeneralSecurityException {
+        PBEKeySpec keySpec = new PBEKeySpec(RAW_PASSWORD.toCharArray(), SALT, ITERATIONS, algorithm.digestLength() * 8);
+        return secretKeyFactory.generateSecret(keySpec).getEncoded();
+    }
+
+    @Benchmark
+    public byte[] engine() {
+        byte[] out = new byte[algorithm.digestLength()];
+        Pbkdf2Engine.deriveKey(algorithm, ByteBuffer.wrap(rawPasswordBytes), SALT, ITERATIONS, out);
+        return out;
+    }
+}
@@ -0,0 +1,65 @@
+package letsdev.core.password.encoder.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 16바이트 솔트 생성: 이전 방식(공유 SecureRandom + 매번 setSeed)과 스레드별 DRBG, 미리 채운 링 버퍼 비교
+ * (여러 스레드에서 경합을 보려면 -t 옵션으로 스레드 수를 바꿉니다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class SaltSourceBenchmark {
+
+    private static final int SALT_LENGTH = 16;
+
+    private final SecureRandom sharedSecureRandom = new SecureRandom();
+    private SaltSource pooledSaltSource;
+
+    @Setup
+    public void setUp() {
+        pooledSaltSource = new SaltSource(SaltSource.DEFAULT_CAPACITY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pooledSaltSource.close();
+    }
+
+    // 이전 Argon2d 어댑터의 encode
+    @Benchmark
+    public byte[] sharedSecureRandomWithSeed() {
+        sharedSecureRandom.setSeed(SecureRandom.getSeed(SALT_LENGTH));
+        byte[] salt = new byte[SALT_LENGTH];
+        sharedSecureRandom.nextBytes(salt);
+        return salt;
+    }
+
+    @Benchmark
+    public byte[] threadLocalDrbg() {
+        return SaltSource.unpooled().nextSalt(SALT_LENGTH);
+    }
+
+    @Benchmark
+    public byte[] pooled() {
+        return pooledSaltSource.nextSalt(SALT_LENGTH);
+    }
+}
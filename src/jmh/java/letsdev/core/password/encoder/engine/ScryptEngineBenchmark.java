@@ -0,0 +1,81 @@
+package letsdev.core.password.encoder.engine;
+
+import org.bouncycastle.crypto.generators.SCrypt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * scrypt 키 유도: Bouncy Castle {@code SCrypt.generate}와 {@link ScryptEngine}(V 배열 풀링, p개 블록 병렬) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ScryptEngineBenchmark {
+
+    private static final String RAW_PASSWORD = "abcd1234";
+    private static final byte[] SALT = {
+            'S', 'a', 'l', 't', 'W', 'i', 't', 'h', '1', '6', 'l', 'e', 'n', 'g', 't', 'h'
+    };
+    private static final int CPU_COST = 16_384;
+    private static final int MEMORY_COST = 8;
+    private static final int KEY_LENGTH = 32;
+
+    @Param({"1", "4"})
+    public int parallelization;
+
+    private byte[] rawPasswordBytes;
+    private ExecutorService blockExecutor;
+    private ScryptEngine sequentialEngine;
+    private ScryptEngine parallelEngine;
+
+    @Setup
+    public void setUp() {
+        rawPasswordBytes = RAW_PASSWORD.getBytes(StandardCharsets.UTF_8);
+        blockExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        sequentialEngine = new ScryptEngine(new ScryptMemoryPool());
+        parallelEngine = new ScryptEngine(new ScryptMemoryPool(), Argon2MemoryBudget.unlimited(), blockExecutor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        blockExecutor.shutdown();
+    }
+
+    @Benchmark
+    public byte[] bouncyCastle() {
+        return SCrypt.generate(rawPasswordBytes, SALT, CPU_COST, MEMORY_COST, parallelization, KEY_LENGTH);
+    }
+
+    @Benchmark
+    public byte[] engineSequential() {
+        byte[] out = new byte[KEY_LENGTH];
+        sequentialEngine.generateBytes(ByteBuffer.wrap(rawPasswordBytes), SALT, CPU_COST, MEMORY_COST, parallelization, out);
+        return out;
+    }
+
+    @Benchmark
+    public byte[] engineParallel() {
+        byte[] out = new byte[KEY_LENGTH];
+        parallelEngine.generateBytes(ByteBuffer.wrap(rawPasswordBytes), SALT, CPU_COST, MEMORY_COST, parallelization, out);
+        return out;
+    }
+}
@@ -0,0 +1,174 @@
+package letsdev.auth.actuator;
+
+import letsdev.auth.configuration.AuthConfiguration;
+import letsdev.auth.configuration.PasswordEncoderProperties;
+import letsdev.core.password.PasswordEncoderFactory;
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder;
+import letsdev.core.password.encoder.option.Argon2Compression;
+import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption;
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm;
+import letsdev.core.password.encoder.option.Pbkdf2PasswordEncoderOption;
+import letsdev.core.password.encoder.option.ScryptPasswordEncoderOption;
+import letsdev.core.password.exception.PasswordEncoderOptionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기본 인코더의 옵션을 조회하고, 재시작 없이 바꿉니다. (장애 대응 중 비용 조정 등)
+ * <pre>
+ * GET  /actuator/passwordencoder
+ * POST /actuator/passwordencoder {"algorithm": "argon2id", "memory": 65536, "iterations": 2}
+ * POST /actuator/passwordencoder {"algorithm": "bcrypt", "strength": 12}
+ * POST /actuator/passwordencoder {"algorithm": "pbkdf2-sha256", "iterations": 600000}
+ * POST /actuator/passwordencoder {"algorithm": "scrypt", "cpuCost": 65536, "memoryCost": 8, "parallelism": 1}
+ * </pre>
+ * <ul>
+ *     <li>새 옵션은 새 해시에만 적용되며, 이전 옵션의 해시도 계속 검증됩니다.</li>
+ *     <li>생략한 값은 옵션의 기본값을 따릅니다. Argon2는 기본 인코더와 같이 iterations 1이고,
+ *     memory를 생략하면 기본 인코더와 같이 iterations에 맞는 권장 하한 93750 ÷ ((3 × t − 1) × α) KiB의
+ *     {@link AuthConfiguration#DEFAULT_ARGON2_GAIN}배를 씁니다. (t = 1이면 약 145 MiB)</li>
+ *     <li>기본 설정에서는 노출되지 않습니다. {@code management} 프로필을 켜면 관리 포트로 노출됩니다. (README 참고)</li>
+ *     <li>Argon2의 압축 함수 구현은 설정({@code auth.password-encoder.argon2-compression})을 따릅니다.</li>
+ *     <li>새 옵션의 인코더는 미리 적재하고, 이전 옵션의 인코더는 일반 캐시 항목으로 되돌립니다. (검증에 쓰이지 않으면 만료됩니다.)</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "passwordencoder")
+public class PasswordEncoderEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderEndpoint.class);
+
+    private final PasswordEncoderFactory passwordEncoderFactory;
+    private final ReloadablePasswordEncoder reloadablePasswordEncoder;
+    private final Argon2Compression argon2Compression;
+
+    public PasswordEncoderEndpoint(
+            PasswordEncoderFactory passwordEncoderFactory,
+            ReloadablePasswordEncoder reloadablePasswordEncoder,
+            PasswordEncoderProperties properties
+    ) {
+        this.passwordEncoderFactory = passwordEncoderFactory;
+        this.reloadablePasswordEncoder = reloadablePasswordEncoder;
+        this.argon2Compression = properties.argon2Compression();
+    }
+
+    @ReadOperation
+    public Map<String, Object> option() {
+        return describe(reloadablePasswordEncoder.currentOption());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload(
+            String algorithm,
+            @Nullable Integer strength,
+            @Nullable Integer memory,
+            @Nullable Integer iterations,
+            @Nullable Integer parallelism,
+            @Nullable Integer cpuCost,
+            @Nullable Integer memoryCost
+    ) {
+        PasswordEncoderOption option = switch (algorithm) {
+            case "bcrypt" -> new BcryptPasswordEncoderOption(positiveOrDefault("strength", strength, 10));
+            case "argon2id" -> {
+                var builder = Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                        .iterations(positiveOrDefault("iterations", iterations, 1))
+                        .parallelism(positiveOrDefault("parallelism", parallelism, 1))
+                        .compression(argon2Compression);
+                if (memory != null) {
+                    builder.memoryInput(positiveOrDefault("memory", memory, 0));
+                } else {
+                    builder.gain(AuthConfiguration.DEFAULT_ARGON2_GAIN);
+                }
+                yield builder.build();
+            }
+            case "argon2d" -> {
+                var builder = Argon2dPasswordEncoderOption.fromDefaultBuilder()
+                        .iterations(positiveOrDefault("iterations", iterations, 1))
+                        .parallelism(positiveOrDefault("parallelism", parallelism, 1))
+                        .compression(argon2Compression);
+                if (memory != null) {
+                    builder.memoryInput(positiveOrDefault("memory", memory, 0));
+                } else {
+                    builder.gain(AuthConfiguration.DEFAULT_ARGON2_GAIN);
+                }
+                yield builder.build();
+            }
+            case "scrypt" -> scryptOption(
+                    positiveOrDefault("cpuCost", cpuCost, 0),
+                    positiveOrDefault("memoryCost", memoryCost, 0),
+                    positiveOrDefault("parallelism", parallelism, 0)
+            );
+            case "pbkdf2-sha256" -> new Pbkdf2PasswordEncoderOption(
+                    Pbkdf2Algorithm.HMAC_SHA256,
+                    positiveOrDefault("iterations", iterations, Pbkdf2Algorithm.HMAC_SHA256.defaultIterations())
+            );
+            case "pbkdf2-sha512" -> new Pbkdf2PasswordEncoderOption(
+                    Pbkdf2Algorithm.HMAC_SHA512,
+                    positiveOrDefault("iterations", iterations, Pbkdf2Algorithm.HMAC_SHA512.defaultIterations())
+            );
+            default -> throw new InvalidEndpointRequestException(
+                    STR."Unsupported algorithm: \{algorithm}",
+                    "algorithm must be one of bcrypt, argon2id, argon2d, pbkdf2-sha256, pbkdf2-sha512, scrypt"
+            );
+        };
+
+        passwordEncoderFactory.preload(List.of(option))
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.warn("Failed to preload password encoder: {}", option, e);
+                    }
+                });
+        PasswordEncoderOption previousOption = reloadablePasswordEncoder.reload(option);
+        // 같은 인스턴스(실제 파라미터가 같은 옵션)로 바꾼 경우에는 새 옵션까지 되돌리지 않도록 확인합니다.
+        if (passwordEncoderFactory.create(previousOption) != passwordEncoderFactory.create(option)) {
+            passwordEncoderFactory.unpin(previousOption);
+        }
+        log.info("Reloaded password encoder option: {} -> {}", previousOption, option);
+
+        return Map.of(
+                "previous", describe(previousOption),
+                "current", describe(option)
+        );
+    }
+
+    // 0은 옵션의 기본값을 뜻합니다.
+    private static PasswordEncoderOption scryptOption(int cpuCost, int memoryCost, int parallelization) {
+        try {
+            return new ScryptPasswordEncoderOption(cpuCost, memoryCost, parallelization);
+        } catch (PasswordEncoderOptionException e) {
+            throw new InvalidEndpointRequestException(
+                    "Invalid scrypt cost",
+                    "cpuCost must be a power of 2 greater than 1, memoryCost and parallelism must be at most 255"
+            );
+        }
+    }
+
+    private static int positiveOrDefault(String name, @Nullable Integer value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value <= 0) {
+            throw new InvalidEndpointRequestException(STR."\{name} must be positive", STR."\{name} must be positive");
+        }
+        return value;
+    }
+
+    private static Map<String, Object> describe(PasswordEncoderOption option) {
+        return Map.of(
+                "encoderType", option.encoderType().name(),
+                "option", option.toString()
+        );
+    }
+}
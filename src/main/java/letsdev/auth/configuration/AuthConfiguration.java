@@ -1,35 +1,149 @@
 package letsdev.auth.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import letsdev.core.password.PasswordEncoderFactory;
+import letsdev.core.password.calibration.CalibrationStore;
+import letsdev.core.password.calibration.CalibrationTarget;
+import letsdev.core.password.calibration.PasswordEncoderCalibrator;
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder;
+import letsdev.core.password.encoder.option.Argon2Compression;
 import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption;
 import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
 import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
 import letsdev.core.password.encoder.port.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableScheduling
 public class AuthConfiguration {
+
+    // Argon2 기본 인코더(보정하지 않을 때)와 이력 인코더의 메모리 계수 (권장 하한의 배수). 옵션 변경 엔드포인트도 같은 값을 씁니다.
+    public static final float DEFAULT_ARGON2_GAIN = 3f;
+
+    private static final Logger log = LoggerFactory.getLogger(AuthConfiguration.class);
+
+    @Bean
+    public PasswordEncoderFactory passwordEncoderFactory(
+            PasswordEncoderProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        var memoryBudget = properties.memoryBudget();
+        var hashingExecutor = properties.hashingExecutor();
+        return PasswordEncoderFactory.builder()
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .maximumSize(100)
+                .argon2MemoryBudget(
+                        memoryBudget.maxInFlight().toKilobytes(),
+                        memoryBudget.acquireTimeout().toMillis(),
+                        TimeUnit.MILLISECONDS
+                )
+                .hashingExecutor(hashingExecutor.threadsOrDefault(), hashingExecutor.queueCapacity())
+                .argon2Compression(properties.argon2Compression())
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    /**
+     * 기본 인코더. 옵션은 {@code /actuator/passwordencoder}로 재시작 없이 바꿀 수 있습니다.
+     */
     @Bean
-    public PasswordEncoderFactory passwordEncoderFactory() {
-        return new PasswordEncoderFactory();
+    public ReloadablePasswordEncoder reloadablePasswordEncoder(
+            PasswordEncoderFactory passwordEncoderFactory,
+            PasswordEncoderProperties properties
+    ) {
+        var option = primaryEncoderOption(
+                properties.primaryAlgorithm(),
+                properties.calibration(),
+                properties.memoryBudget(),
+                properties.argon2Compression()
+        );
+        logPreloadFailure(passwordEncoderFactory.preload(List.of(option)), option);
+        return passwordEncoderFactory.createReloadable(option);
     }
 
     @Bean
     @Primary
-    public PasswordEncoder passwordEncoder(PasswordEncoderFactory passwordEncoderFactory) {
-        var option = Argon2idPasswordEncoderOption.fromDefaultBuilder()
-                .gain(3f)
-                .build();
-        return passwordEncoderFactory.create(option);
+    public PasswordEncoder passwordEncoder(
+            PasswordEncoderFactory passwordEncoderFactory,
+            ReloadablePasswordEncoder reloadablePasswordEncoder,
+            PasswordEncoderProperties properties
+    ) {
+        var verificationCache = properties.verificationCache();
+        if (!verificationCache.enabled()) {
+            return reloadablePasswordEncoder;
+        }
+        return passwordEncoderFactory.createVerificationCachingEncoder(
+                reloadablePasswordEncoder,
+                verificationCache.maximumSize(),
+                verificationCache.timeToLive().toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    private static PasswordEncoderOption primaryEncoderOption(
+            PasswordEncoderProperties.PrimaryAlgorithm primaryAlgorithm,
+            PasswordEncoderProperties.Calibration calibration,
+            PasswordEncoderProperties.MemoryBudget memoryBudget,
+            Argon2Compression argon2Compression
+    ) {
+        if (!calibration.enabled()) {
+            return switch (primaryAlgorithm) {
+                case ARGON2ID -> Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                        .gain(DEFAULT_ARGON2_GAIN)
+                        .compression(argon2Compression)
+                        .build();
+                case BCRYPT -> new BcryptPasswordEncoderOption();
+            };
+        }
+
+        // 동시 해싱이 메모리 예산 안에 들어오도록 해시 하나의 메모리 상한을 나눠 잡습니다.
+        long maxArgon2MemoryKiB = memoryBudget.maxInFlight().toKilobytes() / calibration.concurrency();
+        var calibrator = new PasswordEncoderCalibrator(
+                (int) Math.min(maxArgon2MemoryKiB, Integer.MAX_VALUE),
+                calibration.argon2Parallelism()
+        );
+        var result = calibrator.calibrateOrLoad(
+                new CalibrationTarget(calibration.targetLatency(), calibration.concurrency()),
+                new CalibrationStore(Path.of(calibration.file()))
+        );
+        return switch (primaryAlgorithm) {
+            case ARGON2ID -> result.argon2idOption(argon2Compression);
+            case BCRYPT -> result.bcryptOption();
+        };
     }
 
     @Bean
-    public CustomSaltingPasswordEncoder passwordHistoryEncoder(PasswordEncoderFactory passwordEncoderFactory) {
+    public CustomSaltingPasswordEncoder passwordHistoryEncoder(
+            PasswordEncoderFactory passwordEncoderFactory,
+            PasswordEncoderProperties properties
+    ) {
         var option = Argon2dPasswordEncoderOption.fromDefaultBuilder()
-                .gain(3f)
+                .gain(DEFAULT_ARGON2_GAIN)
+                .compression(properties.argon2Compression())
                 .build();
+        // 드물게 쓰이므로 캐시에서 만료되지 않도록 미리 적재해 둡니다.
+        logPreloadFailure(passwordEncoderFactory.preload(List.of(option)), option);
         return passwordEncoderFactory.createCustomSaltingEncoder(option);
     }
+
+    // 미리 적재는 기동을 늦추지 않도록 기다리지 않습니다. 실패해도 첫 요청에서 캐시로 만들어지므로 기록만 합니다.
+    private static void logPreloadFailure(CompletableFuture<Void> preload, PasswordEncoderOption option) {
+        preload.whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.warn("Failed to preload password encoder: {}", option, e);
+            }
+        });
+    }
 }
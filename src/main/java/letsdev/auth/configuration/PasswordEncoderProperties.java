@@ -0,0 +1,173 @@
+package letsdev.auth.configuration;
+
+import letsdev.core.password.encoder.option.Argon2Compression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * @param memoryBudget 동시에 사용 중인 Argon2 메모리 총량 제한
+ * @param hashingExecutor 비동기 인코더가 사용하는 해싱 전용 스레드 풀
+ * @param calibration 기동 시 해싱 비용 자동 보정
+ * @param verificationCache 일치한 검증 결과의 단기 캐시
+ * @param rehash 약한 해시의 백그라운드 재해싱
+ * @param bulk NDJSON 대량 인코딩 API
+ * @param history 비밀번호 재사용 검사를 위한 이력
+ * @param migration 기본 인코더를 바꾼 후 기존 해시를 감싸는(onion) 일괄 작업
+ * @param argon2Compression Argon2 압축 함수 구현. VECTOR는 JVM 옵션 {@code --add-modules jdk.incubator.vector}가 필요합니다.
+ * @param primaryAlgorithm 기본 인코더의 알고리즘. 보정을 활성화하면 이 알고리즘의 보정 결과로 비용을 정합니다.
+ */
+@ConfigurationProperties(prefix = "auth.password-encoder")
+public record PasswordEncoderProperties(
+        @DefaultValue
+        MemoryBudget memoryBudget,
+        @DefaultValue
+        HashingExecutor hashingExecutor,
+        @DefaultValue
+        Calibration calibration,
+        @DefaultValue
+        VerificationCache verificationCache,
+        @DefaultValue
+        Rehash rehash,
+        @DefaultValue
+        Bulk bulk,
+        @DefaultValue
+        History history,
+        @DefaultValue
+        Migration migration,
+        @DefaultValue("SCALAR")
+        Argon2Compression argon2Compression,
+        @DefaultValue("ARGON2ID")
+        PrimaryAlgorithm primaryAlgorithm
+) {
+
+    public enum PrimaryAlgorithm {
+        ARGON2ID,
+        BCRYPT
+    }
+
+    /**
+     * @param maxInFlight 동시에 점유할 수 있는 Argon2 블록 행렬의 총량
+     * @param acquireTimeout 예산을 기다리는 최대 시간. 초과하면 503으로 응답합니다.
+     */
+    public record MemoryBudget(
+            @DefaultValue("2GB")
+            DataSize maxInFlight,
+            @DefaultValue("3s")
+            Duration acquireTimeout
+    ) {
+    }
+
+    /**
+     * @param threads 스레드 수. 0이면 가용 프로세서 수를 사용합니다.
+     * @param queueCapacity 대기 큐 크기. 가득 차면 503으로 응답합니다.
+     */
+    public record HashingExecutor(
+            @DefaultValue("0")
+            int threads,
+            @DefaultValue("1000")
+            int queueCapacity
+    ) {
+        public int threadsOrDefault() {
+            return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /**
+     * @param enabled 활성화하면 기동 시 기본 인코더의 비용을 현재 호스트에 맞춰 정합니다.
+     * @param targetLatency 동시 해싱 중 해시 하나의 목표 지연 시간(p50)
+     * @param concurrency 측정할 때의 동시 해싱 수
+     * @param argon2Parallelism Argon2 병렬성
+     * @param file 보정 결과 파일. 호스트 특성이 같으면 다음 기동에서 재사용합니다.
+     */
+    public record Calibration(
+            @DefaultValue("false")
+            boolean enabled,
+            @DefaultValue("250ms")
+            Duration targetLatency,
+            @DefaultValue("8")
+            int concurrency,
+            @DefaultValue("1")
+            int argon2Parallelism,
+            @DefaultValue("./password-calibration.properties")
+            String file
+    ) {
+    }
+
+    /**
+     * @param enabled 활성화하면 기본 인코더가 일치한 검증 결과를 캐싱합니다.
+     * @param maximumSize 보관할 검증 결과의 최대 개수
+     * @param timeToLive 검증 결과를 보관하는 시간
+     */
+    public record VerificationCache(
+            @DefaultValue("false")
+            boolean enabled,
+            @DefaultValue("10000")
+            long maximumSize,
+            @DefaultValue("5s")
+            Duration timeToLive
+    ) {
+    }
+
+    /**
+     * @param threads 재해싱 스레드 수 (낮은 우선순위)
+     * @param queueCapacity 대기 큐 크기. 가득 차면 재해싱을 건너뜁니다. (다음 로그인에서 다시 시도)
+     * @param batchSize 한 번에 저장하는 최대 개수
+     */
+    public record Rehash(
+            @DefaultValue("1")
+            int threads,
+            @DefaultValue("1000")
+            int queueCapacity,
+            @DefaultValue("50")
+            int batchSize
+    ) {
+    }
+
+    /**
+     * @param maxInFlight 요청 하나가 해싱 풀에 동시에 맡기는 최대 레코드 수. 가득 차면 결과를 내보낼 때까지 다음 레코드를 읽지 않습니다.
+     * @param overloadTimeout 해싱 풀의 대기 큐가 가득 찼을 때 한 레코드를 다시 맡기며 기다리는 최대 시간. 넘기면 그 레코드는 실패로 알립니다.
+     */
+    public record Bulk(
+            @DefaultValue("64")
+            int maxInFlight,
+            @DefaultValue("5s")
+            Duration overloadTimeout
+    ) {
+    }
+
+    /**
+     * @param keep 사용자마다 남겨 둘 최근 이력 수
+     * @param pruneBatchSize 한 번에 지우는 최대 이력 수
+     * @param pruneInterval 넘친 이력을 지우는 주기
+     */
+    public record History(
+            @DefaultValue("5")
+            int keep,
+            @DefaultValue("1000")
+            int pruneBatchSize,
+            @DefaultValue("1h")
+            Duration pruneInterval
+    ) {
+    }
+
+    /**
+     * @param enabled 활성화하면 기동 후 백그라운드에서 작업을 시작(또는 이어서)합니다.
+     * @param jobName 체크포인트 이름. 기본 인코더를 다시 바꿔 새로 돌리려면 다른 이름을 씁니다.
+     * @param chunkSize 한 번에 읽고, 해싱하고, 저장하는 사용자 수
+     * @param cpuBudget 작업이 해싱하는 시간의 비율 (0 초과 1 이하). 0.25면 해싱한 시간의 3배만큼 쉽니다.
+     */
+    public record Migration(
+            @DefaultValue("false")
+            boolean enabled,
+            @DefaultValue("onion-rehash")
+            String jobName,
+            @DefaultValue("500")
+            int chunkSize,
+            @DefaultValue("0.25")
+            double cpuBudget
+    ) {
+    }
+}
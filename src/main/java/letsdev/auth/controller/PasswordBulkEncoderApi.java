@@ -0,0 +1,245 @@
+package letsdev.auth.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import letsdev.auth.configuration.PasswordEncoderProperties;
+import letsdev.auth.controller.dto.BulkPasswordEncodingRequest;
+import letsdev.auth.controller.dto.BulkPasswordEncodingResponse;
+import letsdev.auth.service.PasswordHistoryService;
+import letsdev.core.password.PasswordEncoderFactory;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderException;
+import letsdev.core.password.exception.PasswordEncoderOverloadException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 줄마다 {@code {"id": "...", "user_id": "...", "password": "..."}}인 NDJSON을 읽어 해싱하고, 끝나는 순서대로 NDJSON으로 돌려줍니다.
+ * <pre>
+ * POST /password/encode/bulk (Content-Type: application/x-ndjson)
+ * {"id":"a1","password":"..."}                        →  {"id":"a1","encoded_password":"..."}
+ * {"id":"a2","user_id":"{uuid}","password":"..."}     →  {"id":"a2","encoded_password":"...","history_password":"..."}
+ * {"id":"a3","user_id":"not-a-uuid","password":"..."} →  {"id":"a3","error":"INVALID_RECORD"}
+ * </pre>
+ * <ul>
+ *     <li>해싱은 팩토리의 해싱 전용 스레드 풀에서 수행합니다. 요청 스레드는 읽기와 쓰기만 합니다.</li>
+ *     <li>동시에 맡기는 레코드 수는 {@code maxInFlight}까지입니다. 가득 차면 결과 하나를 내보낸 후에 다음 줄을 읽으므로,
+ *     업로드가 아무리 커도 메모리에는 {@code maxInFlight}개만 머뭅니다. (느린 클라이언트는 TCP 흐름 제어로 업로드가 늦춰집니다.)</li>
+ *     <li>풀의 대기 큐가 가득 차면 끝난 결과를 내보내며 기다렸다가 다시 맡깁니다.
+ *     {@code overloadTimeout}이 지나도 맡기지 못하면 그 레코드는 {@code HASHING_QUEUE_FULL}로 알리고 다음 레코드로 넘어갑니다.</li>
+ *     <li>{@code id}는 클라이언트가 정한 식별자로, 결과에 그대로 붙입니다.
+ *     이력 해시는 {@code user_id}가 있을 때만 {@link PasswordHistoryService}와 같은 사용자별 솔트로 만듭니다. ({@code /password/encode}와 같은 해시)</li>
+ *     <li>결과의 순서는 입력 순서와 다를 수 있습니다. {@code id}로 맞춰 주십시오.</li>
+ *     <li>레코드 단위 실패는 {@code error}로 알리고 계속 진행합니다. 한 줄을 JSON으로 읽지 못하면 그 자리에서 멈춥니다.</li>
+ * </ul>
+ */
+@RestController
+public class PasswordBulkEncoderApi {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordBulkEncoderApi.class);
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+    private static final String INVALID_RECORD = "INVALID_RECORD";
+    private static final String MALFORMED_RECORD = "MALFORMED_RECORD";
+    private static final String ENCODING_FAILED = "ENCODING_FAILED";
+    private static final long OVERLOAD_RETRY_INTERVAL_MILLIS = 10L;
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHistoryService passwordHistoryService;
+    private final Executor hashingExecutor;
+    private final ObjectReader requestReader;
+    private final ObjectWriter responseWriter;
+    private final int maxInFlight;
+    private final long overloadTimeoutNanos;
+
+    public PasswordBulkEncoderApi(
+            PasswordEncoder passwordEncoder,
+            PasswordHistoryService passwordHistoryService,
+            PasswordEncoderFactory passwordEncoderFactory,
+            ObjectMapper objectMapper,
+            PasswordEncoderProperties properties
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHistoryService = passwordHistoryService;
+        this.hashingExecutor = passwordEncoderFactory.hashingExecutor();
+        this.requestReader = objectMapper.readerFor(BulkPasswordEncodingRequest.class);
+        this.responseWriter = objectMapper.writerFor(BulkPasswordEncodingResponse.class);
+        this.maxInFlight = properties.bulk().maxInFlight();
+        this.overloadTimeoutNanos = properties.bulk().overloadTimeout().toNanos();
+    }
+
+    @PostMapping(
+            value = "/password/encode/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void encodeBulk(InputStream requestBody, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream output = response.getOutputStream();
+        BlockingQueue<BulkPasswordEncodingResponse> completed = new LinkedBlockingQueue<>();
+        int inFlight = 0;
+
+        try (MappingIterator<BulkPasswordEncodingRequest> records = requestReader.readValues(requestBody)) {
+            while (records.hasNextValue()) {
+                BulkPasswordEncodingRequest record = records.nextValue();
+                for (; inFlight >= maxInFlight; inFlight--) {
+                    write(output, completed.take());
+                }
+                inFlight -= submit(record, completed, output);
+                inFlight++;
+
+                // 이미 끝난 결과는 기다리지 않고 바로 내보냅니다.
+                boolean written = false;
+                for (BulkPasswordEncodingResponse result; (result = completed.poll()) != null; inFlight--) {
+                    write(output, result);
+                    written = true;
+                }
+                if (written) {
+                    output.flush();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("Stopped bulk encoding at a malformed record.", e);
+            for (; inFlight > 0; inFlight--) {
+                write(output, takeUninterruptibly(completed));
+            }
+            write(output, BulkPasswordEncodingResponse.failure(null, MALFORMED_RECORD));
+            output.flush();
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        for (; inFlight > 0; inFlight--) {
+            write(output, takeUninterruptibly(completed));
+        }
+        output.flush();
+    }
+
+    /**
+     * 결과(실패 포함)는 반드시 completed에 하나씩 들어갑니다. 평문은 해싱한 스레드가 지웁니다.
+     * 풀의 대기 큐가 가득 차 있으면 끝난 결과를 내보내며(다른 요청이 풀을 채웠다면 잠시 쉬며) {@code overloadTimeout}까지 다시 맡깁니다.
+     *
+     * @return 기다리는 동안 내보낸 결과 수
+     */
+    private int submit(
+            BulkPasswordEncodingRequest record,
+            BlockingQueue<BulkPasswordEncodingResponse> completed,
+            OutputStream output
+    ) throws IOException, InterruptedException {
+        if (record == null || record.id() == null || record.password() == null || !isValidUserId(record.userId())) {
+            wipe(record);
+            completed.add(BulkPasswordEncodingResponse.failure(record != null ? record.id() : null, INVALID_RECORD));
+            return 0;
+        }
+        UUID userId = record.userId() != null ? UUID.fromString(record.userId()) : null;
+
+        long deadline = System.nanoTime() + overloadTimeoutNanos;
+        int written = 0;
+        boolean submitted = false;
+        try {
+            while (!submitted) {
+                try {
+                    hashingExecutor.execute(() -> completed.add(encode(record, userId)));
+                    submitted = true;
+                } catch (PasswordEncoderOverloadException e) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        completed.add(BulkPasswordEncodingResponse.failure(record.id(), e.errorCode().name()));
+                        return written;
+                    }
+                    BulkPasswordEncodingResponse result = completed.poll(OVERLOAD_RETRY_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (result != null) {
+                        write(output, result);
+                        output.flush();
+                        written++;
+                    }
+                }
+            }
+        } finally {
+            if (!submitted) {
+                wipe(record);
+            }
+        }
+        return written;
+    }
+
+    private BulkPasswordEncodingResponse encode(BulkPasswordEncodingRequest record, UUID userId) {
+        char[] password = record.password();
+        try {
+            return BulkPasswordEncodingResponse.success(
+                    record.id(),
+                    passwordEncoder.encode(password),
+                    userId != null ? passwordHistoryService.historyHash(userId, password) : null
+            );
+        } catch (PasswordEncoderException e) {
+            return BulkPasswordEncodingResponse.failure(record.id(), e.errorCode().name());
+        } catch (RuntimeException e) {
+            log.warn("Failed to encode bulk record {}.", record.id(), e);
+            return BulkPasswordEncodingResponse.failure(record.id(), ENCODING_FAILED);
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    private void write(OutputStream output, BulkPasswordEncodingResponse result) throws IOException {
+        output.write(responseWriter.writeValueAsBytes(result));
+        output.write(LINE_SEPARATOR);
+    }
+
+    // 맡긴 작업은 끝나기만 하면 되므로(평문은 작업이 지움) 인터럽트는 기록만 해 두고 결과를 기다립니다.
+    private static BulkPasswordEncodingResponse takeUninterruptibly(
+            BlockingQueue<BulkPasswordEncodingResponse> completed
+    ) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return completed.take();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 이력 해시를 요청하지 않았으면(user_id 없음) 검사하지 않습니다.
+    private static boolean isValidUserId(String userId) {
+        if (userId == null) {
+            return true;
+        }
+        try {
+            UUID.fromString(userId);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void wipe(BulkPasswordEncodingRequest record) {
+        if (record != null && record.password() != null) {
+            Arrays.fill(record.password(), '\0');
+        }
+    }
+}
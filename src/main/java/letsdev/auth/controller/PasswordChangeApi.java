@@ -0,0 +1,39 @@
+package letsdev.auth.controller;
+
+import letsdev.auth.controller.dto.PasswordChangeRequest;
+import letsdev.auth.controller.dto.PasswordChangeResponse;
+import letsdev.auth.service.PasswordChangeService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+
+@RestController
+public class PasswordChangeApi {
+
+    private final PasswordChangeService passwordChangeService;
+
+    public PasswordChangeApi(PasswordChangeService passwordChangeService) {
+        this.passwordChangeService = passwordChangeService;
+    }
+
+    @PostMapping("/password/change")
+    public PasswordChangeResponse change(@RequestBody PasswordChangeRequest body) {
+        char[] currentPassword = body.currentPassword();
+        char[] newPassword = body.newPassword();
+        try {
+            var result = passwordChangeService.change(body.username(), currentPassword, newPassword);
+            return result == PasswordChangeService.Result.CHANGED
+                    ? new PasswordChangeResponse(true, null)
+                    : new PasswordChangeResponse(false, result.name());
+        } finally {
+            if (currentPassword != null) {
+                Arrays.fill(currentPassword, '\0');
+            }
+            if (newPassword != null) {
+                Arrays.fill(newPassword, '\0');
+            }
+        }
+    }
+}
@@ -2,48 +2,126 @@ package letsdev.auth.controller;
 
 import letsdev.auth.controller.dto.PasswordEncodingRequest;
 import letsdev.auth.controller.dto.PasswordEncodingResponse;
-import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
+import letsdev.auth.service.PasswordHistoryService;
+import letsdev.core.password.PasswordEncoderFactory;
 import letsdev.core.password.encoder.port.PasswordEncoder;
-import org.springframework.beans.factory.annotation.Qualifier;
+import letsdev.core.password.exception.PasswordEncoderEncryptionException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Base64;
-import java.util.Base64.Decoder;
-import java.util.Base64.Encoder;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future.State;
+import java.util.concurrent.FutureTask;
 
 @RestController
 public class PasswordEncoderApi {
-    private static final Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
-    private static final Decoder BASE64_DECODER = Base64.getDecoder();
-    private final String exampleCustomSalt = BASE64_ENCODER.encodeToString(new byte[] {
-            'S', 'a', 'l', 't', 'W', 'i', 't', 'h', '1', '6', 'l', 'e', 'n', 'g', 't', 'h'
-    });
 
     private final PasswordEncoder passwordEncoder;
-    private final CustomSaltingPasswordEncoder passwordHistoryEncoder;
+    private final PasswordHistoryService passwordHistoryService;
+    private final Executor hashingExecutor;
 
     public PasswordEncoderApi(
             PasswordEncoder passwordEncoder,
-            @Qualifier("passwordHistoryEncoder")
-            CustomSaltingPasswordEncoder passwordHistoryEncoder
+            PasswordHistoryService passwordHistoryService,
+            PasswordEncoderFactory passwordEncoderFactory
     ) {
         this.passwordEncoder = passwordEncoder;
-        this.passwordHistoryEncoder = passwordHistoryEncoder;
+        this.passwordHistoryService = passwordHistoryService;
+        this.hashingExecutor = passwordEncoderFactory.hashingExecutor();
     }
 
+    /**
+     * 비밀번호 해시와 이력 해시를 팩토리의 해싱 전용 스레드 풀에서 동시에 계산합니다. (지연 시간: 두 해시의 합 → 둘 중 긴 쪽)
+     * <ul>
+     *     <li>이력 해시는 요청에 사용자 ID가 있을 때만, {@link PasswordHistoryService}와 같은 사용자별 솔트로 만듭니다.</li>
+     *     <li>풀의 대기 큐가 가득 차면 {@code PasswordEncoderOverloadException}(503)으로 응답합니다.</li>
+     *     <li>한쪽이 실패하거나 거절되면 다른 쪽을 취소합니다. 대기 중이면 시작하지 않고, 해싱 중이면 인터럽트합니다.</li>
+     *     <li>평문은 응답하기 전에 지웁니다. 취소된 작업이 아직 돌고 있어도 그 결과는 버립니다.</li>
+     * </ul>
+     */
     @PostMapping("/password/encode")
     public PasswordEncodingResponse encode(@RequestBody PasswordEncodingRequest body) {
-        String password = body.password();
-        byte[] customSalt = BASE64_DECODER.decode(exampleCustomSalt);
+        char[] password = body.password();
+        UUID userId = body.userId();
+        var encodedPassword = new HashingTask(() -> passwordEncoder.encode(password));
+        var historyPassword = userId != null
+                ? new HashingTask(() -> passwordHistoryService.historyHash(userId, password))
+                : HashingTask.skipped();
+        encodedPassword.sibling = historyPassword;
+        historyPassword.sibling = encodedPassword;
 
-        String encodedPassword = passwordEncoder.encode(password);
-        String historyPassword = passwordHistoryEncoder.encodeWithCustomSalt(password, customSalt);
+        try {
+            hashingExecutor.execute(encodedPassword);
+            if (!historyPassword.isDone()) {
+                hashingExecutor.execute(historyPassword);
+            }
+            return new PasswordEncodingResponse(
+                    await(encodedPassword),
+                    await(historyPassword)
+            );
+        } finally {
+            // 끝난 작업에는 아무 일도 하지 않습니다. (거절되거나 인터럽트된 경우의 나머지 작업만 취소)
+            encodedPassword.cancel(true);
+            historyPassword.cancel(true);
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    private static String await(HashingTask task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordEncoderEncryptionException("Interrupted while encoding password.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (CancellationException e) {
+            // 다른 해시가 실패해 취소됐으므로, 그 실패로 응답합니다.
+            if (task.sibling.state() == State.FAILED) {
+                throw unwrap(task.sibling.exceptionNow());
+            }
+            throw e;
+        }
+    }
+
+    // 예외 처리기(PasswordEncoderExceptionHandler)가 원래 예외로 응답하도록 그대로 던집니다.
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new PasswordEncoderEncryptionException("Failed to encode password.", cause);
+    }
+
+    // 성공하지 못하고 끝나면(실패, 취소) 함께 맡긴 다른 해시를 취소합니다.
+    private static final class HashingTask extends FutureTask<String> {
+        private volatile HashingTask sibling;
+
+        HashingTask(Callable<String> callable) {
+            super(callable);
+        }
+
+        // 계산하지 않는 해시. 결과는 null입니다.
+        static HashingTask skipped() {
+            var task = new HashingTask(() -> null);
+            task.run();
+            return task;
+        }
 
-        return new PasswordEncodingResponse(
-                encodedPassword,
-                historyPassword
-        );
+        @Override
+        protected void done() {
+            HashingTask other = sibling;
+            if (state() != State.SUCCESS && other != null) {
+                other.cancel(true);
+            }
+        }
     }
 }
@@ -0,0 +1,37 @@
+package letsdev.auth.controller;
+
+import letsdev.core.password.exception.PasswordEncoderException;
+import letsdev.core.password.exception.PasswordEncoderOverloadException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class PasswordEncoderExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(PasswordEncoderOverloadException.class)
+    public ResponseEntity<ProblemDetail> handleOverload(PasswordEncoderOverloadException exception) {
+        return ResponseEntity.status(exception.errorCode().defaultHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(toProblemDetail(exception));
+    }
+
+    @ExceptionHandler(PasswordEncoderException.class)
+    public ResponseEntity<ProblemDetail> handlePasswordEncoderException(PasswordEncoderException exception) {
+        return ResponseEntity.status(exception.errorCode().defaultHttpStatus())
+                .body(toProblemDetail(exception));
+    }
+
+    private ProblemDetail toProblemDetail(PasswordEncoderException exception) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(
+                exception.errorCode().defaultHttpStatus(),
+                exception.errorCode().defaultMessage()
+        );
+        problemDetail.setProperty("code", exception.errorCode().name());
+        return problemDetail;
+    }
+}
@@ -0,0 +1,36 @@
+package letsdev.auth.controller;
+
+import letsdev.auth.controller.dto.PasswordVerificationRequest;
+import letsdev.auth.controller.dto.PasswordVerificationResponse;
+import letsdev.auth.service.PasswordVerificationService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+
+@RestController
+public class PasswordVerificationApi {
+
+    private final PasswordVerificationService passwordVerificationService;
+
+    public PasswordVerificationApi(PasswordVerificationService passwordVerificationService) {
+        this.passwordVerificationService = passwordVerificationService;
+    }
+
+    @PostMapping("/password/verify")
+    public PasswordVerificationResponse verify(@RequestBody PasswordVerificationRequest body) {
+        char[] password = body.password();
+        if (password == null) {
+            return new PasswordVerificationResponse(false, null);
+        }
+
+        try {
+            return passwordVerificationService.verify(body.username(), password)
+                    .map(userId -> new PasswordVerificationResponse(true, userId))
+                    .orElseGet(() -> new PasswordVerificationResponse(false, null));
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package letsdev.auth.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * NDJSON 대량 인코딩의 한 줄
+ *
+ * @param id 클라이언트가 정한 식별자. 결과에 그대로 붙여 돌려줍니다.
+ * @param userId 이력 해시를 만들 사용자 ID(UUID). 없으면 이력 해시를 만들지 않습니다.
+ * @param password 문자열로 만들지 않도록 {@code char[]}로 받습니다. 인코딩이 끝나면 지웁니다.
+ */
+public record BulkPasswordEncodingRequest(
+        String id,
+        @JsonProperty("user_id")
+        String userId,
+        char[] password
+) {
+}
@@ -0,0 +1,25 @@
+package letsdev.auth.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * NDJSON 대량 인코딩 결과의 한 줄. 실패한 레코드는 해시 대신 {@code error}(에러 코드)를 담습니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkPasswordEncodingResponse(
+        String id,
+        @JsonProperty("encoded_password")
+        String encodedPassword,
+        @JsonProperty("history_password")
+        String historyPassword,
+        String error
+) {
+    public static BulkPasswordEncodingResponse success(String id, String encodedPassword, String historyPassword) {
+        return new BulkPasswordEncodingResponse(id, encodedPassword, historyPassword, null);
+    }
+
+    public static BulkPasswordEncodingResponse failure(String id, String error) {
+        return new BulkPasswordEncodingResponse(id, null, null, error);
+    }
+}
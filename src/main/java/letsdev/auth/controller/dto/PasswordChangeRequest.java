@@ -0,0 +1,16 @@
+package letsdev.auth.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * @param currentPassword 문자열로 만들지 않도록 {@code char[]}로 받습니다. 변경이 끝나면 지웁니다.
+ * @param newPassword 문자열로 만들지 않도록 {@code char[]}로 받습니다. 변경이 끝나면 지웁니다.
+ */
+public record PasswordChangeRequest(
+        String username,
+        @JsonProperty("current_password")
+        char[] currentPassword,
+        @JsonProperty("new_password")
+        char[] newPassword
+) {
+}
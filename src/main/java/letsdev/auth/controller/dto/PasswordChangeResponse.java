@@ -0,0 +1,13 @@
+package letsdev.auth.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @param error 바꾸지 않은 경우에만 담습니다. (INVALID_PASSWORD, INVALID_CREDENTIALS, REUSED_PASSWORD)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PasswordChangeResponse(
+        boolean changed,
+        String error
+) {
+}
@@ -1,6 +1,16 @@
 package letsdev.auth.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+/**
+ * @param userId 이력 해시를 만들 사용자 ID. 없으면 이력 해시를 만들지 않습니다.
+ * @param password 문자열로 만들지 않도록 {@code char[]}로 받습니다. 인코딩이 끝나면 지웁니다.
+ */
 public record PasswordEncodingRequest(
-        String password
+        @JsonProperty("user_id")
+        UUID userId,
+        char[] password
 ) {
 }
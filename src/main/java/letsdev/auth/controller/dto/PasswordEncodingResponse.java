@@ -1,7 +1,12 @@
 package letsdev.auth.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+/**
+ * 이력 해시는 요청에 사용자 ID가 있을 때만 담습니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PasswordEncodingResponse(
         @JsonProperty("encoded_password")
         String encodedPassword,
@@ -0,0 +1,10 @@
+package letsdev.auth.controller.dto;
+
+/**
+ * @param password 문자열로 만들지 않도록 {@code char[]}로 받습니다. 검증이 끝나면 지웁니다.
+ */
+public record PasswordVerificationRequest(
+        String username,
+        char[] password
+) {
+}
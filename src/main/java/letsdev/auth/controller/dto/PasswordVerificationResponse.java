@@ -0,0 +1,17 @@
+package letsdev.auth.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+/**
+ * @param userId 검증에 성공한 경우에만 담습니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PasswordVerificationResponse(
+        boolean verified,
+        @JsonProperty("user_id")
+        UUID userId
+) {
+}
@@ -0,0 +1,88 @@
+package letsdev.auth.service;
+
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 현재 비밀번호를 확인하고 새 비밀번호로 바꿉니다.
+ * <ul>
+ *     <li>현재 비밀번호는 로그인과 같은 경로({@link PasswordVerificationService})로 확인합니다.</li>
+ *     <li>새 비밀번호가 현재 비밀번호와 같거나 최근 이력({@link PasswordHistoryService})에 있으면 바꾸지 않습니다.
+ *     이력 해시는 한 번만 계산해 검사와 저장에 함께 씁니다.</li>
+ *     <li>해싱은 모두 트랜잭션 밖에서 끝내고, 비밀번호 갱신과 이력 저장만 한 트랜잭션으로 묶습니다.
+ *     (커넥션을 잡고 있는 시간은 해싱 시간과 무관합니다.)</li>
+ * </ul>
+ */
+@Service
+public class PasswordChangeService {
+
+    private static final String UPDATE_PASSWORD_SQL = """
+            UPDATE "user"
+            SET password = ?, updated_at = NOW()
+            WHERE id = ?
+            """;
+
+    private final PasswordVerificationService passwordVerificationService;
+    private final PasswordHistoryService passwordHistoryService;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PasswordChangeService(
+            PasswordVerificationService passwordVerificationService,
+            PasswordHistoryService passwordHistoryService,
+            PasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.passwordVerificationService = passwordVerificationService;
+        this.passwordHistoryService = passwordHistoryService;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 넘긴 배열은 호출한 쪽에서 지웁니다.
+     */
+    public Result change(String username, char[] currentPassword, char[] newPassword) {
+        if (newPassword == null || newPassword.length == 0) {
+            return Result.INVALID_PASSWORD;
+        }
+        Optional<UUID> verified = passwordVerificationService.verify(username, currentPassword);
+        if (verified.isEmpty()) {
+            return Result.INVALID_CREDENTIALS;
+        }
+        UUID userId = verified.get();
+        if (Arrays.equals(currentPassword, newPassword)) {
+            return Result.REUSED_PASSWORD;
+        }
+        String historyHash = passwordHistoryService.historyHash(userId, newPassword);
+        if (passwordHistoryService.isReusedHash(userId, historyHash)) {
+            return Result.REUSED_PASSWORD;
+        }
+
+        String encodedPassword = passwordEncoder.encode(newPassword);
+        Boolean changed = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(UPDATE_PASSWORD_SQL, encodedPassword, userId) == 0) {
+                return false; // 확인 후 사용자가 지워진 경우
+            }
+            passwordHistoryService.recordHash(userId, historyHash);
+            return true;
+        });
+        return Boolean.TRUE.equals(changed) ? Result.CHANGED : Result.INVALID_CREDENTIALS;
+    }
+
+    public enum Result {
+        CHANGED,
+        INVALID_PASSWORD,
+        INVALID_CREDENTIALS,
+        REUSED_PASSWORD
+    }
+}
@@ -0,0 +1,151 @@
+package letsdev.auth.service;
+
+import letsdev.auth.configuration.PasswordEncoderProperties;
+import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * 이전에 쓴 비밀번호인지 확인합니다.
+ * <ul>
+ *     <li>이력 해시는 사용자마다 고정된 솔트(사용자 ID의 16바이트)로 만들므로, 같은 비밀번호는 항상 같은 해시가 됩니다.
+ *     따라서 이력 N개에 대해 {@code matches}를 N번 호출하지 않고, 해시를 한 번 계산해 최근 {@code keep}개의 이력과 문자열로 비교합니다.
+ *     ((user_id, id) 인덱스로 사용자의 최근 이력만 읽습니다. 아직 지우지 않은 오래된 이력은 비교하지 않습니다.)</li>
+ *     <li>이력 인코더의 옵션(비용)을 바꾸면 해시 문자열도 바뀌므로, 이전 옵션으로 쌓인 이력과는 일치하지 않습니다.</li>
+ *     <li>사용자마다 최근 {@code keep}개만 남기고, 나머지는 주기적으로 {@code pruneBatchSize}개씩 나누어 지웁니다.</li>
+ *     <li>비밀번호 변경({@link PasswordChangeService})에서 새 비밀번호를 검사하고 기록합니다.</li>
+ * </ul>
+ */
+@Service
+public class PasswordHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHistoryService.class);
+
+    private static final String EXISTS_SQL = """
+            SELECT EXISTS (
+                SELECT 1
+                FROM (
+                    SELECT history_hash
+                    FROM user_password_history
+                    WHERE user_id = ?
+                    ORDER BY id DESC
+                    LIMIT ?
+                ) recent
+                WHERE history_hash = ?
+            )
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO user_password_history (user_id, history_hash)
+            VALUES (?, ?)
+            """;
+    private static final String PRUNE_SQL = """
+            DELETE FROM user_password_history
+            WHERE id IN (
+                SELECT id
+                FROM (
+                    SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY id DESC) AS recency
+                    FROM user_password_history
+                    WHERE user_id IN (
+                        SELECT user_id
+                        FROM user_password_history
+                        GROUP BY user_id
+                        HAVING COUNT(*) > ?
+                    )
+                ) ranked
+                WHERE recency > ?
+                LIMIT ?
+            )
+            """;
+
+    private final CustomSaltingPasswordEncoder passwordHistoryEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final int keep;
+    private final int pruneBatchSize;
+
+    public PasswordHistoryService(
+            @Qualifier("passwordHistoryEncoder")
+            CustomSaltingPasswordEncoder passwordHistoryEncoder,
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoderProperties properties
+    ) {
+        var history = properties.history();
+        this.passwordHistoryEncoder = passwordHistoryEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.keep = history.keep();
+        this.pruneBatchSize = history.pruneBatchSize();
+    }
+
+    /**
+     * @return 최근 {@code keep}개의 이력 중에 같은 비밀번호가 있으면 true
+     */
+    public boolean isReused(UUID userId, char[] rawPassword) {
+        return isReusedHash(userId, historyHash(userId, rawPassword));
+    }
+
+    /**
+     * {@link #historyHash}로 미리 계산한 해시로 확인합니다. 검사와 저장에 같은 해시를 쓰면 한 번만 해싱합니다.
+     */
+    public boolean isReusedHash(UUID userId, String historyHash) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, userId, keep, historyHash));
+    }
+
+    /**
+     * 비밀번호를 바꾼 후 호출합니다. 이력 해시를 계산해 저장합니다.
+     */
+    public void record(UUID userId, char[] rawPassword) {
+        recordHash(userId, historyHash(userId, rawPassword));
+    }
+
+    /**
+     * {@link #historyHash}로 미리 계산한 해시를 저장합니다. 해싱하지 않으므로 트랜잭션 안에서 호출해도 됩니다.
+     */
+    public void recordHash(UUID userId, String historyHash) {
+        jdbcTemplate.update(INSERT_SQL, userId, historyHash);
+    }
+
+    /**
+     * 사용자마다 최근 {@code keep}개를 넘는 이력을 지웁니다.
+     * 이력이 {@code keep}개를 넘는 사용자만 순위를 매기고, 한 문장에서 {@code pruneBatchSize}개까지만 지워 잠금을 짧게 유지하며, 지울 것이 없을 때까지 반복합니다.
+     *
+     * @return 지운 이력 수
+     */
+    @Scheduled(
+            initialDelayString = "${auth.password-encoder.history.prune-interval:1h}",
+            fixedDelayString = "${auth.password-encoder.history.prune-interval:1h}"
+    )
+    public int pruneExcessEntries() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PRUNE_SQL, keep, keep, pruneBatchSize);
+            total += deleted;
+        } while (deleted == pruneBatchSize);
+
+        if (total > 0) {
+            log.debug("Pruned {} password history entries.", total);
+        }
+        return total;
+    }
+
+    /**
+     * 사용자의 고정 솔트로 이력 해시를 계산합니다. 저장하지 않으므로, 이력을 다른 곳(대량 인코딩 등)에서 미리 만들 때 씁니다.
+     */
+    public String historyHash(UUID userId, char[] rawPassword) {
+        return passwordHistoryEncoder.encodeWithCustomSalt(rawPassword, userSalt(userId));
+    }
+
+    // 사용자 ID는 바뀌지 않고 사용자마다 다르므로, 그 16바이트를 고정 솔트로 씁니다. (이력 인코더의 솔트 길이: 16 Byte)
+    private static byte[] userSalt(UUID userId) {
+        return ByteBuffer.allocate(16)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,275 @@
+package letsdev.auth.service;
+
+import letsdev.auth.configuration.PasswordEncoderProperties;
+import letsdev.core.password.PasswordEncoderFactory;
+import letsdev.core.password.encoder.adapter.OnionEncodingUtil;
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.port.BatchPasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 인코더를 바꾼 후, 현재 설정보다 약한 해시를 평문 없이 새 인코더로 감쌉니다. ({@code {onion}}, {@link OnionEncodingUtil})
+ * 감싼 해시는 로그인할 때 {@link PasswordRehashService}가 평문으로 다시 해싱해 감싸지 않은 해시로 바꿉니다.
+ * <ul>
+ *     <li>{@code "user"}를 id 순서의 키셋 페이지({@code id > 마지막 id})로 {@code chunkSize}개씩 읽습니다.</li>
+ *     <li>한 청크는 팩토리의 fork-join 풀에서 병렬로 해싱하고, JDBC 배치로 저장합니다.
+ *     저장과 체크포인트 갱신은 한 트랜잭션이므로, 중단된 후에는 마지막으로 저장한 청크 다음부터 이어서 진행합니다.</li>
+ *     <li>그 사이 비밀번호가 바뀌었다면 덮어쓰지 않습니다. (기존 해시 비교 후 갱신)</li>
+ *     <li>감싼 해시가 {@code "user".password} 열({@value #MAX_ENCODED_PASSWORD_LENGTH}자)보다 길거나 안쪽 해시를 읽을 수 없으면
+ *     감싸지 않고 건너뛴 수({@code skipped})로 기록합니다. 한 행 때문에 배치 전체가 실패하지 않습니다.</li>
+ *     <li>청크를 해싱한 시간을 재서, 해싱 시간의 비율이 {@code cpuBudget}을 넘지 않도록 청크 사이에 쉽니다.</li>
+ * </ul>
+ */
+@Service
+public class PasswordOnionRehashJob implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordOnionRehashJob.class);
+
+    // V1_0_4의 "user".password 열 길이
+    static final int MAX_ENCODED_PASSWORD_LENGTH = 512;
+
+    private static final String SELECT_FIRST_CHUNK_SQL = """
+            SELECT id, password
+            FROM "user"
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String SELECT_NEXT_CHUNK_SQL = """
+            SELECT id, password
+            FROM "user"
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String UPDATE_PASSWORD_SQL = """
+            UPDATE "user"
+            SET password = ?, updated_at = NOW()
+            WHERE id = ? AND password = ?
+            """;
+    private static final String SELECT_CHECKPOINT_SQL = """
+            SELECT last_user_id, completed_at IS NOT NULL AS completed
+            FROM password_migration_checkpoint
+            WHERE job_name = ?
+            """;
+    private static final String INSERT_CHECKPOINT_SQL = """
+            INSERT INTO password_migration_checkpoint (job_name)
+            VALUES (?)
+            """;
+    private static final String UPDATE_CHECKPOINT_SQL = """
+            UPDATE password_migration_checkpoint
+            SET last_user_id = ?, processed = processed + ?, wrapped = wrapped + ?, skipped = skipped + ?, updated_at = NOW()
+            WHERE job_name = ?
+            """;
+    private static final String COMPLETE_CHECKPOINT_SQL = """
+            UPDATE password_migration_checkpoint
+            SET completed_at = NOW(), updated_at = NOW()
+            WHERE job_name = ?
+            """;
+
+    private final PasswordEncoderFactory passwordEncoderFactory;
+    private final ReloadablePasswordEncoder reloadablePasswordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoderProperties.Migration migration;
+    private volatile boolean stopping;
+
+    public PasswordOnionRehashJob(
+            PasswordEncoderFactory passwordEncoderFactory,
+            ReloadablePasswordEncoder reloadablePasswordEncoder,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordEncoderProperties properties
+    ) {
+        var migration = properties.migration();
+        if (migration.chunkSize() <= 0) {
+            throw new IllegalArgumentException("chunkSize는 양수여야 합니다.");
+        }
+        if (!(0 < migration.cpuBudget() && migration.cpuBudget() <= 1)) {
+            throw new IllegalArgumentException("cpuBudget은 0보다 크고 1 이하여야 합니다.");
+        }
+        this.passwordEncoderFactory = passwordEncoderFactory;
+        this.reloadablePasswordEncoder = reloadablePasswordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.migration = migration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startIfEnabled() {
+        if (!migration.enabled()) {
+            return;
+        }
+        Thread.ofPlatform()
+                .name("password-onion-rehash")
+                .daemon(true)
+                .priority(Thread.MIN_PRIORITY)
+                .start(() -> {
+                    try {
+                        run();
+                    } catch (RuntimeException e) {
+                        log.error("Password onion rehash job '{}' failed. It resumes from the checkpoint on the next run.",
+                                migration.jobName(), e);
+                    }
+                });
+    }
+
+    /**
+     * 체크포인트부터 끝까지(또는 {@link #close()}까지) 진행합니다.
+     *
+     * @return 이번 실행에서 감싼 사용자 수
+     */
+    public long run() {
+        String jobName = migration.jobName();
+        Checkpoint checkpoint = loadOrCreateCheckpoint(jobName);
+        if (checkpoint.completed()) {
+            log.info("Password onion rehash job '{}' has already completed.", jobName);
+            return 0;
+        }
+
+        PasswordEncoderOption option = reloadablePasswordEncoder.currentOption();
+        BatchPasswordEncoder batchEncoder = passwordEncoderFactory.createBatchEncoder(option);
+        log.info("Password onion rehash job '{}' started after user {} with {}.", jobName, checkpoint.lastUserId(), option);
+
+        UUID lastUserId = checkpoint.lastUserId();
+        long wrappedTotal = 0;
+        while (!stopping) {
+            List<UserPassword> chunk = fetchChunk(lastUserId);
+            if (chunk.isEmpty()) {
+                jdbcTemplate.update(COMPLETE_CHECKPOINT_SQL, jobName);
+                log.info("Password onion rehash job '{}' completed. Wrapped {} passwords in this run.", jobName, wrappedTotal);
+                break;
+            }
+            lastUserId = chunk.getLast().id();
+
+            List<UserPassword> targets = chunk.stream()
+                    .filter(this::needsWrapping)
+                    .toList();
+            long hashingStartedAt = System.nanoTime();
+            List<Object[]> updates = wrapAll(targets, batchEncoder);
+            long hashingNanos = System.nanoTime() - hashingStartedAt;
+
+            int skipped = targets.size() - updates.size();
+            int wrapped = saveChunk(jobName, lastUserId, chunk.size(), skipped, updates);
+            wrappedTotal += wrapped;
+            throttle(hashingNanos);
+        }
+        return wrappedTotal;
+    }
+
+    @Override
+    public void close() {
+        stopping = true;
+    }
+
+    // 이미 감쌌거나 현재 설정으로 만든 해시는 건너뜁니다.
+    private boolean needsWrapping(UserPassword userPassword) {
+        String encodedPassword = userPassword.password();
+        return encodedPassword != null
+                && !OnionEncodingUtil.isOnion(encodedPassword)
+                && reloadablePasswordEncoder.needsUpgrade(encodedPassword);
+    }
+
+    private List<Object[]> wrapAll(List<UserPassword> targets, BatchPasswordEncoder batchEncoder) {
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+        List<String> outerEncodedPasswords = batchEncoder.encodeAll(
+                targets.stream().map(target -> OnionEncodingUtil.outerInput(target.password())).toList()
+        );
+
+        List<Object[]> updates = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            UserPassword target = targets.get(i);
+            String onionEncodedPassword;
+            try {
+                onionEncodedPassword = OnionEncodingUtil.wrap(target.password(), outerEncodedPasswords.get(i));
+            } catch (PasswordEncoderException e) {
+                log.warn("Skipped user {}: the stored password is not a supported hash.", target.id());
+                continue;
+            }
+            if (onionEncodedPassword.length() > MAX_ENCODED_PASSWORD_LENGTH) {
+                log.warn("Skipped user {}: the wrapped password ({} chars) does not fit the password column ({} chars).",
+                        target.id(), onionEncodedPassword.length(), MAX_ENCODED_PASSWORD_LENGTH);
+                continue;
+            }
+            updates.add(new Object[] {onionEncodedPassword, target.id(), target.password()});
+        }
+        return updates;
+    }
+
+    private int saveChunk(String jobName, UUID lastUserId, int processed, int skipped, List<Object[]> updates) {
+        Integer wrapped = transactionTemplate.execute(status -> {
+            int updated = 0;
+            if (!updates.isEmpty()) {
+                for (int count : jdbcTemplate.batchUpdate(UPDATE_PASSWORD_SQL, updates)) {
+                    if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                        updated++;
+                    }
+                }
+            }
+            jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, lastUserId, processed, updated, skipped, jobName);
+            return updated;
+        });
+        return wrapped != null ? wrapped : 0;
+    }
+
+    // 해싱에 쓴 시간 : 쉬는 시간 = cpuBudget : (1 - cpuBudget)
+    private void throttle(long hashingNanos) {
+        long pauseNanos = (long) (hashingNanos * (1 - migration.cpuBudget()) / migration.cpuBudget());
+        if (pauseNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopping = true;
+        }
+    }
+
+    private List<UserPassword> fetchChunk(UUID lastUserId) {
+        if (lastUserId == null) {
+            return jdbcTemplate.query(SELECT_FIRST_CHUNK_SQL, UserPassword.ROW_MAPPER, migration.chunkSize());
+        }
+        return jdbcTemplate.query(SELECT_NEXT_CHUNK_SQL, UserPassword.ROW_MAPPER, lastUserId, migration.chunkSize());
+    }
+
+    private Checkpoint loadOrCreateCheckpoint(String jobName) {
+        List<Checkpoint> checkpoints = jdbcTemplate.query(
+                SELECT_CHECKPOINT_SQL,
+                (resultSet, rowNumber) -> new Checkpoint(
+                        resultSet.getObject("last_user_id", UUID.class),
+                        resultSet.getBoolean("completed")
+                ),
+                jobName
+        );
+        if (!checkpoints.isEmpty()) {
+            return checkpoints.getFirst();
+        }
+        jdbcTemplate.update(INSERT_CHECKPOINT_SQL, jobName);
+        return new Checkpoint(null, false);
+    }
+
+    private record Checkpoint(UUID lastUserId, boolean completed) {
+    }
+
+    private record UserPassword(UUID id, String password) {
+        static final RowMapper<UserPassword> ROW_MAPPER = (resultSet, rowNumber) ->
+                new UserPassword(resultSet.getObject("id", UUID.class), resultSet.getString("password"));
+    }
+}
@@ -0,0 +1,168 @@
+package letsdev.auth.service;
+
+import letsdev.auth.configuration.PasswordEncoderProperties;
+import letsdev.core.password.concurrent.PasswordHashingExecutor;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인에 성공한 사용자의 약한 해시를 백그라운드에서 현재 설정으로 다시 해싱합니다.
+ * <ul>
+ *     <li>로그인 응답을 기다리게 하지 않도록, 요청 스레드는 큐에 넣기만 합니다. 큐가 가득 차면 버립니다.</li>
+ *     <li>평문은 {@code char[]}로 복사해 두고, 해싱 직후(또는 버릴 때) 0으로 지웁니다.</li>
+ *     <li>해싱은 우선순위가 낮은 전용 스레드에서, 저장은 JDBC 배치로 수행합니다.</li>
+ *     <li>그 사이 비밀번호가 바뀌었다면 덮어쓰지 않습니다. (기존 해시 비교 후 갱신)</li>
+ * </ul>
+ */
+@Service
+public class PasswordRehashService implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private static final String UPDATE_PASSWORD_SQL = """
+            UPDATE "user"
+            SET password = ?, updated_at = NOW()
+            WHERE id = ? AND password = ?
+            """;
+
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<RehashTask> pendingTasks;
+    private final PasswordHashingExecutor rehashExecutor;
+    private final AtomicInteger activeDrainers = new AtomicInteger();
+    private final int threads;
+    private final int batchSize;
+
+    public PasswordRehashService(
+            PasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoderProperties properties
+    ) {
+        var rehash = properties.rehash();
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pendingTasks = new ArrayBlockingQueue<>(rehash.queueCapacity());
+        this.threads = rehash.threads();
+        this.batchSize = rehash.batchSize();
+        this.rehashExecutor = new PasswordHashingExecutor(threads, threads, "password-rehash-", Thread.MIN_PRIORITY);
+    }
+
+    /**
+     * 검증에 성공한 직후 호출합니다. 해시가 현재 설정보다 약하면 다시 해싱하도록 큐에 넣습니다.
+     *
+     * @return 큐에 넣었으면 true
+     */
+    public boolean rehashIfNeeded(UUID userId, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.needsUpgrade(encodedPassword)) {
+            return false;
+        }
+        return enqueue(new RehashTask(userId, rawPassword.toCharArray(), encodedPassword));
+    }
+
+    /**
+     * {@code rawPassword}는 복사해 두므로, 호출한 쪽은 반환 직후 지워도 됩니다.
+     *
+     * @return 큐에 넣었으면 true
+     */
+    public boolean rehashIfNeeded(UUID userId, char[] rawPassword, String encodedPassword) {
+        if (!passwordEncoder.needsUpgrade(encodedPassword)) {
+            return false;
+        }
+        return enqueue(new RehashTask(userId, rawPassword.clone(), encodedPassword));
+    }
+
+    public int pendingCount() {
+        return pendingTasks.size();
+    }
+
+    @Override
+    public void close() {
+        rehashExecutor.close();
+        RehashTask task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.wipe();
+        }
+    }
+
+    private boolean enqueue(RehashTask task) {
+        if (!pendingTasks.offer(task)) {
+            task.wipe();
+            log.debug("Rehash queue is full. Skipped user {}.", task.userId());
+            return false;
+        }
+        startDrainerIfIdle();
+        return true;
+    }
+
+    private void startDrainerIfIdle() {
+        if (activeDrainers.incrementAndGet() > threads) {
+            activeDrainers.decrementAndGet();
+            return;
+        }
+        try {
+            rehashExecutor.execute(this::drain);
+        } catch (RuntimeException e) {
+            activeDrainers.decrementAndGet();
+        }
+    }
+
+    private void drain() {
+        List<RehashTask> batch = new ArrayList<>(batchSize);
+        while (true) {
+            pendingTasks.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                rehashAndSave(batch);
+                batch.clear();
+                continue;
+            }
+            // 종료 직전에 들어온 작업을 놓치지 않도록, 자리를 반납한 후 큐를 한 번 더 확인합니다.
+            activeDrainers.decrementAndGet();
+            if (pendingTasks.isEmpty()) {
+                return;
+            }
+            if (activeDrainers.incrementAndGet() > threads) {
+                activeDrainers.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void rehashAndSave(List<RehashTask> batch) {
+        List<Object[]> updates = new ArrayList<>(batch.size());
+        for (RehashTask task : batch) {
+            try {
+                String newEncodedPassword = passwordEncoder.encode(task.rawPassword());
+                updates.add(new Object[] {newEncodedPassword, task.userId(), task.encodedPassword()});
+            } catch (RuntimeException e) {
+                log.warn("Failed to rehash password of user {}.", task.userId(), e);
+            } finally {
+                task.wipe();
+            }
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_PASSWORD_SQL, updates);
+        } catch (RuntimeException e) {
+            log.warn("Failed to save {} rehashed passwords.", updates.size(), e);
+        }
+    }
+
+    private record RehashTask(UUID userId, char[] rawPassword, String encodedPassword) {
+        void wipe() {
+            Arrays.fill(rawPassword, '\0');
+        }
+    }
+}
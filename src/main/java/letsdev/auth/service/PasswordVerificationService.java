@@ -0,0 +1,114 @@
+package letsdev.auth.service;
+
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 사용자 이름과 비밀번호를 검증합니다. (로그인)
+ * <ul>
+ *     <li>엔티티 전체가 아니라 (id, password)만 {@code uq_user_username} 인덱스로 조회합니다.</li>
+ *     <li>트랜잭션 밖에서 {@link JdbcTemplate}으로 조회하므로, 해싱을 시작하기 전에 커넥션을 풀에 돌려줍니다.
+ *     커넥션을 잡고 있는 시간은 조회 한 번이며, 해싱 시간과 무관합니다. (호출하는 쪽에서 트랜잭션을 열지 마십시오.)</li>
+ *     <li>해시는 기본({@code @Primary}) 인코더로 확인합니다. 검증 캐시를 거친 후 접두사로 인코더를 고르는 검증기가 확인하므로,
+ *     과거 설정이나 감싼({@code {onion}}) 해시도 검증됩니다.</li>
+ *     <li>없는 사용자도 더미 해시를 검증해, 응답 시간으로 사용자 존재 여부를 알 수 없게 합니다.
+ *     더미 해시는 현재 옵션으로 만들고, 옵션이 바뀌면({@link ReloadablePasswordEncoder#reload}) 다시 만듭니다.</li>
+ *     <li>성공하면 약한 해시를 백그라운드에서 다시 해싱하도록 요청합니다.</li>
+ * </ul>
+ */
+@Service
+public class PasswordVerificationService {
+
+    private static final String SELECT_CREDENTIAL_SQL = """
+            SELECT id, password
+            FROM "user"
+            WHERE username = ?
+            """;
+    private static final String DUMMY_PASSWORD = "dummy-password-for-unknown-user";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ReloadablePasswordEncoder reloadablePasswordEncoder;
+    private final PasswordRehashService passwordRehashService;
+    private volatile DummyHash dummyHash;
+
+    public PasswordVerificationService(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            ReloadablePasswordEncoder reloadablePasswordEncoder,
+            PasswordRehashService passwordRehashService
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.reloadablePasswordEncoder = reloadablePasswordEncoder;
+        this.passwordRehashService = passwordRehashService;
+        this.dummyHash = createDummyHash();
+    }
+
+    /**
+     * @return 일치하면 사용자 ID
+     */
+    public Optional<UUID> verify(String username, char[] rawPassword) {
+        if (rawPassword == null) {
+            return Optional.empty();
+        }
+        Optional<Credential> credential = findCredential(username);
+        if (credential.isEmpty()) {
+            passwordEncoder.matches(rawPassword, currentDummyHash().encodedPassword());
+            return Optional.empty();
+        }
+
+        // 여기부터는 커넥션을 잡고 있지 않습니다.
+        Credential found = credential.get();
+        if (!passwordEncoder.matches(rawPassword, found.encodedPassword())) {
+            return Optional.empty();
+        }
+        passwordRehashService.rehashIfNeeded(found.userId(), rawPassword, found.encodedPassword());
+        return Optional.of(found.userId());
+    }
+
+    // 옵션이 바뀐 후 처음 들어온 요청이 다시 만듭니다. 동시에 여러 요청이 만들어도 결과는 같은 옵션의 해시입니다.
+    private DummyHash currentDummyHash() {
+        DummyHash current = dummyHash;
+        if (!current.option().equals(reloadablePasswordEncoder.currentOption())) {
+            current = createDummyHash();
+            dummyHash = current;
+        }
+        return current;
+    }
+
+    private DummyHash createDummyHash() {
+        PasswordEncoderOption option = reloadablePasswordEncoder.currentOption();
+        return new DummyHash(option, reloadablePasswordEncoder.encode(DUMMY_PASSWORD));
+    }
+
+    private Optional<Credential> findCredential(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        List<Credential> credentials = jdbcTemplate.query(
+                SELECT_CREDENTIAL_SQL,
+                (resultSet, rowNumber) -> new Credential(
+                        resultSet.getObject("id", UUID.class),
+                        resultSet.getString("password")
+                ),
+                username
+        );
+        return credentials.stream()
+                .filter(found -> found.encodedPassword() != null)
+                .findFirst();
+    }
+
+    private record Credential(UUID userId, String encodedPassword) {
+    }
+
+    private record DummyHash(PasswordEncoderOption option, String encodedPassword) {
+    }
+}
@@ -1,116 +1,425 @@
 package letsdev.core.password;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.MeterRegistry;
 import letsdev.core.password.encoder.GeneralPasswordEncoderType;
 import letsdev.core.password.encoder.GeneralPasswordEncoderType.Argon2Variant;
+import letsdev.core.password.concurrent.PasswordHashingExecutor;
 import letsdev.core.password.encoder.adapter.Argon2DPasswordEncoderAdapter;
 import letsdev.core.password.encoder.adapter.Argon2IdPasswordEncoderAdapter;
+import letsdev.core.password.encoder.adapter.AsyncPasswordEncoderAdapter;
 import letsdev.core.password.encoder.adapter.BCryptPasswordEncoderAdapter;
+import letsdev.core.password.encoder.adapter.DelegatingPasswordVerifier;
+import letsdev.core.password.encoder.adapter.ForkJoinBatchPasswordEncoderAdapter;
+import letsdev.core.password.encoder.adapter.MeteredPasswordEncoder;
+import letsdev.core.password.encoder.adapter.Pbkdf2PasswordEncoderAdapter;
+import letsdev.core.password.encoder.adapter.ScryptPasswordEncoderAdapter;
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder;
+import letsdev.core.password.encoder.adapter.VerificationCachingPasswordEncoder;
+import letsdev.core.password.encoder.engine.Argon2Engine;
+import letsdev.core.password.encoder.engine.Argon2MemoryBudget;
+import letsdev.core.password.encoder.engine.Argon2MemoryPool;
+import letsdev.core.password.encoder.engine.PooledMemoryHolder;
+import letsdev.core.password.encoder.engine.SaltSource;
+import letsdev.core.password.encoder.engine.ScryptEngine;
+import letsdev.core.password.encoder.engine.ScryptMemoryPool;
+import letsdev.core.password.encoder.option.Argon2Compression;
 import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption;
 import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
 import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
 import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.option.Pbkdf2PasswordEncoderOption;
+import letsdev.core.password.encoder.option.ScryptPasswordEncoderOption;
+import letsdev.core.password.encoder.port.AsyncCustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.AsyncPasswordEncoder;
+import letsdev.core.password.encoder.port.BatchPasswordEncoder;
 import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.NotCastedPasswordEncoder;
 import letsdev.core.password.encoder.port.PasswordEncoder;
 import letsdev.core.password.exception.PasswordEncoderGenerationException;
+import letsdev.core.password.metrics.PasswordEncoderMetrics;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
-public class PasswordEncoderFactory {
-    private final Cache<PasswordEncoderOption, PasswordEncoder> instanceCache;
+public class PasswordEncoderFactory implements AutoCloseable {
+    private static final int ARGON2_LANE_QUEUE_CAPACITY = 10_000;
+    private static final String WARM_UP_PASSWORD = "warm-up-password";
+    private static final float ARGON2_KEY_ALPHA = 0.95f;
+
+    private final LoadingCache<PasswordEncoderOption, PasswordEncoder> instanceCache;
+    private final ConcurrentMap<PasswordEncoderOption, PasswordEncoder> preloadedInstances = new ConcurrentHashMap<>();
+    private final int argon2MemoryPoolSize;
+    private final Argon2MemoryBudget argon2MemoryBudget;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final ForkJoinPool batchPool;
+    private final PasswordHashingExecutor argon2LaneExecutor;
+    private final SaltSource saltSource;
+    private final Argon2Compression argon2Compression;
+    private final PasswordEncoderMetrics metrics;
 
     public PasswordEncoderFactory() {
-        this.instanceCache = Caffeine.newBuilder()
+        this(new PasswordEncoderFactoryBuilder()
                 .expireAfterAccess(10, TimeUnit.MINUTES)
                 .maximumSize(100)
-                .build();
+        );
     }
 
-    private PasswordEncoderFactory(
-            long expirationAfterAccessDuration,
-            TimeUnit expirationAfterAccessTimeUnit,
-            long expirationAfterWriteDuration,
-            TimeUnit expirationAfterWriteTimeUnit,
-            long maximumSize,
-            long maximumWeight,
-            RemovalListener<PasswordEncoderOption, PasswordEncoder> removalListener
-    ) {
+    private PasswordEncoderFactory(PasswordEncoderFactoryBuilder builder) {
         var cacheBuilder = Caffeine.newBuilder();
-        if (expirationAfterAccessDuration != -1L) {
-            expirationAfterAccessTimeUnit = expirationAfterAccessTimeUnit != null
-                    ? expirationAfterAccessTimeUnit
+        if (builder.expireAfterAccessDuration != -1L) {
+            TimeUnit expirationAfterAccessTimeUnit = builder.expireAfterAccessTimeUnit != null
+                    ? builder.expireAfterAccessTimeUnit
                     : TimeUnit.NANOSECONDS;
-            cacheBuilder.expireAfterAccess(expirationAfterAccessDuration, expirationAfterAccessTimeUnit);
+            cacheBuilder.expireAfterAccess(builder.expireAfterAccessDuration, expirationAfterAccessTimeUnit);
         }
-        if (expirationAfterWriteDuration != -1L) {
-            expirationAfterWriteTimeUnit = expirationAfterWriteTimeUnit != null
-                    ? expirationAfterWriteTimeUnit
+        if (builder.expirationAfterWriteDuration != -1L) {
+            TimeUnit expirationAfterWriteTimeUnit = builder.expirationAfterWriteTimeUnit != null
+                    ? builder.expirationAfterWriteTimeUnit
                     : TimeUnit.NANOSECONDS;
-            cacheBuilder.expireAfterWrite(expirationAfterWriteDuration, expirationAfterWriteTimeUnit);
+            cacheBuilder.expireAfterWrite(builder.expirationAfterWriteDuration, expirationAfterWriteTimeUnit);
+        }
+        if (builder.maximumSize != -1L) {
+            cacheBuilder.maximumSize(builder.maximumSize);
         }
-        if (maximumSize != -1L) {
-            cacheBuilder.maximumSize(maximumSize);
+        if (builder.maximumWeight != -1L) {
+            cacheBuilder.maximumWeight(builder.maximumWeight);
         }
-        if (maximumWeight != -1L) {
-            cacheBuilder.maximumWeight(maximumWeight);
+        if (builder.refreshAfterWriteDuration != -1L) {
+            cacheBuilder.refreshAfterWrite(builder.refreshAfterWriteDuration, builder.refreshAfterWriteTimeUnit);
         }
-        if (removalListener != null) {
-            cacheBuilder.removalListener(removalListener);
+        cacheBuilder.removalListener(releasingPooledMemory(builder.removalListener));
+        cacheBuilder.recordStats();
+        this.instanceCache = cacheBuilder.build(new CacheLoader<>() {
+            @Override
+            public PasswordEncoder load(PasswordEncoderOption option) {
+                return createWithOption(option);
+            }
+
+            // 미리 적재한 인스턴스는 그대로 유지하고, 나머지는 백그라운드에서 새로 만듭니다.
+            @Override
+            public PasswordEncoder reload(PasswordEncoderOption option, PasswordEncoder oldValue) {
+                PasswordEncoder preloaded = preloadedInstances.get(option);
+                return preloaded != null ? preloaded : createWithOption(option);
+            }
+        });
+        this.argon2MemoryPoolSize = builder.argon2MemoryPoolSize;
+        this.argon2MemoryBudget = builder.argon2MemoryBudget;
+        this.hashingExecutor = new PasswordHashingExecutor(builder.hashingThreads, builder.hashingQueueCapacity);
+        this.batchPool = new ForkJoinPool(builder.batchParallelism);
+        this.argon2LaneExecutor = builder.argon2LaneThreads > 0
+                ? new PasswordHashingExecutor(
+                        builder.argon2LaneThreads,
+                        ARGON2_LANE_QUEUE_CAPACITY,
+                        "argon2-lane-",
+                        Thread.NORM_PRIORITY
+                )
+                : null;
+        this.saltSource = new SaltSource(builder.saltPoolCapacity);
+        this.argon2Compression = builder.argon2Compression;
+        this.metrics = builder.meterRegistry != null ? new PasswordEncoderMetrics(builder.meterRegistry) : null;
+        if (metrics != null) {
+            metrics.monitorInstanceCache(instanceCache);
+            metrics.monitorHashingExecutor(hashingExecutor, "hashing");
+            metrics.monitorArgon2MemoryBudget(argon2MemoryBudget);
         }
-        this.instanceCache = cacheBuilder.build();
     }
 
     public static PasswordEncoderFactoryBuilder builder() {
         return new PasswordEncoderFactoryBuilder();
     }
 
+    /**
+     * 같은 해시를 만드는 옵션에는 같은 인스턴스를 반환합니다.
+     * (Argon2 옵션은 실제 메모리 비용으로 비교하므로, {@code gain}이 다른 옵션과 해시에서 복원한 옵션도 같은 인스턴스를 가리킵니다.)
+     */
     public PasswordEncoder create(PasswordEncoderOption option) {
-        return instanceCache.get(option, this::createWithOption);
+        PasswordEncoderOption key = cacheKey(option);
+        PasswordEncoder preloaded = preloadedInstances.get(key);
+        return preloaded != null ? preloaded : instanceCache.get(key);
+    }
+
+    /**
+     * 인코더를 백그라운드에서 미리 만들고 한 번 해싱해서(메모리 풀 등) 준비해 둡니다.
+     * <ul>
+     *     <li>미리 적재한 인코더는 캐시 만료, 크기 제한과 관계없이 {@link #unpin(PasswordEncoderOption)}하거나 팩토리를 닫을 때까지 유지됩니다.</li>
+     *     <li>이후 {@link #create(PasswordEncoderOption)}는 호출 스레드에서 생성 비용을 치르지 않습니다.</li>
+     * </ul>
+     *
+     * @return 모든 인코더가 준비되면 완료되는 Future
+     */
+    public CompletableFuture<Void> preload(Collection<? extends PasswordEncoderOption> options) {
+        List<CompletableFuture<Void>> futures = options.stream()
+                .map(option -> CompletableFuture.runAsync(() -> preload(option), batchPool))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * 미리 적재한 인코더를 일반 캐시 항목으로 되돌립니다. (기본 인코더의 옵션을 바꾼 후 이전 옵션 등)
+     * 캐시에 남아 있으면 만료, 크기 제한에 따라 제거되고, 이미 밀려났으면 보관 중인 메모리를 바로 놓아 줍니다.
+     *
+     * @return 미리 적재한 인코더였으면 true
+     */
+    public boolean unpin(PasswordEncoderOption option) {
+        PasswordEncoderOption key = cacheKey(option);
+        PasswordEncoder unpinned = preloadedInstances.remove(key);
+        if (unpinned == null) {
+            return false;
+        }
+        if (instanceCache.getIfPresent(key) != unpinned) {
+            release(unpinned);
+        }
+        return true;
+    }
+
+    /**
+     * 팩토리가 만든 모든 Argon2 인코더가 공유하는 메모리 예산
+     */
+    public Argon2MemoryBudget argon2MemoryBudget() {
+        return argon2MemoryBudget;
     }
 
     public CustomSaltingPasswordEncoder createCustomSaltingEncoder(PasswordEncoderOption option) {
         // NOTE 지금은 모든 어댑터가 PasswordEncoder, CustomSaltingPasswordEncoder를 동시에 구현하기 때문에 가능한 코드.
-        PasswordEncoder passwordEncoder = instanceCache.get(option, this::createWithOption);
+        PasswordEncoder passwordEncoder = create(option);
         if (passwordEncoder instanceof CustomSaltingPasswordEncoder customSaltingPasswordEncoder) {
             return customSaltingPasswordEncoder;
         }
         throw new PasswordEncoderGenerationException("Not supported: CustomSaltingPasswordEncoder");
     }
 
+    /**
+     * 저장된 해시의 접두사({@code {bcrypt}}, {@code {argon2}}, {@code {pbkdf2}}, {@code {scrypt}})와 내장된 파라미터로 인코더를 골라 검증하는 인코더를 생성합니다.
+     * 인코더는 복원한 옵션을 키로 {@link #create(PasswordEncoderOption)}의 캐시에서 가져옵니다.
+     * 복원한 Argon2 옵션의 압축 함수 구현은 {@link PasswordEncoderFactoryBuilder#argon2Compression(Argon2Compression)}을 따릅니다.
+     */
+    public NotCastedPasswordEncoder createDelegatingVerifier() {
+        return new DelegatingPasswordVerifier(this::create, argon2Compression);
+    }
+
+    /**
+     * 해싱을 팩토리의 전용 스레드 풀에서 수행하는 비동기 인코더를 생성합니다.
+     * 내부에서는 {@link #create(PasswordEncoderOption)}와 같은 캐싱된 인스턴스를 사용합니다.
+     */
+    public AsyncPasswordEncoder createAsync(PasswordEncoderOption option) {
+        return new AsyncPasswordEncoderAdapter(create(option), hashingExecutor);
+    }
+
+    public AsyncCustomSaltingPasswordEncoder createAsyncCustomSaltingEncoder(PasswordEncoderOption option) {
+        return new AsyncPasswordEncoderAdapter(createCustomSaltingEncoder(option), hashingExecutor);
+    }
+
+    /**
+     * 대량의 비밀번호를 팩토리의 fork-join 풀에서 병렬로 처리하는 인코더를 생성합니다.
+     * 내부에서는 {@link #create(PasswordEncoderOption)}와 같은 캐싱된 인스턴스를 사용합니다.
+     */
+    public BatchPasswordEncoder createBatchEncoder(PasswordEncoderOption option) {
+        return new ForkJoinBatchPasswordEncoderAdapter(create(option), batchPool);
+    }
+
+    /**
+     * 일치한 검증 결과를 짧은 시간 동안 캐싱하는 인코더를 생성합니다. (로그인 재시도 대응)
+     * 내부에서는 {@link #create(PasswordEncoderOption)}와 같은 캐싱된 인스턴스를 사용합니다.
+     *
+     * @param maximumSize 보관할 검증 결과의 최대 개수
+     * @param timeToLive 검증 결과를 보관하는 시간 (쓰기 기준)
+     */
+    public VerificationCachingPasswordEncoder createVerificationCachingEncoder(
+            PasswordEncoderOption option,
+            long maximumSize,
+            long timeToLive,
+            TimeUnit timeToLiveUnit
+    ) {
+        return createVerificationCachingEncoder(create(option), maximumSize, timeToLive, timeToLiveUnit);
+    }
+
+    /**
+     * 주어진 인코더(예: {@link ReloadablePasswordEncoder})를 검증 결과 캐시로 감쌉니다.
+     */
+    public VerificationCachingPasswordEncoder createVerificationCachingEncoder(
+            NotCastedPasswordEncoder passwordEncoder,
+            long maximumSize,
+            long timeToLive,
+            TimeUnit timeToLiveUnit
+    ) {
+        var encoder = new VerificationCachingPasswordEncoder(passwordEncoder, maximumSize, timeToLive, timeToLiveUnit);
+        if (metrics != null) {
+            metrics.monitorVerificationCache(encoder, "default");
+        }
+        return encoder;
+    }
+
+    /**
+     * 새 해시의 옵션을 재시작 없이 바꿀 수 있는 인코더를 생성합니다.
+     * 인코더는 이 팩토리의 캐시에서 가져오고, 검증은 {@link #createDelegatingVerifier()}가 맡습니다.
+     */
+    public ReloadablePasswordEncoder createReloadable(PasswordEncoderOption initialOption) {
+        return new ReloadablePasswordEncoder(initialOption, this::create, createDelegatingVerifier());
+    }
+
+    /**
+     * 비동기 인코더가 공유하는 해싱 전용 스레드 풀 (대기 큐 깊이 등)
+     */
+    public PasswordHashingExecutor hashingExecutor() {
+        return hashingExecutor;
+    }
+
+    @Override
+    public void close() {
+        hashingExecutor.close();
+        batchPool.shutdown();
+        if (argon2LaneExecutor != null) {
+            argon2LaneExecutor.close();
+        }
+        saltSource.close();
+        instanceCache.invalidateAll();
+        preloadedInstances.values().forEach(this::release);
+        preloadedInstances.clear();
+    }
+
+    private void preload(PasswordEncoderOption option) {
+        PasswordEncoder passwordEncoder = preloadedInstances.computeIfAbsent(cacheKey(option), instanceCache::get);
+        passwordEncoder.encode(WARM_UP_PASSWORD);
+    }
+
+    // Argon2 옵션의 gain, alpha, memoryInput은 memory를 정하는 데만 쓰이므로, 실제 memory만 남긴 옵션을 키로 씁니다.
+    // (해시에는 실제 memory만 저장되므로, 해시에서 복원한 옵션은 gain이 1입니다.)
+    private static PasswordEncoderOption cacheKey(PasswordEncoderOption option) {
+        return switch (option) {
+            case Argon2idPasswordEncoderOption argon2 -> new Argon2idPasswordEncoderOption(
+                    argon2.saltLength(),
+                    argon2.hashLength(),
+                    argon2.parallelism(),
+                    argon2.memory(),
+                    argon2.iterations(),
+                    ARGON2_KEY_ALPHA,
+                    1f,
+                    argon2.memory(),
+                    argon2.compression()
+            );
+            case Argon2dPasswordEncoderOption argon2 -> new Argon2dPasswordEncoderOption(
+                    argon2.saltLength(),
+                    argon2.hashLength(),
+                    argon2.parallelism(),
+                    argon2.memory(),
+                    argon2.iterations(),
+                    ARGON2_KEY_ALPHA,
+                    1f,
+                    argon2.memory(),
+                    argon2.compression()
+            );
+            case null, default -> option;
+        };
+    }
+
     private PasswordEncoder createWithOption(PasswordEncoderOption option) {
+        PasswordEncoder passwordEncoder = createAdapter(option);
+        return metrics != null
+                ? new MeteredPasswordEncoder(passwordEncoder, metrics.operationMeters(option))
+                : passwordEncoder;
+    }
+
+    private PasswordEncoder createAdapter(PasswordEncoderOption option) {
         Objects.requireNonNull(option);
         Objects.requireNonNull(option.encoderType());
 
         return switch (option.encoderType()) {
-//            case GeneralPasswordEncoderType.PBKDF2 ->
-//                    new Pbkdf2PasswordEncoderAdapter(option.as(BcryptPasswordEncoderOption.class));
+            case GeneralPasswordEncoderType.PBKDF2 ->
+                    new Pbkdf2PasswordEncoderAdapter(option.as(Pbkdf2PasswordEncoderOption.class), saltSource);
             case GeneralPasswordEncoderType.BCRYPT ->
-                    new BCryptPasswordEncoderAdapter(option.as(BcryptPasswordEncoderOption.class));
-//            case GeneralPasswordEncoderType.SCRYPT ->
-//                    new SCryptPasswordEncoderAdapter(option.as(ScryptPasswordEncoderOption.class));
+                    new BCryptPasswordEncoderAdapter(option.as(BcryptPasswordEncoderOption.class), saltSource);
+            case GeneralPasswordEncoderType.SCRYPT ->
+                    new ScryptPasswordEncoderAdapter(
+                            option.as(ScryptPasswordEncoderOption.class),
+                            new ScryptEngine(new ScryptMemoryPool(argon2MemoryPoolSize), argon2MemoryBudget, argon2LaneExecutor),
+                            saltSource
+                    );
             case GeneralPasswordEncoderType.ARGON2, Argon2Variant.ARGON2ID ->
-                    new Argon2IdPasswordEncoderAdapter(option.as(Argon2idPasswordEncoderOption.class));
+                    new Argon2IdPasswordEncoderAdapter(
+                            option.as(Argon2idPasswordEncoderOption.class),
+                            createArgon2Engine(option.as(Argon2idPasswordEncoderOption.class).compression()),
+                            saltSource
+                    );
 //            case Argon2Variant.ARGON2I ->
 //                    new Argon2iPasswordEncoderAdapter(option.as(Argon2iPasswordEncoderOption.class));
             case Argon2Variant.ARGON2D ->
-                    new Argon2DPasswordEncoderAdapter(option.as(Argon2dPasswordEncoderOption.class));
+                    new Argon2DPasswordEncoderAdapter(
+                            option.as(Argon2dPasswordEncoderOption.class),
+                            createArgon2Engine(option.as(Argon2dPasswordEncoderOption.class).compression()),
+                            saltSource
+                    );
             default ->
                     throw new Error("Not Supported");
         };
     }
 
+    private Argon2Engine createArgon2Engine(Argon2Compression compression) {
+        return new Argon2Engine(
+                new Argon2MemoryPool(argon2MemoryPoolSize),
+                argon2MemoryBudget,
+                argon2LaneExecutor,
+                compression
+        );
+    }
+
+    // 캐시에서 제거된 인코더가 보관 중인 메모리(Argon2 블록 행렬 등)와 지표를 놓아 준 후, 사용자 리스너를 호출합니다.
+    // 미리 적재한 인코더는 계속 사용하므로 놓아 주지 않습니다.
+    private RemovalListener<PasswordEncoderOption, PasswordEncoder> releasingPooledMemory(
+            RemovalListener<PasswordEncoderOption, PasswordEncoder> removalListener
+    ) {
+        return (key, value, cause) -> {
+            if (key == null || preloadedInstances.get(key) != value) {
+                release(value);
+            }
+            if (removalListener != null) {
+                removalListener.onRemoval(key, value, cause);
+            }
+        };
+    }
+
+    private void release(PasswordEncoder passwordEncoder) {
+        releasePooledMemory(passwordEncoder);
+        if (metrics != null && passwordEncoder instanceof MeteredPasswordEncoder meteredPasswordEncoder) {
+            metrics.removeOperationMeters(meteredPasswordEncoder.meters());
+        }
+    }
+
+    private static void releasePooledMemory(PasswordEncoder passwordEncoder) {
+        if (passwordEncoder instanceof PooledMemoryHolder pooledMemoryHolder) {
+            pooledMemoryHolder.releasePooledMemory();
+        }
+    }
+
     public static class PasswordEncoderFactoryBuilder {
 
         private long expireAfterAccessDuration = -1L;
         private TimeUnit expireAfterAccessTimeUnit = null;
         private long expirationAfterWriteDuration = -1L;
         private TimeUnit expirationAfterWriteTimeUnit;
+        private long refreshAfterWriteDuration = -1L;
+        private TimeUnit refreshAfterWriteTimeUnit;
         private long maximumSize = -1L;
         private long maximumWeight = -1L;
         private RemovalListener<PasswordEncoderOption, PasswordEncoder> removalListener = null;
+        private int argon2MemoryPoolSize = Argon2MemoryPool.DEFAULT_MAX_POOLED_PER_SIZE;
+        private Argon2MemoryBudget argon2MemoryBudget = Argon2MemoryBudget.unlimited();
+        private int hashingThreads = PasswordHashingExecutor.DEFAULT_THREADS;
+        private int hashingQueueCapacity = PasswordHashingExecutor.DEFAULT_QUEUE_CAPACITY;
+        private int batchParallelism = Runtime.getRuntime().availableProcessors();
+        private int argon2LaneThreads = Runtime.getRuntime().availableProcessors();
+        private int saltPoolCapacity = SaltSource.DEFAULT_CAPACITY;
+        private Argon2Compression argon2Compression = Argon2Compression.SCALAR;
+        private MeterRegistry meterRegistry = null;
 
         public PasswordEncoderFactoryBuilder expireAfterAccess(long duration) {
             this.expireAfterAccessDuration = duration;
@@ -134,6 +443,15 @@ public class PasswordEncoderFactory {
             return this;
         }
 
+        /**
+         * 마지막 생성으로부터 지정한 시간이 지난 인코더를, 다음 조회 때 기존 인스턴스를 반환하면서 백그라운드에서 새로 만듭니다.
+         */
+        public PasswordEncoderFactoryBuilder refreshAfterWrite(long duration, TimeUnit timeUnit) {
+            this.refreshAfterWriteDuration = duration;
+            this.refreshAfterWriteTimeUnit = timeUnit;
+            return this;
+        }
+
         public PasswordEncoderFactoryBuilder maximumSize(long maximumSize) {
             this.maximumSize = maximumSize;
             return this;
@@ -151,16 +469,91 @@ public class PasswordEncoderFactory {
             return this;
         }
 
+        /**
+         * @param argon2MemoryPoolSize 인코더 하나가 메모리 크기별로 보관하는 Argon2 블록 행렬(scrypt는 V 배열)의 최대 개수. 0이면 풀링하지 않습니다. 기본값: 2
+         *                             (보관 중인 메모리는 {@link #argon2MemoryBudget(long, long, TimeUnit)}에 잡히지 않습니다.)
+         */
+        public PasswordEncoderFactoryBuilder argon2MemoryPoolSize(int argon2MemoryPoolSize) {
+            this.argon2MemoryPoolSize = argon2MemoryPoolSize;
+            return this;
+        }
+
+        /**
+         * 동시에 사용 중인 Argon2 블록 행렬과 scrypt V 배열의 총량을 제한합니다. (예: 2 GiB → 2 * 1024 * 1024 KiB)
+         *
+         * @param maxInFlightKiB 동시에 점유할 수 있는 메모리 총량 (단위: KiB, Argon2 옵션의 memory와 같은 단위)
+         * @param acquireTimeout 예산을 기다리는 최대 시간. 초과하면 PasswordEncoderOverloadException(503)을 던집니다.
+         */
+        public PasswordEncoderFactoryBuilder argon2MemoryBudget(
+                long maxInFlightKiB,
+                long acquireTimeout,
+                TimeUnit acquireTimeoutUnit
+        ) {
+            this.argon2MemoryBudget = new Argon2MemoryBudget(maxInFlightKiB, acquireTimeout, acquireTimeoutUnit);
+            return this;
+        }
+
+        /**
+         * 비동기 인코더가 해싱을 수행하는 전용 플랫폼 스레드 풀의 크기를 지정합니다.
+         *
+         * @param hashingThreads 스레드 수. 기본값: 가용 프로세서 수
+         * @param hashingQueueCapacity 대기 큐 크기. 가득 차면 PasswordEncoderOverloadException(503)을 던집니다.
+         */
+        public PasswordEncoderFactoryBuilder hashingExecutor(int hashingThreads, int hashingQueueCapacity) {
+            this.hashingThreads = hashingThreads;
+            this.hashingQueueCapacity = hashingQueueCapacity;
+            return this;
+        }
+
+        /**
+         * @param batchParallelism 일괄 인코더(fork-join 풀)의 병렬성. 기본값: 가용 프로세서 수
+         */
+        public PasswordEncoderFactoryBuilder batchParallelism(int batchParallelism) {
+            this.batchParallelism = batchParallelism;
+            return this;
+        }
+
+        /**
+         * parallelism이 2 이상인 Argon2 해시의 레인들(scrypt는 p개의 블록)을 동시에 채우는 공유 스레드 풀의 크기를 지정합니다.
+         *
+         * @param argon2LaneThreads 스레드 수. 0이면 호출 스레드에서 레인을 순서대로 채웁니다. 기본값: 가용 프로세서 수
+         */
+        public PasswordEncoderFactoryBuilder argon2LaneThreads(int argon2LaneThreads) {
+            this.argon2LaneThreads = argon2LaneThreads;
+            return this;
+        }
+
+        /**
+         * 모든 어댑터가 공유하는 솔트 공급원이 백그라운드에서 미리 채워 둘 난수 블록의 수를 지정합니다.
+         *
+         * @param saltPoolCapacity 블록 수. 0이면 미리 채우지 않고 스레드별 DRBG로 바로 만듭니다. 기본값: 1024
+         */
+        public PasswordEncoderFactoryBuilder saltPoolCapacity(int saltPoolCapacity) {
+            this.saltPoolCapacity = saltPoolCapacity;
+            return this;
+        }
+
+        /**
+         * 해시에서 복원한 Argon2 옵션(검증용 인코더)에 쓸 압축 함수 구현을 지정합니다.
+         * 새 해시를 만드는 옵션과 같은 값을 주어야 같은 인스턴스를 공유합니다.
+         *
+         * @param argon2Compression 기본값: SCALAR
+         */
+        public PasswordEncoderFactoryBuilder argon2Compression(Argon2Compression argon2Compression) {
+            this.argon2Compression = argon2Compression;
+            return this;
+        }
+
+        /**
+         * 지정하면 해싱 시간, 진행 중인 해싱 수, 인스턴스 캐시 통계 등을 이 레지스트리에 등록합니다.
+         */
+        public PasswordEncoderFactoryBuilder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
         public PasswordEncoderFactory build() {
-            return new PasswordEncoderFactory(
-                    expireAfterAccessDuration,
-                    expireAfterAccessTimeUnit,
-                    expirationAfterWriteDuration,
-                    expirationAfterWriteTimeUnit,
-                    maximumSize,
-                    maximumWeight,
-                    removalListener
-            );
+            return new PasswordEncoderFactory(this);
         }
     }
 }
@@ -0,0 +1,38 @@
+package letsdev.core.password.calibration;
+
+import letsdev.core.password.encoder.option.Argon2Compression;
+import letsdev.core.password.encoder.option.Argon2PasswordEncoderOption;
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
+
+/**
+ * @param argon2Memory 메모리 비용 (단위: KiB)
+ * @param argon2Iterations 반복 횟수
+ * @param argon2Parallelism 병렬성
+ * @param bcryptStrength bcrypt cost factor
+ */
+public record CalibrationResult(
+        int argon2Memory,
+        int argon2Iterations,
+        int argon2Parallelism,
+        int bcryptStrength
+) {
+
+    public Argon2PasswordEncoderOption argon2idOption() {
+        return argon2idOption(Argon2Compression.SCALAR);
+    }
+
+    public Argon2PasswordEncoderOption argon2idOption(Argon2Compression compression) {
+        return Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                .memoryInput(argon2Memory)
+                .iterations(argon2Iterations)
+                .parallelism(argon2Parallelism)
+                .gain(1f)
+                .compression(compression)
+                .build();
+    }
+
+    public BcryptPasswordEncoderOption bcryptOption() {
+        return new BcryptPasswordEncoderOption(bcryptStrength);
+    }
+}
@@ -0,0 +1,82 @@
+package letsdev.core.password.calibration;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 보정 결과를 로컬 파일(properties)에 저장합니다.
+ * 호스트와 목표가 같을 때(fingerprint 일치)만 저장된 결과를 재사용합니다.
+ */
+public class CalibrationStore {
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String ARGON2_MEMORY = "argon2.memory";
+    private static final String ARGON2_ITERATIONS = "argon2.iterations";
+    private static final String ARGON2_PARALLELISM = "argon2.parallelism";
+    private static final String BCRYPT_STRENGTH = "bcrypt.strength";
+    private static final String CALIBRATED_AT = "calibratedAt";
+
+    private final Path file;
+
+    public CalibrationStore(Path file) {
+        this.file = file;
+    }
+
+    public Optional<CalibrationResult> load(String fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        if (!fingerprint.equals(properties.getProperty(FINGERPRINT))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new CalibrationResult(
+                    Integer.parseInt(properties.getProperty(ARGON2_MEMORY)),
+                    Integer.parseInt(properties.getProperty(ARGON2_ITERATIONS)),
+                    Integer.parseInt(properties.getProperty(ARGON2_PARALLELISM)),
+                    Integer.parseInt(properties.getProperty(BCRYPT_STRENGTH))
+            ));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void save(String fingerprint, CalibrationResult result) {
+        var properties = new Properties();
+        properties.setProperty(FINGERPRINT, fingerprint);
+        properties.setProperty(ARGON2_MEMORY, Integer.toString(result.argon2Memory()));
+        properties.setProperty(ARGON2_ITERATIONS, Integer.toString(result.argon2Iterations()));
+        properties.setProperty(ARGON2_PARALLELISM, Integer.toString(result.argon2Parallelism()));
+        properties.setProperty(BCRYPT_STRENGTH, Integer.toString(result.bcryptStrength()));
+        properties.setProperty(CALIBRATED_AT, Instant.now().toString());
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temporaryFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                properties.store(writer, "password encoder calibration");
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
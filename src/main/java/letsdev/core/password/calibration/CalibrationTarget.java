@@ -0,0 +1,21 @@
+package letsdev.core.password.calibration;
+
+import java.time.Duration;
+
+/**
+ * @param targetLatency 목표 지연 시간 (p50)
+ * @param concurrency 목표 지연 시간을 맞출 동시 해싱 수
+ */
+public record CalibrationTarget(
+        Duration targetLatency,
+        int concurrency
+) {
+    public CalibrationTarget {
+        if (targetLatency == null || targetLatency.isNegative() || targetLatency.isZero()) {
+            throw new IllegalArgumentException("targetLatency는 양수여야 합니다.");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency는 양수여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package letsdev.core.password.calibration;
+
+import letsdev.core.password.PasswordEncoderFactory;
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 현재 호스트에서 목표 지연 시간(p50, 동시 해싱 수 기준)에 맞는 해싱 비용을 찾습니다.
+ * <ul>
+ *     <li>Argon2: 반복 횟수 2에서 메모리를 먼저 올리고(최대 메모리까지), 그래도 목표보다 빠르면 반복 횟수를 올립니다.
+ *     메모리는 옵션의 권장 하한 m ≥ 93750 ÷ ((3 × t − 1) × α)보다 낮추지 않습니다. (t = 2이면 약 19.3 MiB)</li>
+ *     <li>BCrypt: strength가 1 오를 때마다 비용이 두 배가 되므로, 목표를 넘지 않는 가장 큰 strength를 고릅니다. (하한 10)</li>
+ * </ul>
+ */
+public class PasswordEncoderCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderCalibrator.class);
+
+    public static final int MIN_ARGON2_ITERATIONS = 2;
+    public static final int MIN_ARGON2_MEMORY_KIB = recommendedMinimumMemoryKiB(MIN_ARGON2_ITERATIONS);
+    public static final int MIN_BCRYPT_STRENGTH = 10;
+
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+    private static final int REFINEMENT_ROUNDS = 3;
+    private static final int SAMPLES_PER_THREAD = 2;
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private final int maxArgon2MemoryKiB;
+    private final int argon2Parallelism;
+
+    /**
+     * @param maxArgon2MemoryKiB Argon2 메모리 비용의 상한 (단위: KiB)
+     * @param argon2Parallelism Argon2 병렬성
+     */
+    public PasswordEncoderCalibrator(int maxArgon2MemoryKiB, int argon2Parallelism) {
+        this.maxArgon2MemoryKiB = Math.max(maxArgon2MemoryKiB, MIN_ARGON2_MEMORY_KIB);
+        this.argon2Parallelism = argon2Parallelism;
+    }
+
+    /**
+     * 저장된 결과가 있으면 재사용하고, 없으면 보정한 후 저장합니다.
+     */
+    public CalibrationResult calibrateOrLoad(CalibrationTarget target, CalibrationStore store) {
+        String fingerprint = fingerprint(target);
+        return store.load(fingerprint)
+                .map(result -> {
+                    log.info("Loaded password encoder calibration: {}", result);
+                    return result;
+                })
+                .orElseGet(() -> {
+                    CalibrationResult result = calibrate(target);
+                    store.save(fingerprint, result);
+                    return result;
+                });
+    }
+
+    public CalibrationResult calibrate(CalibrationTarget target) {
+        long targetNanos = target.targetLatency().toNanos();
+        // 측정용 인스턴스가 풀링한 메모리를 남기지 않도록, 후보 하나만 캐싱하는 전용 팩토리를 사용합니다.
+        try (
+                var factory = PasswordEncoderFactory.builder()
+                        .maximumSize(1)
+                        .argon2MemoryPoolSize(target.concurrency())
+                        .build();
+                ExecutorService executor = Executors.newFixedThreadPool(target.concurrency())
+        ) {
+            int[] argon2 = calibrateArgon2(factory, targetNanos, target.concurrency(), executor);
+            int bcryptStrength = calibrateBcrypt(factory, targetNanos, target.concurrency(), executor);
+            var result = new CalibrationResult(argon2[0], argon2[1], argon2Parallelism, bcryptStrength);
+            log.info("Calibrated password encoder for {}: {}", target, result);
+            return result;
+        }
+    }
+
+    public String fingerprint(CalibrationTarget target) {
+        Runtime runtime = Runtime.getRuntime();
+        return STR."\{runtime.availableProcessors()}cpu-\{System.getProperty("os.arch")}-\{runtime.maxMemory()}heap"
+                + STR."-\{target.targetLatency().toMillis()}ms-x\{target.concurrency()}"
+                + STR."-m\{maxArgon2MemoryKiB}-p\{argon2Parallelism}-t\{MIN_ARGON2_ITERATIONS}";
+    }
+
+    /**
+     * 반복 횟수 {@code iterations}에서 권장되는 Argon2 메모리 비용의 하한 (단위: KiB).
+     * 옵션 빌더가 메모리 비용을 생략했을 때 쓰는 값과 같습니다.
+     */
+    public static int recommendedMinimumMemoryKiB(int iterations) {
+        return Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                .iterations(iterations)
+                .build()
+                .memory();
+    }
+
+    // 비용은 memory × iterations에 비례하므로, 측정값과 목표의 비율로 메모리를 보정합니다.
+    private int[] calibrateArgon2(
+            PasswordEncoderFactory factory,
+            long targetNanos,
+            int concurrency,
+            ExecutorService executor
+    ) {
+        int memory = MIN_ARGON2_MEMORY_KIB;
+        long latency = measureArgon2(factory, memory, MIN_ARGON2_ITERATIONS, concurrency, executor);
+        for (int round = 0; round < REFINEMENT_ROUNDS && memory < maxArgon2MemoryKiB; round++) {
+            int nextMemory = clampMemory((long) (memory * ((double) targetNanos / latency)));
+            if (nextMemory == memory) {
+                break;
+            }
+            memory = nextMemory;
+            latency = measureArgon2(factory, memory, MIN_ARGON2_ITERATIONS, concurrency, executor);
+        }
+        while (latency > targetNanos && memory > MIN_ARGON2_MEMORY_KIB) {
+            memory = clampMemory((long) (memory * 0.9));
+            latency = measureArgon2(factory, memory, MIN_ARGON2_ITERATIONS, concurrency, executor);
+        }
+
+        // 반복 횟수를 올리면 하한은 낮아지므로, 이미 고른 메모리는 하한 아래로 내려가지 않습니다.
+        int iterations = MIN_ARGON2_ITERATIONS;
+        if (memory == maxArgon2MemoryKiB && latency < targetNanos) {
+            long scaledIterations = MIN_ARGON2_ITERATIONS * targetNanos / Math.max(latency, 1L);
+            iterations = (int) Math.clamp(scaledIterations, MIN_ARGON2_ITERATIONS, MAX_ARGON2_ITERATIONS);
+            while (iterations > MIN_ARGON2_ITERATIONS
+                    && measureArgon2(factory, memory, iterations, concurrency, executor) > targetNanos) {
+                iterations--;
+            }
+        }
+        if (latency > targetNanos) {
+            log.warn("Argon2 at the minimum memory cost ({} KiB) exceeds the target latency.", memory);
+        }
+        return new int[] {memory, iterations};
+    }
+
+    private int calibrateBcrypt(
+            PasswordEncoderFactory factory,
+            long targetNanos,
+            int concurrency,
+            ExecutorService executor
+    ) {
+        int strength = MIN_BCRYPT_STRENGTH;
+        long latency = measureBcrypt(factory, strength, concurrency, executor);
+        if (latency >= targetNanos) {
+            if (latency > targetNanos) {
+                log.warn("BCrypt at the minimum strength ({}) exceeds the target latency.", strength);
+            }
+            return strength;
+        }
+
+        int doublings = 63 - Long.numberOfLeadingZeros(targetNanos / Math.max(latency, 1L));
+        strength = Math.min(MIN_BCRYPT_STRENGTH + doublings, MAX_BCRYPT_STRENGTH);
+        while (strength > MIN_BCRYPT_STRENGTH && measureBcrypt(factory, strength, concurrency, executor) > targetNanos) {
+            strength--;
+        }
+        return strength;
+    }
+
+    private int clampMemory(long memory) {
+        return (int) Math.clamp(memory, MIN_ARGON2_MEMORY_KIB, maxArgon2MemoryKiB);
+    }
+
+    private long measureArgon2(
+            PasswordEncoderFactory factory,
+            int memory,
+            int iterations,
+            int concurrency,
+            ExecutorService executor
+    ) {
+        PasswordEncoderOption option = Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                .memoryInput(memory)
+                .iterations(iterations)
+                .parallelism(argon2Parallelism)
+                .gain(1f)
+                .build();
+        return measureMedianNanos(factory.create(option), concurrency, executor);
+    }
+
+    private long measureBcrypt(
+            PasswordEncoderFactory factory,
+            int strength,
+            int concurrency,
+            ExecutorService executor
+    ) {
+        return measureMedianNanos(factory.create(new BcryptPasswordEncoderOption(strength)), concurrency, executor);
+    }
+
+    private long measureMedianNanos(PasswordEncoder encoder, int concurrency, ExecutorService executor) {
+        encoder.encode(SAMPLE_PASSWORD); // warm-up
+
+        List<Callable<long[]>> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(() -> {
+                long[] latencies = new long[SAMPLES_PER_THREAD];
+                for (int sample = 0; sample < SAMPLES_PER_THREAD; sample++) {
+                    long start = System.nanoTime();
+                    encoder.encode(SAMPLE_PASSWORD);
+                    latencies[sample] = System.nanoTime() - start;
+                }
+                return latencies;
+            });
+        }
+
+        long[] latencies = new long[concurrency * SAMPLES_PER_THREAD];
+        try {
+            int index = 0;
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                for (long latency : future.get()) {
+                    latencies[index++] = latency;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calibrating password encoders.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to calibrate password encoders.", e.getCause());
+        }
+        Arrays.sort(latencies);
+        return latencies[latencies.length / 2];
+    }
+}
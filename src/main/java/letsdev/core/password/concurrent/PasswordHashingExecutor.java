@@ -0,0 +1,95 @@
+package letsdev.core.password.concurrent;
+
+import letsdev.core.password.exception.PasswordEncoderOverloadErrorCode;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해싱 전용 플랫폼 스레드 풀
+ * <ul>
+ *     <li>CPU 바운드 작업이므로 기본 스레드 수는 가용 프로세서 수입니다.</li>
+ *     <li>요청 스레드(가상 스레드 포함)가 해싱으로 CPU를 점유하지 않도록 분리합니다.</li>
+ *     <li>대기 큐가 가득 차면 {@code PasswordEncoderOverloadException}(503)을 던집니다.</li>
+ * </ul>
+ */
+public class PasswordHashingExecutor implements Executor, AutoCloseable {
+
+    public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_QUEUE_CAPACITY = 1_000;
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor delegate;
+
+    public PasswordHashingExecutor() {
+        this(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public PasswordHashingExecutor(int threads, int queueCapacity) {
+        this(threads, queueCapacity, "password-hashing-", Thread.NORM_PRIORITY);
+    }
+
+    public PasswordHashingExecutor(int threads, int queueCapacity, String threadNamePrefix, int threadPriority) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads는 양수여야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity는 양수여야 합니다.");
+        }
+        this.delegate = new ThreadPoolExecutor(
+                threads,
+                threads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                platformThreadFactory(threadNamePrefix, threadPriority),
+                (task, executor) -> {
+                    throw PasswordEncoderOverloadErrorCode.HASHING_QUEUE_FULL.defaultException();
+                }
+        );
+        this.delegate.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    public int queueDepth() {
+        return delegate.getQueue().size();
+    }
+
+    public int queueCapacity() {
+        return delegate.getQueue().size() + delegate.getQueue().remainingCapacity();
+    }
+
+    public int activeCount() {
+        return delegate.getActiveCount();
+    }
+
+    public int threads() {
+        return delegate.getMaximumPoolSize();
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+    }
+
+    private static ThreadFactory platformThreadFactory(String threadNamePrefix, int threadPriority) {
+        var sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = Thread.ofPlatform()
+                    .name(threadNamePrefix + sequence.incrementAndGet())
+                    .daemon(true)
+                    .unstarted(runnable);
+            thread.setPriority(threadPriority);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package letsdev.core.password.encoder;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 평문 비밀번호를 스레드마다 재사용하는 버퍼에 UTF-8로 직접 인코딩합니다.
+ * <ul>
+ *     <li>{@code String.getBytes}처럼 호출마다 바이트 배열을 새로 만들지 않습니다.</li>
+ *     <li>{@code action}이 끝나면 사용한 구간을 0으로 덮어씁니다.</li>
+ *     <li>{@code action}에 넘긴 버퍼는 {@code action} 안에서만 유효합니다. 다른 스레드로 넘기거나 보관하지 않습니다.</li>
+ * </ul>
+ * 짝이 없는 서로게이트는 {@code String.getBytes(UTF_8)}와 같이 {@code '?'}로 바꾸므로, 기존 해시와 같은 바이트를 얻습니다.
+ */
+public final class RawPasswordBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final ThreadLocal<RawPasswordBuffer> BUFFERS = ThreadLocal.withInitial(RawPasswordBuffer::new);
+
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private boolean inUse;
+
+    private RawPasswordBuffer() {
+    }
+
+    public static <T> T applyUtf8(char[] rawPassword, Function<ByteBuffer, T> action) {
+        return applyUtf8(CharBuffer.wrap(rawPassword), action);
+    }
+
+    public static <T> T applyUtf8(CharSequence rawPassword, Function<ByteBuffer, T> action) {
+        RawPasswordBuffer buffer = BUFFERS.get();
+        // action 안에서 다시 호출되면 바깥 호출의 내용을 덮어쓰지 않도록 임시 버퍼를 씁니다.
+        if (buffer.inUse) {
+            buffer = new RawPasswordBuffer();
+        }
+        return buffer.apply(CharBuffer.wrap(rawPassword), action);
+    }
+
+    private <T> T apply(CharBuffer rawPassword, Function<ByteBuffer, T> action) {
+        int maxLength = (int) Math.ceil(rawPassword.remaining() * (double) encoder.maxBytesPerChar());
+        ensureCapacity(maxLength);
+        inUse = true;
+        try {
+            ByteBuffer encoded = ByteBuffer.wrap(bytes, 0, maxLength);
+            encoder.reset();
+            encoder.encode(rawPassword, encoded, true);
+            encoder.flush(encoded);
+            return action.apply(encoded.flip());
+        } finally {
+            Arrays.fill(bytes, 0, maxLength, (byte) 0);
+            inUse = false;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (bytes.length >= capacity) {
+            return;
+        }
+        Arrays.fill(bytes, (byte) 0);
+        bytes = new byte[Math.max(capacity, bytes.length * 2)];
+    }
+}
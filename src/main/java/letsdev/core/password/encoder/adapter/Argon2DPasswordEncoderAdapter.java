@@ -1,24 +1,30 @@
 package letsdev.core.password.encoder.adapter;
 
 import jakarta.annotation.Nonnull;
+import letsdev.core.password.encoder.RawPasswordBuffer;
+import letsdev.core.password.encoder.engine.Argon2Engine;
+import letsdev.core.password.encoder.engine.Argon2MemoryBudget;
+import letsdev.core.password.encoder.engine.Argon2MemoryPool;
+import letsdev.core.password.encoder.engine.PooledMemoryHolder;
+import letsdev.core.password.encoder.engine.SaltSource;
 import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption;
 import letsdev.core.password.encoder.port.Argon2DCustomSaltingPasswordEncoder;
 import letsdev.core.password.encoder.port.Argon2DPasswordEncoder;
 import letsdev.core.password.exception.PasswordEncoderEncryptionException;
-import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
 import org.bouncycastle.crypto.params.Argon2Parameters;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
-import java.security.SecureRandom;
 import java.util.Objects;
 
 public class Argon2DPasswordEncoderAdapter
         implements Argon2DPasswordEncoder,
-        Argon2DCustomSaltingPasswordEncoder {
+        Argon2DCustomSaltingPasswordEncoder,
+        PooledMemoryHolder {
 
-    private final SecureRandom secureRandom = new SecureRandom();
-    private byte[] seed;
+    private final Argon2Engine engine;
+    private final SaltSource saltSource;
     private final int saltLength;
     private final int hashLength;
     private final int parallelism;
@@ -26,7 +32,17 @@ public class Argon2DPasswordEncoderAdapter
     private final int memory;
 
     public Argon2DPasswordEncoderAdapter(Argon2dPasswordEncoderOption option) {
+        this(option, new Argon2Engine(new Argon2MemoryPool(), Argon2MemoryBudget.unlimited(), null, option.compression()));
+    }
+
+    public Argon2DPasswordEncoderAdapter(Argon2dPasswordEncoderOption option, Argon2Engine engine) {
+        this(option, engine, SaltSource.unpooled());
+    }
+
+    public Argon2DPasswordEncoderAdapter(Argon2dPasswordEncoderOption option, Argon2Engine engine, SaltSource saltSource) {
         this(
+                engine,
+                saltSource,
                 option.saltLength(),
                 option.hashLength(),
                 option.parallelism(),
@@ -36,12 +52,16 @@ public class Argon2DPasswordEncoderAdapter
     }
 
     private Argon2DPasswordEncoderAdapter(
+            Argon2Engine engine,
+            SaltSource saltSource,
             int saltLength,
             int hashLength,
             int parallelism,
             int memory,
             int iterations
     ) {
+        this.engine = engine;
+        this.saltSource = saltSource;
         this.saltLength = saltLength;
         this.hashLength = hashLength;
         this.parallelism = parallelism;
@@ -51,17 +71,23 @@ public class Argon2DPasswordEncoderAdapter
 
     @Override
     public String encode(String rawPassword) {
-        secureRandom.setSeed(SecureRandom.getSeed(saltLength));
-        byte[] salt = new byte[saltLength];
-        secureRandom.nextBytes(salt);
-        return encodeWithCustomSalt(
-                rawPassword,
-                salt
-        );
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encode(buffer));
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        return encodeWithCustomSalt(rawPassword, saltSource.nextSalt(saltLength));
     }
 
     @Override
     public String encodeWithCustomSalt(@Nonnull String rawPassword, @Nonnull byte[] salt) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encodeWithCustomSalt(buffer, salt));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(@Nonnull ByteBuffer rawPassword, @Nonnull byte[] salt) {
         Objects.requireNonNull(rawPassword);
         Objects.requireNonNull(salt);
         if (salt.length != saltLength) {
@@ -76,13 +102,24 @@ public class Argon2DPasswordEncoderAdapter
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        DecodedSaltAndDigest saltAndDigest = Argon2EncodingUtil.decode(encodedPassword);
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> matches(buffer, encodedPassword));
+    }
 
-        byte[] salt = saltAndDigest.salt();
-        Argon2Parameters parameters = createParameters(salt);
-        byte[] hash = hashPassword(rawPassword, parameters);
+    // 설정값이 아니라 해시에 저장된 파라미터로 다시 계산합니다.
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        DecodedArgon2Hash decoded;
+        try {
+            decoded = Argon2EncodingUtil.decode(encodedPassword);
+        } catch (PasswordEncoderGenerationException e) {
+            return false; // 깨졌거나 허용 범위를 벗어난 해시
+        }
+
+        byte[] hash = new byte[decoded.digest().length];
+        engine.generateBytes(decoded.toParameters(), rawPassword, hash);
 
-        return MessageDigest.isEqual(hash, saltAndDigest.digest());
+        return MessageDigest.isEqual(hash, decoded.digest());
     }
 
     private Argon2Parameters createParameters(byte[] salt) {
@@ -94,12 +131,26 @@ public class Argon2DPasswordEncoderAdapter
                 .build();
     }
 
-    private byte[] hashPassword(String rawPassword, Argon2Parameters parameters) {
-        byte[] rawPasswordBytes = rawPassword.getBytes(StandardCharsets.UTF_8);
+    private byte[] hashPassword(ByteBuffer rawPassword, Argon2Parameters parameters) {
         byte[] hash = new byte[this.hashLength];
-        Argon2BytesGenerator generator = new Argon2BytesGenerator();
-        generator.init(parameters);
-        generator.generateBytes(rawPasswordBytes, hash);
+        engine.generateBytes(parameters, rawPassword, hash);
         return hash;
     }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return Argon2EncodingUtil.needsUpgrade(
+                encodedPassword,
+                Argon2Parameters.ARGON2_d,
+                memory,
+                iterations,
+                saltLength,
+                hashLength
+        );
+    }
+
+    @Override
+    public void releasePooledMemory() {
+        engine.memoryPool().clear();
+    }
 }
\ No newline at end of file
@@ -3,14 +3,30 @@ package letsdev.core.password.encoder.adapter;
 import letsdev.core.password.exception.PasswordEncoderGenerationException;
 import org.bouncycastle.crypto.params.Argon2Parameters;
 
+import java.util.Arrays;
 import java.util.Base64;
 
 final class Argon2EncodingUtil {
 
     private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
-    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
     private static final String PREFIX = "{argon2}";
 
+    // 저장된 해시는 변조되거나 깨졌을 수 있으므로, 검증 전에 비용의 상한을 둡니다. (메모리 2 GiB, 블록 행렬 long[] 길이가 int 범위 안)
+    static final int MAX_MEMORY_KIB = 2 * 1024 * 1024;
+    static final int MAX_ITERATIONS = 64;
+    static final int MAX_PARALLELISM = 255;
+    static final int MIN_DIGEST_LENGTH = 4;
+
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
     static String encode(byte[] hash, Argon2Parameters parameters) {
         StringBuilder stringBuilder = new StringBuilder(PREFIX);
         String type = switch (parameters.getType()) {
@@ -37,12 +53,168 @@ final class Argon2EncodingUtil {
         return stringBuilder.toString();
     }
 
-    static DecodedSaltAndDigest decode(String encodedPassword) {
-        String[] parts = encodedPassword.split("\\$");
-        String saltBase64 = parts[parts.length - 2];
-        String digestBase64 = parts[parts.length - 1];
-        byte[] salt = BASE64_DECODER.decode(saltBase64);
-        byte[] digest = BASE64_DECODER.decode(digestBase64);
-        return new DecodedSaltAndDigest(salt, digest);
+    /**
+     * {@code [{argon2}]$argon2(d|i|id)[$v=N]$m=N,t=N,p=N$salt$digest}를 앞에서부터 한 번 읽습니다.
+     * 정규식, 중간 문자열 없이 솔트와 다이제스트를 바로 바이트 배열로 디코딩합니다.
+     * m, t, p가 허용 범위({@link #MAX_MEMORY_KIB}, {@link #MAX_ITERATIONS}, {@link #MAX_PARALLELISM})를 벗어나면 거부합니다.
+     */
+    static DecodedArgon2Hash decode(String encodedPassword) {
+        if (encodedPassword == null) {
+            throw malformed();
+        }
+        int position = encodedPassword.startsWith(PREFIX) ? PREFIX.length() : 0;
+        Cursor cursor = new Cursor(encodedPassword, position);
+
+        cursor.expect("$argon2");
+        int type;
+        if (cursor.tryExpect("id$")) {
+            type = Argon2Parameters.ARGON2_id;
+        } else if (cursor.tryExpect("d$")) {
+            type = Argon2Parameters.ARGON2_d;
+        } else if (cursor.tryExpect("i$")) {
+            type = Argon2Parameters.ARGON2_i;
+        } else {
+            throw malformed();
+        }
+
+        int version = Argon2Parameters.ARGON2_VERSION_10;
+        if (cursor.tryExpect("v=")) {
+            version = cursor.readInt();
+            cursor.expect("$");
+            if (version != Argon2Parameters.ARGON2_VERSION_10 && version != Argon2Parameters.ARGON2_VERSION_13) {
+                throw new PasswordEncoderGenerationException(STR."Not supported: Argon2 version \{version}");
+            }
+        }
+
+        cursor.expect("m=");
+        int memory = cursor.readInt();
+        cursor.expect(",t=");
+        int iterations = cursor.readInt();
+        cursor.expect(",p=");
+        int parallelism = cursor.readInt();
+        cursor.expect("$");
+        if (parallelism < 1 || parallelism > MAX_PARALLELISM
+                || iterations < 1 || iterations > MAX_ITERATIONS
+                || memory < 8 * parallelism || memory > MAX_MEMORY_KIB) {
+            throw new PasswordEncoderGenerationException(
+                    STR."Argon2 parameters out of range: m=\{memory},t=\{iterations},p=\{parallelism}"
+            );
+        }
+
+        int saltEnd = encodedPassword.indexOf('$', cursor.position);
+        if (saltEnd < 0) {
+            throw malformed();
+        }
+        byte[] salt = decodeBase64(encodedPassword, cursor.position, saltEnd);
+        byte[] digest = decodeBase64(encodedPassword, saltEnd + 1, encodedPassword.length());
+        if (digest.length < MIN_DIGEST_LENGTH) {
+            throw malformed();
+        }
+
+        return new DecodedArgon2Hash(type, version, memory, iterations, parallelism, salt, digest);
+    }
+
+    /**
+     * 다른 알고리즘, 다른 Argon2 타입이나 이전 버전이거나, 비용(m, t)·길이가 현재 설정보다 작으면 업그레이드 대상입니다.
+     * 병렬성은 강도와 무관하므로 비교하지 않습니다.
+     */
+    static boolean needsUpgrade(
+            String encodedPassword,
+            int type,
+            int memory,
+            int iterations,
+            int saltLength,
+            int hashLength
+    ) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        DecodedArgon2Hash decoded;
+        try {
+            decoded = decode(encodedPassword);
+        } catch (PasswordEncoderGenerationException e) {
+            return true;
+        }
+        return decoded.type() != type
+                || decoded.version() != Argon2Parameters.ARGON2_VERSION_13
+                || decoded.memory() < memory
+                || decoded.iterations() < iterations
+                || decoded.salt().length < saltLength
+                || decoded.digest().length < hashLength;
+    }
+
+    // 표준 알파벳, 패딩은 있어도 없어도 됩니다.
+    static byte[] decodeBase64(String source, int start, int end) {
+        while (end > start && source.charAt(end - 1) == '=') {
+            end--;
+        }
+        int length = end - start;
+        if (length <= 0 || length % 4 == 1) {
+            throw malformed();
+        }
+
+        byte[] decoded = new byte[length * 3 / 4];
+        int bits = 0;
+        int bitCount = 0;
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_VALUES[c] : -1;
+            if (value < 0) {
+                throw malformed();
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                decoded[index++] = (byte) (bits >> bitCount);
+            }
+        }
+        return decoded;
+    }
+
+    private static PasswordEncoderGenerationException malformed() {
+        return new PasswordEncoderGenerationException("Malformed encoded password.");
+    }
+
+    private static final class Cursor {
+        private final String source;
+        private int position;
+
+        private Cursor(String source, int position) {
+            this.source = source;
+            this.position = position;
+        }
+
+        private boolean tryExpect(String token) {
+            if (!source.startsWith(token, position)) {
+                return false;
+            }
+            position += token.length();
+            return true;
+        }
+
+        private void expect(String token) {
+            if (!tryExpect(token)) {
+                throw malformed();
+            }
+        }
+
+        private int readInt() {
+            int start = position;
+            long value = 0;
+            while (position < source.length() && position - start < 10) {
+                char c = source.charAt(position);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                position++;
+            }
+            if (position == start || value > Integer.MAX_VALUE) {
+                throw malformed();
+            }
+            return (int) value;
+        }
     }
 }
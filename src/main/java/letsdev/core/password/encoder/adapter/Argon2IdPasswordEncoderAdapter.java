@@ -1,24 +1,30 @@
 package letsdev.core.password.encoder.adapter;
 
 import jakarta.annotation.Nonnull;
+import letsdev.core.password.encoder.RawPasswordBuffer;
+import letsdev.core.password.encoder.engine.Argon2Engine;
+import letsdev.core.password.encoder.engine.Argon2MemoryBudget;
+import letsdev.core.password.encoder.engine.Argon2MemoryPool;
+import letsdev.core.password.encoder.engine.PooledMemoryHolder;
+import letsdev.core.password.encoder.engine.SaltSource;
 import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
 import letsdev.core.password.encoder.port.Argon2IdCustomSaltingPasswordEncoder;
 import letsdev.core.password.encoder.port.Argon2IdPasswordEncoder;
 import letsdev.core.password.exception.PasswordEncoderEncryptionException;
-import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
 import org.bouncycastle.crypto.params.Argon2Parameters;
-import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.Objects;
 
 public class Argon2IdPasswordEncoderAdapter
         implements Argon2IdPasswordEncoder,
-        Argon2IdCustomSaltingPasswordEncoder {
+        Argon2IdCustomSaltingPasswordEncoder,
+        PooledMemoryHolder {
 
-    private static final String PREFIX = "{argon2}";
-
-    private final Argon2PasswordEncoder delegatedEncoder;
+    private final Argon2Engine engine;
+    private final SaltSource saltSource;
     private final int saltLength;
     private final int hashLength;
     private final int parallelism;
@@ -26,14 +32,17 @@ public class Argon2IdPasswordEncoderAdapter
     private final int memory;
 
     public Argon2IdPasswordEncoderAdapter(Argon2idPasswordEncoderOption option) {
+        this(option, new Argon2Engine(new Argon2MemoryPool(), Argon2MemoryBudget.unlimited(), null, option.compression()));
+    }
+
+    public Argon2IdPasswordEncoderAdapter(Argon2idPasswordEncoderOption option, Argon2Engine engine) {
+        this(option, engine, SaltSource.unpooled());
+    }
+
+    public Argon2IdPasswordEncoderAdapter(Argon2idPasswordEncoderOption option, Argon2Engine engine, SaltSource saltSource) {
         this(
-                new Argon2PasswordEncoder(
-                        option.saltLength(),
-                        option.hashLength(),
-                        option.parallelism(),
-                        option.memory(),
-                        option.iterations()
-                ),
+                engine,
+                saltSource,
                 option.saltLength(),
                 option.hashLength(),
                 option.parallelism(),
@@ -43,14 +52,16 @@ public class Argon2IdPasswordEncoderAdapter
     }
 
     private Argon2IdPasswordEncoderAdapter(
-            Argon2PasswordEncoder passwordEncoder,
+            Argon2Engine engine,
+            SaltSource saltSource,
             int saltLength,
             int hashLength,
             int parallelism,
             int memory,
             int iterations
     ) {
-        this.delegatedEncoder = passwordEncoder;
+        this.engine = engine;
+        this.saltSource = saltSource;
         this.saltLength = saltLength;
         this.hashLength = hashLength;
         this.parallelism = parallelism;
@@ -60,37 +71,77 @@ public class Argon2IdPasswordEncoderAdapter
 
     @Override
     public String encode(String rawPassword) {
-        return PREFIX + delegatedEncoder.encode(rawPassword);
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encode(buffer));
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        return encodeWithCustomSalt(rawPassword, saltSource.nextSalt(saltLength));
     }
 
     @Override
     public String encodeWithCustomSalt(@Nonnull String rawPassword, @Nonnull byte[] salt) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encodeWithCustomSalt(buffer, salt));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(@Nonnull ByteBuffer rawPassword, @Nonnull byte[] salt) {
         Objects.requireNonNull(rawPassword);
         Objects.requireNonNull(salt);
         if (salt.length != saltLength) {
             throw new PasswordEncoderEncryptionException("Salt length for BCrypt encryption must be exactly 16 bytes.");
         }
 
-        byte[] rawPasswordBytes = rawPassword.getBytes(StandardCharsets.UTF_8);
-        byte[] hash = new byte[this.hashLength];
-
         Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
                 .withSalt(salt)
                 .withParallelism(parallelism)
                 .withMemoryAsKB(memory)
                 .withIterations(iterations)
                 .build();
-
-        Argon2BytesGenerator generator = new Argon2BytesGenerator();
-        generator.init(parameters);
-        generator.generateBytes(rawPasswordBytes, hash);
+        byte[] hash = new byte[this.hashLength];
+        engine.generateBytes(parameters, rawPassword, hash);
 
         return Argon2EncodingUtil.encode(hash, parameters);
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        encodedPassword = encodedPassword.substring(PREFIX.length());
-        return delegatedEncoder.matches(rawPassword, encodedPassword);
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> matches(buffer, encodedPassword));
+    }
+
+    // 설정값이 아니라 해시에 저장된 파라미터로 다시 계산합니다.
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        DecodedArgon2Hash decoded;
+        try {
+            decoded = Argon2EncodingUtil.decode(encodedPassword);
+        } catch (PasswordEncoderGenerationException e) {
+            return false; // 깨졌거나 허용 범위를 벗어난 해시
+        }
+
+        byte[] hash = new byte[decoded.digest().length];
+        engine.generateBytes(decoded.toParameters(), rawPassword, hash);
+
+        return MessageDigest.isEqual(hash, decoded.digest());
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return Argon2EncodingUtil.needsUpgrade(
+                encodedPassword,
+                Argon2Parameters.ARGON2_id,
+                memory,
+                iterations,
+                saltLength,
+                hashLength
+        );
+    }
+
+    @Override
+    public void releasePooledMemory() {
+        engine.memoryPool().clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.port.AsyncCustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.AsyncPasswordEncoder;
+import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.NotCastedPasswordEncoder;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 동기 인코더의 해싱을 전용 스레드 풀에서 수행합니다.
+ * 스레드 풀이 포화되어 작업을 받지 못하면, 예외를 던지는 대신 실패한 Future를 반환합니다.
+ */
+public class AsyncPasswordEncoderAdapter
+        implements AsyncPasswordEncoder,
+        AsyncCustomSaltingPasswordEncoder {
+
+    private final NotCastedPasswordEncoder delegatedEncoder;
+    private final Executor hashingExecutor;
+
+    public AsyncPasswordEncoderAdapter(NotCastedPasswordEncoder delegatedEncoder, Executor hashingExecutor) {
+        this.delegatedEncoder = delegatedEncoder;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    @Override
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        if (!(delegatedEncoder instanceof PasswordEncoder passwordEncoder)) {
+            return CompletableFuture.failedFuture(
+                    new PasswordEncoderGenerationException("Not supported: PasswordEncoder")
+            );
+        }
+        return supplyAsync(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public CompletableFuture<String> encodeWithCustomSaltAsync(String rawPassword, byte[] salt) {
+        if (!(delegatedEncoder instanceof CustomSaltingPasswordEncoder customSaltingPasswordEncoder)) {
+            return CompletableFuture.failedFuture(
+                    new PasswordEncoderGenerationException("Not supported: CustomSaltingPasswordEncoder")
+            );
+        }
+        return supplyAsync(() -> customSaltingPasswordEncoder.encodeWithCustomSalt(rawPassword, salt));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return supplyAsync(() -> delegatedEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, hashingExecutor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -1,57 +1,107 @@
 package letsdev.core.password.encoder.adapter;
 
 import jakarta.annotation.Nonnull;
+import letsdev.core.password.encoder.RawPasswordBuffer;
+import letsdev.core.password.encoder.engine.BCryptEngine;
+import letsdev.core.password.encoder.engine.SaltSource;
 import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
 import letsdev.core.password.encoder.port.BCryptPasswordEncoder;
 import letsdev.core.password.encoder.port.BcryptCustomSaltingPasswordEncoder;
 import letsdev.core.password.exception.PasswordEncoderEncryptionException;
-import org.springframework.security.crypto.bcrypt.BCrypt;
+import letsdev.core.password.exception.PasswordEncoderException;
 
-import java.util.Base64;
+import java.nio.ByteBuffer;
 
+/**
+ * BCrypt 어댑터. 해싱과 검증은 {@link BCryptEngine}이 스레드별 상태를 재사용해 수행합니다.
+ * 결과는 Spring Security {@code BCryptPasswordEncoder}와 같은 {@code $2a$} 문자열이며, 기존 해시와 서로 검증됩니다.
+ */
 public class BCryptPasswordEncoderAdapter
         implements BCryptPasswordEncoder
         , BcryptCustomSaltingPasswordEncoder {
 
-    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
     private static final String PREFIX = "{bcrypt}";
+    private static final int SALT_LENGTH = BCryptEngine.SALT_LENGTH;
 
-    private final org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder delegatedEncoder;
+    private final SaltSource saltSource;
     private final int strength;
 
     public BCryptPasswordEncoderAdapter(int strength) {
-        this(new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder(strength), strength);
+        this(SaltSource.unpooled(), strength);
     }
 
     public BCryptPasswordEncoderAdapter(BcryptPasswordEncoderOption option) {
-        this(new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder(option.strength()), option.strength());
+        this(option, SaltSource.unpooled());
     }
 
-    private BCryptPasswordEncoderAdapter(org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder delegatedEncoder, int strength) {
-        this.delegatedEncoder = delegatedEncoder;
+    public BCryptPasswordEncoderAdapter(BcryptPasswordEncoderOption option, SaltSource saltSource) {
+        this(saltSource, option.strength());
+    }
+
+    private BCryptPasswordEncoderAdapter(SaltSource saltSource, int strength) {
+        if (strength < BCryptEngine.MIN_LOG_ROUNDS || BCryptEngine.MAX_LOG_ROUNDS < strength) {
+            throw new IllegalArgumentException("Bad strength");
+        }
+        this.saltSource = saltSource;
         this.strength = strength;
     }
 
+    // Spring BCryptPasswordEncoder는 솔트마다 SecureRandom을 새로 만들므로, 공유 솔트 공급원을 씁니다.
     @Override
     public String encode(String rawPassword) {
-        return PREFIX + delegatedEncoder.encode(rawPassword);
+        return encodeWithCustomSalt(rawPassword, saltSource.nextSalt(SALT_LENGTH));
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        return encodeWithCustomSalt(rawPassword, saltSource.nextSalt(SALT_LENGTH));
     }
 
     @Override
     public String encodeWithCustomSalt(@Nonnull String rawPassword, @Nonnull byte[] salt) {
-        if (salt.length != 16) {
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encodeWithCustomSalt(buffer, salt));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(@Nonnull ByteBuffer rawPassword, @Nonnull byte[] salt) {
+        if (salt.length != SALT_LENGTH) {
             throw new PasswordEncoderEncryptionException(
                     "Salt length for BCrypt encryption must be exactly 16 bytes."
             );
         }
-        String prefixedSalt = STR."$2a$\{strength}$\{ModifiedBase64.encodeAlternativeBase64(salt)}";
-
-        return  PREFIX + BCrypt.hashpw(rawPassword, prefixedSalt);
+        return BCryptEngine.hash(PREFIX, rawPassword, salt, strength);
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        encodedPassword = encodedPassword.substring(PREFIX.length());
-        return delegatedEncoder.matches(rawPassword, encodedPassword);
+        if (rawPassword == null) {
+            throw new IllegalArgumentException("rawPassword cannot be null");
+        }
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> matches(buffer, encodedPassword));
+    }
+
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return false;
+        }
+        try {
+            return BCryptEngine.verify(rawPassword, encodedPassword, PREFIX.length());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        try {
+            var option = EncodedPasswordOptionParser.parse(encodedPassword).as(BcryptPasswordEncoderOption.class);
+            return option.strength() < strength;
+        } catch (PasswordEncoderException e) {
+            return true;
+        }
     }
 }
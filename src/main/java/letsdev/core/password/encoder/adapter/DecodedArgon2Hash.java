@@ -0,0 +1,31 @@
+package letsdev.core.password.encoder.adapter;
+
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+/**
+ * 인코딩된 Argon2 해시에서 읽은 파라미터와 솔트, 다이제스트
+ *
+ * @param type {@link Argon2Parameters#ARGON2_d}, {@link Argon2Parameters#ARGON2_i}, {@link Argon2Parameters#ARGON2_id}
+ * @param version {@link Argon2Parameters#ARGON2_VERSION_10}, {@link Argon2Parameters#ARGON2_VERSION_13}
+ * @param memory 메모리 비용 (단위: KiB)
+ */
+public record DecodedArgon2Hash(
+        int type,
+        int version,
+        int memory,
+        int iterations,
+        int parallelism,
+        byte[] salt,
+        byte[] digest
+) {
+
+    public Argon2Parameters toParameters() {
+        return new Argon2Parameters.Builder(type)
+                .withVersion(version)
+                .withSalt(salt)
+                .withParallelism(parallelism)
+                .withMemoryAsKB(memory)
+                .withIterations(iterations)
+                .build();
+    }
+}
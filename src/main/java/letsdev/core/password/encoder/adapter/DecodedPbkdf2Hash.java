@@ -0,0 +1,14 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm;
+
+/**
+ * 인코딩된 PBKDF2 해시에서 읽은 파라미터와 솔트, 다이제스트
+ */
+public record DecodedPbkdf2Hash(
+        Pbkdf2Algorithm algorithm,
+        int iterations,
+        byte[] salt,
+        byte[] digest
+) {
+}
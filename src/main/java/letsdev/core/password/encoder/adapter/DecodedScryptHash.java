@@ -0,0 +1,17 @@
+package letsdev.core.password.encoder.adapter;
+
+/**
+ * 인코딩된 scrypt 해시에서 읽은 파라미터와 솔트, 다이제스트
+ *
+ * @param cpuCost N
+ * @param memoryCost r
+ * @param parallelization p
+ */
+public record DecodedScryptHash(
+        int cpuCost,
+        int memoryCost,
+        int parallelization,
+        byte[] salt,
+        byte[] digest
+) {
+}
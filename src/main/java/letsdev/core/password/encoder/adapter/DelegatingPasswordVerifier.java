@@ -0,0 +1,80 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.option.Argon2Compression;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.NotCastedPasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * 저장된 해시의 접두사와 파라미터로 인코더를 골라 검증합니다.
+ * 여러 설정(과거 설정 포함)으로 만든 해시가 섞여 있어도, 미리 인코더를 알 필요가 없습니다.
+ * 인코더는 복원한 옵션을 키로 {@code encoderResolver}(팩토리 인스턴스 캐시)에서 가져옵니다.
+ * <p>
+ * 기존 해시를 새 인코더로 감싼 {@code {onion}} 해시는 안쪽 해시를 평문에서 다시 만든 후 바깥 해시로 검증합니다.
+ * ({@link OnionEncodingUtil})
+ */
+public class DelegatingPasswordVerifier implements NotCastedPasswordEncoder {
+
+    private final Function<PasswordEncoderOption, ? extends NotCastedPasswordEncoder> encoderResolver;
+    private final Argon2Compression argon2Compression;
+
+    public DelegatingPasswordVerifier(
+            Function<PasswordEncoderOption, ? extends NotCastedPasswordEncoder> encoderResolver
+    ) {
+        this(encoderResolver, Argon2Compression.SCALAR);
+    }
+
+    /**
+     * @param argon2Compression 해시에서 복원한 Argon2 옵션에 쓸 압축 함수 구현 (해시에는 저장되지 않음)
+     */
+    public DelegatingPasswordVerifier(
+            Function<PasswordEncoderOption, ? extends NotCastedPasswordEncoder> encoderResolver,
+            Argon2Compression argon2Compression
+    ) {
+        this.encoderResolver = encoderResolver;
+        this.argon2Compression = argon2Compression;
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (OnionEncodingUtil.isOnion(encodedPassword)) {
+            String innerHash = OnionEncodingUtil.innerHash(encodedPassword);
+            String recomputedInnerHash = innerEncoder(innerHash)
+                    .encodeWithCustomSalt(rawPassword, EncodedPasswordOptionParser.parseSalt(innerHash));
+            return matchesOuterHash(innerHash, recomputedInnerHash, encodedPassword);
+        }
+        PasswordEncoderOption option = EncodedPasswordOptionParser.parse(encodedPassword, argon2Compression);
+        return encoderResolver.apply(option).matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        if (OnionEncodingUtil.isOnion(encodedPassword)) {
+            String innerHash = OnionEncodingUtil.innerHash(encodedPassword);
+            String recomputedInnerHash = innerEncoder(innerHash)
+                    .encodeWithCustomSalt(rawPassword, EncodedPasswordOptionParser.parseSalt(innerHash));
+            return matchesOuterHash(innerHash, recomputedInnerHash, encodedPassword);
+        }
+        PasswordEncoderOption option = EncodedPasswordOptionParser.parse(encodedPassword, argon2Compression);
+        return encoderResolver.apply(option).matches(rawPassword, encodedPassword);
+    }
+
+    private CustomSaltingPasswordEncoder innerEncoder(String innerHash) {
+        PasswordEncoderOption option = EncodedPasswordOptionParser.parse(innerHash, argon2Compression);
+        if (encoderResolver.apply(option) instanceof CustomSaltingPasswordEncoder customSaltingPasswordEncoder) {
+            return customSaltingPasswordEncoder;
+        }
+        throw new PasswordEncoderGenerationException("Not supported: CustomSaltingPasswordEncoder");
+    }
+
+    // 복원한 기존 해시의 다이제스트(outerInput)를 평문으로 삼아 바깥 해시와 비교합니다.
+    private boolean matchesOuterHash(String maskedInnerHash, String recomputedInnerHash, String onionEncodedPassword) {
+        String innerHash = OnionEncodingUtil.restoreInnerHash(maskedInnerHash, recomputedInnerHash);
+        return innerHash != null
+                && matches(OnionEncodingUtil.outerInput(innerHash), OnionEncodingUtil.outerHash(onionEncodedPassword));
+    }
+}
@@ -0,0 +1,161 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.engine.BCryptEngine;
+import letsdev.core.password.encoder.option.Argon2Compression;
+import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption;
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption;
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.option.Pbkdf2PasswordEncoderOption;
+import letsdev.core.password.encoder.option.ScryptPasswordEncoderOption;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+/**
+ * 저장된 해시의 접두사와 내장된 파라미터를 한 번 훑어서, 그 해시를 만든 인코더의 옵션을 복원합니다.
+ * <ul>
+ *     <li>{@code {bcrypt}$2a$NN$...} → {@link BcryptPasswordEncoderOption}</li>
+ *     <li>{@code {argon2}$argon2id$v=19$m=..,t=..,p=..$salt$hash} → {@link Argon2idPasswordEncoderOption}</li>
+ *     <li>{@code {argon2}$argon2d$...} → {@link Argon2dPasswordEncoderOption}</li>
+ *     <li>{@code {pbkdf2}$pbkdf2-sha256$i=..$salt$hash} → {@link Pbkdf2PasswordEncoderOption}</li>
+ *     <li>{@code {scrypt}$<params>$salt$hash} → {@link ScryptPasswordEncoderOption}</li>
+ * </ul>
+ * 정규식, split을 쓰지 않습니다.
+ */
+public final class EncodedPasswordOptionParser {
+
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+    private static final String ARGON2_PREFIX = "{argon2}";
+    private static final String PBKDF2_PREFIX = "{pbkdf2}";
+    private static final String SCRYPT_PREFIX = "{scrypt}";
+
+    private EncodedPasswordOptionParser() {
+    }
+
+    public static PasswordEncoderOption parse(String encodedPassword) {
+        return parse(encodedPassword, Argon2Compression.SCALAR);
+    }
+
+    /**
+     * @param argon2Compression 복원한 Argon2 옵션에 쓸 압축 함수 구현. 해시에는 저장되지 않으므로 설정값을 넘겨 줍니다.
+     */
+    public static PasswordEncoderOption parse(String encodedPassword, Argon2Compression argon2Compression) {
+        if (encodedPassword == null) {
+            throw malformed();
+        }
+        if (encodedPassword.startsWith(BCRYPT_PREFIX)) {
+            return parseBcrypt(encodedPassword, BCRYPT_PREFIX.length());
+        }
+        if (encodedPassword.startsWith(ARGON2_PREFIX)) {
+            return parseArgon2(encodedPassword, argon2Compression);
+        }
+        if (encodedPassword.startsWith(PBKDF2_PREFIX)) {
+            return parsePbkdf2(encodedPassword);
+        }
+        if (encodedPassword.startsWith(SCRYPT_PREFIX)) {
+            return parseScrypt(encodedPassword);
+        }
+        int prefixEnd = encodedPassword.indexOf('}');
+        String prefix = encodedPassword.startsWith("{") && prefixEnd > 0
+                ? encodedPassword.substring(0, prefixEnd + 1)
+                : "(none)";
+        throw new PasswordEncoderGenerationException(STR."Not supported: \{prefix}");
+    }
+
+    /**
+     * 저장된 해시에 내장된 솔트를 읽습니다. 복원한 옵션과 함께 쓰면 같은 평문에서 같은 해시를 다시 만들 수 있습니다.
+     */
+    public static byte[] parseSalt(String encodedPassword) {
+        if (encodedPassword == null) {
+            throw malformed();
+        }
+        if (encodedPassword.startsWith(BCRYPT_PREFIX)) {
+            try {
+                return BCryptEngine.decodeSalt(encodedPassword, BCRYPT_PREFIX.length());
+            } catch (IllegalArgumentException e) {
+                throw malformed();
+            }
+        }
+        if (encodedPassword.startsWith(ARGON2_PREFIX)) {
+            return Argon2EncodingUtil.decode(encodedPassword).salt();
+        }
+        if (encodedPassword.startsWith(PBKDF2_PREFIX)) {
+            return Pbkdf2EncodingUtil.decode(encodedPassword).salt();
+        }
+        if (encodedPassword.startsWith(SCRYPT_PREFIX)) {
+            return ScryptEncodingUtil.decode(encodedPassword).salt();
+        }
+        throw new PasswordEncoderGenerationException("Not supported: salt of the encoded password");
+    }
+
+    // $2a$NN$<22 salt><31 hash>
+    private static PasswordEncoderOption parseBcrypt(String encoded, int offset) {
+        if (encoded.length() < offset + 7
+                || encoded.charAt(offset) != '$'
+                || encoded.charAt(offset + 1) != '2'
+                || encoded.charAt(offset + 3) != '$'
+                || encoded.charAt(offset + 6) != '$') {
+            throw malformed();
+        }
+        int strength = digit(encoded, offset + 4) * 10 + digit(encoded, offset + 5);
+        return new BcryptPasswordEncoderOption(strength);
+    }
+
+    private static PasswordEncoderOption parseArgon2(String encoded, Argon2Compression compression) {
+        DecodedArgon2Hash decoded = Argon2EncodingUtil.decode(encoded);
+        return switch (decoded.type()) {
+            case Argon2Parameters.ARGON2_id -> Argon2idPasswordEncoderOption.builder()
+                    .saltLength(decoded.salt().length)
+                    .hashLength(decoded.digest().length)
+                    .parallelism(decoded.parallelism())
+                    .iterations(decoded.iterations())
+                    .memoryInput(decoded.memory())
+                    .gain(1f)
+                    .compression(compression)
+                    .build();
+            case Argon2Parameters.ARGON2_d -> Argon2dPasswordEncoderOption.builder()
+                    .saltLength(decoded.salt().length)
+                    .hashLength(decoded.digest().length)
+                    .parallelism(decoded.parallelism())
+                    .iterations(decoded.iterations())
+                    .memoryInput(decoded.memory())
+                    .gain(1f)
+                    .compression(compression)
+                    .build();
+            default -> throw new PasswordEncoderGenerationException("Not supported: argon2i");
+        };
+    }
+
+    private static PasswordEncoderOption parsePbkdf2(String encoded) {
+        DecodedPbkdf2Hash decoded = Pbkdf2EncodingUtil.decode(encoded);
+        return new Pbkdf2PasswordEncoderOption(
+                decoded.algorithm(),
+                decoded.iterations(),
+                decoded.salt().length,
+                decoded.digest().length
+        );
+    }
+
+    private static PasswordEncoderOption parseScrypt(String encoded) {
+        DecodedScryptHash decoded = ScryptEncodingUtil.decode(encoded);
+        return new ScryptPasswordEncoderOption(
+                decoded.cpuCost(),
+                decoded.memoryCost(),
+                decoded.parallelization(),
+                decoded.digest().length,
+                decoded.salt().length
+        );
+    }
+
+    private static int digit(String encoded, int index) {
+        char c = encoded.charAt(index);
+        if (c < '0' || c > '9') {
+            throw malformed();
+        }
+        return c - '0';
+    }
+
+    private static PasswordEncoderGenerationException malformed() {
+        return new PasswordEncoderGenerationException("Malformed encoded password.");
+    }
+}
@@ -0,0 +1,72 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.port.BatchPasswordEncoder;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import letsdev.core.password.encoder.port.PasswordPair;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * 입력을 반씩 나누는 fork-join 작업으로 해싱합니다.
+ * 해시 하나가 충분히 무거우므로 원소 하나까지 나누어 work-stealing이 고르게 일어나게 합니다.
+ */
+public class ForkJoinBatchPasswordEncoderAdapter implements BatchPasswordEncoder {
+
+    private final PasswordEncoder delegatedEncoder;
+    private final ForkJoinPool forkJoinPool;
+
+    public ForkJoinBatchPasswordEncoderAdapter(PasswordEncoder delegatedEncoder, ForkJoinPool forkJoinPool) {
+        this.delegatedEncoder = delegatedEncoder;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        var results = new String[rawPasswords.size()];
+        invoke(results.length, index -> results[index] = delegatedEncoder.encode(rawPasswords.get(index)));
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public List<Boolean> matchesAll(List<PasswordPair> passwordPairs) {
+        var results = new Boolean[passwordPairs.size()];
+        invoke(results.length, index -> {
+            PasswordPair pair = passwordPairs.get(index);
+            results[index] = delegatedEncoder.matches(pair.rawPassword(), pair.encodedPassword());
+        });
+        return Arrays.asList(results);
+    }
+
+    private void invoke(int size, IntConsumer task) {
+        if (size == 0) {
+            return;
+        }
+        forkJoinPool.invoke(new RangeAction(0, size, task));
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer task;
+
+        private RangeAction(int from, int to, IntConsumer task) {
+            this.from = from;
+            this.to = to;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, middle, task), new RangeAction(middle, to, task));
+        }
+    }
+}
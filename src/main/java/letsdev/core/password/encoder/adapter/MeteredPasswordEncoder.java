@@ -0,0 +1,103 @@
+package letsdev.core.password.encoder.adapter;
+
+import io.micrometer.core.instrument.Timer;
+import letsdev.core.password.encoder.engine.PooledMemoryHolder;
+import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+import letsdev.core.password.metrics.PasswordEncoderMetrics.OperationMeters;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 인코더의 해싱 시간과 진행 중인 해싱 수를 기록합니다.
+ * 팩토리에 {@code MeterRegistry}를 지정했을 때만, 캐싱되는 인스턴스를 이것으로 감쌉니다.
+ */
+public class MeteredPasswordEncoder implements PasswordEncoder, CustomSaltingPasswordEncoder, PooledMemoryHolder {
+
+    private final PasswordEncoder delegatedEncoder;
+    private final OperationMeters meters;
+
+    public MeteredPasswordEncoder(PasswordEncoder delegatedEncoder, OperationMeters meters) {
+        this.delegatedEncoder = delegatedEncoder;
+        this.meters = meters;
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return record(meters.encode(), () -> delegatedEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        return record(meters.encode(), () -> delegatedEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(String rawPassword, byte[] salt) {
+        CustomSaltingPasswordEncoder customSaltingPasswordEncoder = customSaltingEncoder();
+        return record(
+                meters.encodeWithCustomSalt(),
+                () -> customSaltingPasswordEncoder.encodeWithCustomSalt(rawPassword, salt)
+        );
+    }
+
+    @Override
+    public String encodeWithCustomSalt(ByteBuffer rawPassword, byte[] salt) {
+        CustomSaltingPasswordEncoder customSaltingPasswordEncoder = customSaltingEncoder();
+        return record(
+                meters.encodeWithCustomSalt(),
+                () -> customSaltingPasswordEncoder.encodeWithCustomSalt(rawPassword, salt)
+        );
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return record(meters.matches(), () -> delegatedEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        return record(meters.matches(), () -> delegatedEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return delegatedEncoder.needsUpgrade(encodedPassword);
+    }
+
+    @Override
+    public void releasePooledMemory() {
+        if (delegatedEncoder instanceof PooledMemoryHolder pooledMemoryHolder) {
+            pooledMemoryHolder.releasePooledMemory();
+        }
+    }
+
+    public PasswordEncoder delegatedEncoder() {
+        return delegatedEncoder;
+    }
+
+    public OperationMeters meters() {
+        return meters;
+    }
+
+    private CustomSaltingPasswordEncoder customSaltingEncoder() {
+        if (delegatedEncoder instanceof CustomSaltingPasswordEncoder customSaltingPasswordEncoder) {
+            return customSaltingPasswordEncoder;
+        }
+        throw new PasswordEncoderGenerationException("Not supported: CustomSaltingPasswordEncoder");
+    }
+
+    private <T> T record(Timer timer, Supplier<T> operation) {
+        meters.inFlight().incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meters.inFlight().decrementAndGet();
+        }
+    }
+}
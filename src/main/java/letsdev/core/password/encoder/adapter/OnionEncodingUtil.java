@@ -0,0 +1,130 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 평문 없이 기존 해시를 새 인코더로 감싼(onion) 해시의 양식입니다.
+ * <pre>
+ * {onion}&lt;inner&gt;&lt;outer&gt;
+ * inner: 기존 해시에서 다이제스트만 0으로 가린 것 (알고리즘, 파라미터, 솔트는 그대로)
+ * outer: 기존 해시 전체의 SHA-256(Base64)을 평문처럼 새 인코더로 인코딩한 해시 ({@link #outerInput(String)})
+ * </pre>
+ * 검증할 때는 inner의 옵션과 솔트로 평문에서 기존 해시를 다시 만든 후, outer와 비교합니다.
+ * 기존 해시를 그대로 넣지 않고 43자로 줄여 넣으므로, 입력을 72바이트에서 자르는 BCrypt도 바깥 인코더로 쓸 수 있습니다.
+ * inner와 outer는 모두 {@code {...}} 접두사로 시작하므로, 두 번째 {@code '{'}에서 나눕니다.
+ */
+public final class OnionEncodingUtil {
+
+    private static final String PREFIX = "{onion}";
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+    private static final int BCRYPT_ENCODED_HASH_LENGTH = 31;
+
+    private OnionEncodingUtil() {
+    }
+
+    public static boolean isOnion(String encodedPassword) {
+        return encodedPassword != null && encodedPassword.startsWith(PREFIX);
+    }
+
+    /**
+     * 바깥 인코더에 평문 대신 넣을 값. 기존 해시 전체(접두사 포함)의 SHA-256을 패딩 없는 Base64로 나타낸 43자입니다.
+     */
+    public static String outerInput(String innerEncodedPassword) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(innerEncodedPassword.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param innerEncodedPassword 기존 해시 (접두사 포함)
+     * @param outerEncodedPassword {@link #outerInput(String) outerInput(innerEncodedPassword)}를 새 인코더로 인코딩한 해시
+     */
+    public static String wrap(String innerEncodedPassword, String outerEncodedPassword) {
+        if (!isWrappable(innerEncodedPassword) || !isWrappable(outerEncodedPassword)) {
+            throw malformed();
+        }
+        int digestStart = digestStart(innerEncodedPassword);
+        char filler = innerEncodedPassword.startsWith(BCRYPT_PREFIX) ? '.' : 'A';
+
+        var builder = new StringBuilder(PREFIX.length() + innerEncodedPassword.length() + outerEncodedPassword.length())
+                .append(PREFIX)
+                .append(innerEncodedPassword, 0, digestStart);
+        // 패딩('=')은 남겨 두어야 가린 해시에서도 다이제스트 길이(옵션의 해시 길이)를 복원할 수 있습니다.
+        for (int i = digestStart; i < innerEncodedPassword.length(); i++) {
+            builder.append(innerEncodedPassword.charAt(i) == '=' ? '=' : filler);
+        }
+        return builder.append(outerEncodedPassword).toString();
+    }
+
+    /**
+     * 다이제스트를 가린 기존 해시. {@link EncodedPasswordOptionParser}로 옵션과 솔트를 읽을 수 있습니다.
+     */
+    static String innerHash(String onionEncodedPassword) {
+        return onionEncodedPassword.substring(PREFIX.length(), outerStart(onionEncodedPassword));
+    }
+
+    static String outerHash(String onionEncodedPassword) {
+        return onionEncodedPassword.substring(outerStart(onionEncodedPassword));
+    }
+
+    /**
+     * 가린 해시의 다이제스트 자리에, 평문으로 다시 만든 해시의 다이제스트를 넣습니다.
+     * (BCrypt의 {@code $2b$}처럼 다시 만든 해시와 머리 부분이 달라도 원래 해시를 그대로 복원합니다.)
+     *
+     * @return 다이제스트 길이가 다르면 null
+     */
+    static String restoreInnerHash(String maskedInnerHash, String recomputedInnerHash) {
+        int digestLength = maskedInnerHash.length() - digestStart(maskedInnerHash);
+        int recomputedDigestStart = digestStart(recomputedInnerHash);
+        if (recomputedInnerHash.length() - recomputedDigestStart != digestLength) {
+            return null;
+        }
+        return maskedInnerHash.substring(0, maskedInnerHash.length() - digestLength)
+                + recomputedInnerHash.substring(recomputedDigestStart);
+    }
+
+    private static boolean isWrappable(String encodedPassword) {
+        return encodedPassword != null
+                && encodedPassword.startsWith("{")
+                && !isOnion(encodedPassword)
+                && encodedPassword.indexOf('{', 1) < 0;
+    }
+
+    // BCrypt는 마지막 31자, 나머지 양식은 마지막 '$' 뒤가 다이제스트입니다.
+    private static int digestStart(String encodedPassword) {
+        if (encodedPassword.startsWith(BCRYPT_PREFIX)) {
+            int start = encodedPassword.length() - BCRYPT_ENCODED_HASH_LENGTH;
+            if (start <= BCRYPT_PREFIX.length()) {
+                throw malformed();
+            }
+            return start;
+        }
+        int separator = encodedPassword.lastIndexOf('$');
+        if (separator < 0 || separator == encodedPassword.length() - 1) {
+            throw malformed();
+        }
+        return separator + 1;
+    }
+
+    private static int outerStart(String onionEncodedPassword) {
+        int innerStart = PREFIX.length();
+        int outerStart = onionEncodedPassword.indexOf('{', innerStart + 1);
+        if (!onionEncodedPassword.startsWith("{", innerStart) || outerStart < 0) {
+            throw malformed();
+        }
+        return outerStart;
+    }
+
+    private static PasswordEncoderGenerationException malformed() {
+        return new PasswordEncoderGenerationException("Malformed encoded password.");
+    }
+}
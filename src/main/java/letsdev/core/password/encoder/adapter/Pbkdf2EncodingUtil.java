@@ -0,0 +1,110 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+
+import java.util.Base64;
+
+/**
+ * {@code {pbkdf2}$pbkdf2-sha256$i=600000$salt$hash} (솔트, 해시: 패딩 없는 표준 base64)
+ * <p>
+ * Argon2 해시처럼 파라미터를 해시에 함께 저장하므로, 설정이 바뀌어도 이전 해시를 검증하고 업그레이드 대상을 고를 수 있습니다.
+ */
+final class Pbkdf2EncodingUtil {
+
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+    private static final String PREFIX = "{pbkdf2}";
+
+    private Pbkdf2EncodingUtil() {
+    }
+
+    static String encode(Pbkdf2Algorithm algorithm, int iterations, byte[] salt, byte[] hash) {
+        return new StringBuilder(PREFIX)
+                .append('$').append(algorithm.identifier())
+                .append("$i=").append(iterations)
+                .append('$').append(BASE64_ENCODER.encodeToString(salt))
+                .append('$').append(BASE64_ENCODER.encodeToString(hash))
+                .toString();
+    }
+
+    static DecodedPbkdf2Hash decode(String encodedPassword) {
+        if (encodedPassword == null) {
+            throw malformed();
+        }
+        int position = encodedPassword.startsWith(PREFIX) ? PREFIX.length() : 0;
+        if (!encodedPassword.startsWith("$", position)) {
+            throw malformed();
+        }
+        int algorithmEnd = encodedPassword.indexOf('$', position + 1);
+        if (algorithmEnd < 0) {
+            throw malformed();
+        }
+        Pbkdf2Algorithm algorithm = Pbkdf2Algorithm.fromIdentifier(encodedPassword.substring(position + 1, algorithmEnd));
+        if (algorithm == null) {
+            throw new PasswordEncoderGenerationException(
+                    STR."Not supported: \{encodedPassword.substring(position + 1, algorithmEnd)}"
+            );
+        }
+
+        if (!encodedPassword.startsWith("$i=", algorithmEnd)) {
+            throw malformed();
+        }
+        int iterationsEnd = encodedPassword.indexOf('$', algorithmEnd + 3);
+        int saltEnd = iterationsEnd < 0 ? -1 : encodedPassword.indexOf('$', iterationsEnd + 1);
+        if (saltEnd < 0) {
+            throw malformed();
+        }
+        int iterations = parsePositiveInt(encodedPassword, algorithmEnd + 3, iterationsEnd);
+        byte[] salt = Argon2EncodingUtil.decodeBase64(encodedPassword, iterationsEnd + 1, saltEnd);
+        byte[] digest = Argon2EncodingUtil.decodeBase64(encodedPassword, saltEnd + 1, encodedPassword.length());
+
+        return new DecodedPbkdf2Hash(algorithm, iterations, salt, digest);
+    }
+
+    /**
+     * 다른 알고리즘이거나 다른 PRF, 반복 횟수·길이가 현재 설정보다 작으면 업그레이드 대상입니다.
+     */
+    static boolean needsUpgrade(
+            String encodedPassword,
+            Pbkdf2Algorithm algorithm,
+            int iterations,
+            int saltLength,
+            int hashLength
+    ) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        DecodedPbkdf2Hash decoded;
+        try {
+            decoded = decode(encodedPassword);
+        } catch (PasswordEncoderGenerationException e) {
+            return true;
+        }
+        return decoded.algorithm() != algorithm
+                || decoded.iterations() < iterations
+                || decoded.salt().length < saltLength
+                || decoded.digest().length < hashLength;
+    }
+
+    private static int parsePositiveInt(String source, int start, int end) {
+        if (start >= end || end - start > 10) {
+            throw malformed();
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                throw malformed();
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (value <= 0 || value > Integer.MAX_VALUE) {
+            throw malformed();
+        }
+        return (int) value;
+    }
+
+    private static PasswordEncoderGenerationException malformed() {
+        return new PasswordEncoderGenerationException("Malformed encoded password.");
+    }
+}
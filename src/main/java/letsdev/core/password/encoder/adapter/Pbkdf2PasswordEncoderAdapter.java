@@ -0,0 +1,97 @@
+package letsdev.core.password.encoder.adapter;
+
+import jakarta.annotation.Nonnull;
+import letsdev.core.password.encoder.RawPasswordBuffer;
+import letsdev.core.password.encoder.engine.Pbkdf2Engine;
+import letsdev.core.password.encoder.engine.SaltSource;
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm;
+import letsdev.core.password.encoder.option.Pbkdf2PasswordEncoderOption;
+import letsdev.core.password.encoder.port.Pbkdf2CustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.Pbkdf2PasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderEncryptionException;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * PBKDF2-HMAC-SHA256/512 어댑터. 해싱은 {@link Pbkdf2Engine}이 수행합니다.
+ * 결과는 {@code SecretKeyFactory("PBKDF2WithHmacSHA256")} 등으로 유도한 키와 같습니다.
+ */
+public class Pbkdf2PasswordEncoderAdapter
+        implements Pbkdf2PasswordEncoder,
+        Pbkdf2CustomSaltingPasswordEncoder {
+
+    private final SaltSource saltSource;
+    private final Pbkdf2Algorithm algorithm;
+    private final int iterations;
+    private final int saltLength;
+    private final int hashLength;
+
+    public Pbkdf2PasswordEncoderAdapter(Pbkdf2PasswordEncoderOption option) {
+        this(option, SaltSource.unpooled());
+    }
+
+    public Pbkdf2PasswordEncoderAdapter(Pbkdf2PasswordEncoderOption option, SaltSource saltSource) {
+        this.saltSource = saltSource;
+        this.algorithm = option.algorithm();
+        this.iterations = option.iterations();
+        this.saltLength = option.saltLength();
+        this.hashLength = option.hashLength();
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encode(buffer));
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        return encodeWithCustomSalt(rawPassword, saltSource.nextSalt(saltLength));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(@Nonnull String rawPassword, @Nonnull byte[] salt) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encodeWithCustomSalt(buffer, salt));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(@Nonnull ByteBuffer rawPassword, @Nonnull byte[] salt) {
+        Objects.requireNonNull(rawPassword);
+        Objects.requireNonNull(salt);
+        if (salt.length != saltLength) {
+            throw new PasswordEncoderEncryptionException(
+                    STR."Salt length for PBKDF2 encryption must be exactly \{saltLength} bytes. Input length: \{salt.length}"
+            );
+        }
+
+        byte[] hash = new byte[hashLength];
+        Pbkdf2Engine.deriveKey(algorithm, rawPassword, salt, iterations, hash);
+
+        return Pbkdf2EncodingUtil.encode(algorithm, iterations, salt, hash);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> matches(buffer, encodedPassword));
+    }
+
+    // 설정값이 아니라 해시에 저장된 파라미터로 다시 계산합니다.
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        DecodedPbkdf2Hash decoded = Pbkdf2EncodingUtil.decode(encodedPassword);
+
+        byte[] hash = new byte[decoded.digest().length];
+        Pbkdf2Engine.deriveKey(decoded.algorithm(), rawPassword, decoded.salt(), decoded.iterations(), hash);
+
+        return MessageDigest.isEqual(hash, decoded.digest());
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return Pbkdf2EncodingUtil.needsUpgrade(encodedPassword, algorithm, iterations, saltLength, hashLength);
+    }
+}
@@ -0,0 +1,79 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.port.NotCastedPasswordEncoder;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 재시작 없이 새 해시의 옵션을 바꿀 수 있는 인코더입니다.
+ * <ul>
+ *     <li>{@link #reload(PasswordEncoderOption)}는 현재 인코더를 원자적으로 교체합니다.
+ *     이미 시작한 해싱은 이전 인스턴스에서 끝납니다.</li>
+ *     <li>검증은 해시에 저장된 파라미터로 인코더를 고르는 {@code verifier}가 맡으므로, 이전 옵션의 해시도 검증됩니다.</li>
+ * </ul>
+ */
+public class ReloadablePasswordEncoder implements PasswordEncoder {
+
+    private final Function<PasswordEncoderOption, PasswordEncoder> encoderResolver;
+    private final NotCastedPasswordEncoder verifier;
+    private final AtomicReference<Current> current;
+
+    public ReloadablePasswordEncoder(
+            PasswordEncoderOption initialOption,
+            Function<PasswordEncoderOption, PasswordEncoder> encoderResolver,
+            NotCastedPasswordEncoder verifier
+    ) {
+        this.encoderResolver = encoderResolver;
+        this.verifier = verifier;
+        this.current = new AtomicReference<>(resolve(initialOption));
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return current.get().encoder().encode(rawPassword);
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        return current.get().encoder().encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return verifier.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        return verifier.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return current.get().encoder().needsUpgrade(encodedPassword);
+    }
+
+    /**
+     * @return 교체되기 전의 옵션
+     */
+    public PasswordEncoderOption reload(PasswordEncoderOption option) {
+        return current.getAndSet(resolve(option)).option();
+    }
+
+    public PasswordEncoderOption currentOption() {
+        return current.get().option();
+    }
+
+    private Current resolve(PasswordEncoderOption option) {
+        Objects.requireNonNull(option);
+        return new Current(option, encoderResolver.apply(option));
+    }
+
+    private record Current(PasswordEncoderOption option, PasswordEncoder encoder) {
+    }
+}
@@ -0,0 +1,104 @@
+package letsdev.core.password.encoder.adapter;
+
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+
+import java.util.Base64;
+
+/**
+ * Spring Security {@code SCryptPasswordEncoder}의 해시 문자열과 같은 양식입니다.
+ * <pre>
+ * {scrypt}$&lt;params&gt;$&lt;salt&gt;$&lt;hash&gt;
+ * params: (log2(N) &lt;&lt; 16 | r &lt;&lt; 8 | p)의 16진수, salt/hash: 표준 base64 (패딩 포함)
+ * </pre>
+ * 다른 서비스에서 만든 기존 해시({@code {scrypt}} 접두사가 없는 해시 포함)를 그대로 검증할 수 있습니다.
+ */
+final class ScryptEncodingUtil {
+
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
+    private static final String PREFIX = "{scrypt}";
+
+    private ScryptEncodingUtil() {
+    }
+
+    static String encode(int cpuCost, int memoryCost, int parallelization, byte[] salt, byte[] hash) {
+        long params = (long) Integer.numberOfTrailingZeros(cpuCost) << 16 | memoryCost << 8 | parallelization;
+        return new StringBuilder(PREFIX)
+                .append('$').append(Long.toString(params, 16))
+                .append('$').append(BASE64_ENCODER.encodeToString(salt))
+                .append('$').append(BASE64_ENCODER.encodeToString(hash))
+                .toString();
+    }
+
+    static DecodedScryptHash decode(String encodedPassword) {
+        if (encodedPassword == null) {
+            throw malformed();
+        }
+        int position = encodedPassword.startsWith(PREFIX) ? PREFIX.length() : 0;
+        if (!encodedPassword.startsWith("$", position)) {
+            throw malformed();
+        }
+        int paramsEnd = encodedPassword.indexOf('$', position + 1);
+        int saltEnd = paramsEnd < 0 ? -1 : encodedPassword.indexOf('$', paramsEnd + 1);
+        if (saltEnd < 0) {
+            throw malformed();
+        }
+
+        long params = parseHex(encodedPassword, position + 1, paramsEnd);
+        int log2CpuCost = (int) (params >> 16 & 0xffff);
+        int memoryCost = (int) (params >> 8 & 0xff);
+        int parallelization = (int) (params & 0xff);
+        if (log2CpuCost < 1 || log2CpuCost > 30 || memoryCost == 0 || parallelization == 0) {
+            throw malformed();
+        }
+        byte[] salt = Argon2EncodingUtil.decodeBase64(encodedPassword, paramsEnd + 1, saltEnd);
+        byte[] digest = Argon2EncodingUtil.decodeBase64(encodedPassword, saltEnd + 1, encodedPassword.length());
+
+        return new DecodedScryptHash(1 << log2CpuCost, memoryCost, parallelization, salt, digest);
+    }
+
+    /**
+     * 다른 알고리즘이거나 비용(N, r, p)·길이가 현재 설정보다 작으면 업그레이드 대상입니다.
+     */
+    static boolean needsUpgrade(
+            String encodedPassword,
+            int cpuCost,
+            int memoryCost,
+            int parallelization,
+            int saltLength,
+            int keyLength
+    ) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        DecodedScryptHash decoded;
+        try {
+            decoded = decode(encodedPassword);
+        } catch (PasswordEncoderGenerationException e) {
+            return true;
+        }
+        return decoded.cpuCost() < cpuCost
+                || decoded.memoryCost() < memoryCost
+                || decoded.parallelization() < parallelization
+                || decoded.salt().length < saltLength
+                || decoded.digest().length < keyLength;
+    }
+
+    private static long parseHex(String source, int start, int end) {
+        if (start >= end || end - start > 8) {
+            throw malformed();
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(source.charAt(i), 16);
+            if (digit < 0) {
+                throw malformed();
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static PasswordEncoderGenerationException malformed() {
+        return new PasswordEncoderGenerationException("Malformed encoded password.");
+    }
+}
@@ -0,0 +1,121 @@
+package letsdev.core.password.encoder.adapter;
+
+import jakarta.annotation.Nonnull;
+import letsdev.core.password.encoder.RawPasswordBuffer;
+import letsdev.core.password.encoder.engine.PooledMemoryHolder;
+import letsdev.core.password.encoder.engine.SaltSource;
+import letsdev.core.password.encoder.engine.ScryptEngine;
+import letsdev.core.password.encoder.engine.ScryptMemoryPool;
+import letsdev.core.password.encoder.option.ScryptPasswordEncoderOption;
+import letsdev.core.password.encoder.port.ScryptCustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.ScryptPasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderEncryptionException;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * scrypt 어댑터. 해싱은 {@link ScryptEngine}이 수행하며, 결과는 Spring Security {@code SCryptPasswordEncoder}와 같은 양식입니다.
+ */
+public class ScryptPasswordEncoderAdapter
+        implements ScryptPasswordEncoder,
+        ScryptCustomSaltingPasswordEncoder,
+        PooledMemoryHolder {
+
+    private final ScryptEngine engine;
+    private final SaltSource saltSource;
+    private final int cpuCost;
+    private final int memoryCost;
+    private final int parallelization;
+    private final int keyLength;
+    private final int saltLength;
+
+    public ScryptPasswordEncoderAdapter(ScryptPasswordEncoderOption option) {
+        this(option, new ScryptEngine(new ScryptMemoryPool()), SaltSource.unpooled());
+    }
+
+    public ScryptPasswordEncoderAdapter(ScryptPasswordEncoderOption option, ScryptEngine engine, SaltSource saltSource) {
+        this.engine = engine;
+        this.saltSource = saltSource;
+        this.cpuCost = option.cpuCost();
+        this.memoryCost = option.memoryCost();
+        this.parallelization = option.parallelization();
+        this.keyLength = option.keyLength();
+        this.saltLength = option.saltLength();
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encode(buffer));
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        return encodeWithCustomSalt(rawPassword, saltSource.nextSalt(saltLength));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(@Nonnull String rawPassword, @Nonnull byte[] salt) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encodeWithCustomSalt(buffer, salt));
+    }
+
+    @Override
+    public String encodeWithCustomSalt(@Nonnull ByteBuffer rawPassword, @Nonnull byte[] salt) {
+        Objects.requireNonNull(rawPassword);
+        Objects.requireNonNull(salt);
+        if (salt.length != saltLength) {
+            throw new PasswordEncoderEncryptionException(
+                    STR."Salt length for scrypt encryption must be exactly \{saltLength} bytes. Input length: \{salt.length}"
+            );
+        }
+
+        byte[] hash = new byte[keyLength];
+        engine.generateBytes(rawPassword, salt, cpuCost, memoryCost, parallelization, hash);
+
+        return ScryptEncodingUtil.encode(cpuCost, memoryCost, parallelization, salt, hash);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Objects.requireNonNull(rawPassword);
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> matches(buffer, encodedPassword));
+    }
+
+    // 설정값이 아니라 해시에 저장된 파라미터로 다시 계산합니다.
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        DecodedScryptHash decoded = ScryptEncodingUtil.decode(encodedPassword);
+
+        byte[] hash = new byte[decoded.digest().length];
+        engine.generateBytes(
+                rawPassword,
+                decoded.salt(),
+                decoded.cpuCost(),
+                decoded.memoryCost(),
+                decoded.parallelization(),
+                hash
+        );
+
+        return MessageDigest.isEqual(hash, decoded.digest());
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return ScryptEncodingUtil.needsUpgrade(
+                encodedPassword,
+                cpuCost,
+                memoryCost,
+                parallelization,
+                saltLength,
+                keyLength
+        );
+    }
+
+    @Override
+    public void releasePooledMemory() {
+        engine.memoryPool().clear();
+    }
+}
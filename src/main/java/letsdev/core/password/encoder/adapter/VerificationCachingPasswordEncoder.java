@@ -0,0 +1,170 @@
+package letsdev.core.password.encoder.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import letsdev.core.password.encoder.RawPasswordBuffer;
+import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder;
+import letsdev.core.password.encoder.port.NotCastedPasswordEncoder;
+import letsdev.core.password.encoder.port.PasswordEncoder;
+import letsdev.core.password.exception.PasswordEncoderGenerationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 짧은 시간 안에 반복되는 {@code matches(raw, encoded)}의 성공 결과를 캐싱합니다. (로그인 재시도 등)
+ * <ul>
+ *     <li>일치한 결과만 캐싱합니다. 불일치는 매번 해싱합니다.</li>
+ *     <li>캐시 키는 프로세스마다 무작위로 만든 키로 계산한 HMAC-SHA256(raw, encoded)입니다.
+ *     평문 비밀번호나 해시를 보관하지 않습니다.</li>
+ *     <li>최대 개수와 TTL(쓰기 기준)을 반드시 지정합니다.</li>
+ *     <li>비밀번호를 바꾸면 해시가 달라지므로 이전 결과는 다시 조회되지 않습니다.</li>
+ * </ul>
+ */
+public class VerificationCachingPasswordEncoder implements PasswordEncoder, CustomSaltingPasswordEncoder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HMAC_KEY_LENGTH = 32;
+
+    private final NotCastedPasswordEncoder delegatedEncoder;
+    private final Cache<ByteBuffer, Boolean> verifiedCache;
+    private final ThreadLocal<Mac> macs;
+
+    public VerificationCachingPasswordEncoder(
+            NotCastedPasswordEncoder delegatedEncoder,
+            long maximumSize,
+            long timeToLive,
+            TimeUnit timeToLiveUnit
+    ) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize는 양수여야 합니다.");
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("timeToLive는 양수여야 합니다.");
+        }
+        this.delegatedEncoder = delegatedEncoder;
+        this.verifiedCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive, timeToLiveUnit)
+                .recordStats()
+                .build();
+
+        byte[] key = new byte[HMAC_KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(keySpec));
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        if (delegatedEncoder instanceof PasswordEncoder passwordEncoder) {
+            return passwordEncoder.encode(rawPassword);
+        }
+        throw new PasswordEncoderGenerationException("Not supported: PasswordEncoder");
+    }
+
+    @Override
+    public String encode(ByteBuffer rawPassword) {
+        if (delegatedEncoder instanceof PasswordEncoder passwordEncoder) {
+            return passwordEncoder.encode(rawPassword);
+        }
+        throw new PasswordEncoderGenerationException("Not supported: PasswordEncoder");
+    }
+
+    @Override
+    public String encodeWithCustomSalt(String rawPassword, byte[] salt) {
+        if (delegatedEncoder instanceof CustomSaltingPasswordEncoder customSaltingPasswordEncoder) {
+            return customSaltingPasswordEncoder.encodeWithCustomSalt(rawPassword, salt);
+        }
+        throw new PasswordEncoderGenerationException("Not supported: CustomSaltingPasswordEncoder");
+    }
+
+    @Override
+    public String encodeWithCustomSalt(ByteBuffer rawPassword, byte[] salt) {
+        if (delegatedEncoder instanceof CustomSaltingPasswordEncoder customSaltingPasswordEncoder) {
+            return customSaltingPasswordEncoder.encodeWithCustomSalt(rawPassword, salt);
+        }
+        throw new PasswordEncoderGenerationException("Not supported: CustomSaltingPasswordEncoder");
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegatedEncoder.matches(rawPassword, encodedPassword);
+        }
+        ByteBuffer key = RawPasswordBuffer.applyUtf8(rawPassword, buffer -> cacheKey(buffer, encodedPassword));
+        return matchesWithCache(key, () -> delegatedEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegatedEncoder.matches(rawPassword, encodedPassword);
+        }
+        ByteBuffer key = cacheKey(rawPassword, encodedPassword);
+        return matchesWithCache(key, () -> delegatedEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return delegatedEncoder instanceof PasswordEncoder passwordEncoder
+                && passwordEncoder.needsUpgrade(encodedPassword);
+    }
+
+    public CacheStats stats() {
+        return verifiedCache.stats();
+    }
+
+    public double hitRate() {
+        return verifiedCache.stats().hitRate();
+    }
+
+    public long estimatedSize() {
+        return verifiedCache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        verifiedCache.invalidateAll();
+    }
+
+    public NotCastedPasswordEncoder delegatedEncoder() {
+        return delegatedEncoder;
+    }
+
+    private boolean matchesWithCache(ByteBuffer key, BooleanSupplier verification) {
+        if (verifiedCache.getIfPresent(key) != null) {
+            return true;
+        }
+        boolean matched = verification.getAsBoolean();
+        if (matched) {
+            verifiedCache.put(key, Boolean.TRUE);
+        }
+        return matched;
+    }
+
+    // 두 입력의 경계가 모호하지 않도록 평문 길이를 먼저 넣습니다.
+    private ByteBuffer cacheKey(ByteBuffer rawPassword, String encodedPassword) {
+        Mac mac = macs.get();
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, rawPassword.remaining()));
+        mac.update(rawPassword.duplicate());
+        mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(mac.doFinal());
+    }
+
+    private static Mac newMac(SecretKeySpec keySpec) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new PasswordEncoderGenerationException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package letsdev.core.password.encoder.engine;
+
+import letsdev.core.password.encoder.option.Argon2Compression;
+
+/**
+ * Argon2 압축 함수 G의 순열 P 부분. 128개의 64비트 워드(1 KiB 블록)를 8행, 8열 순서로 섞습니다.
+ */
+interface Argon2BlockCompressor {
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    void compress(long[] block);
+
+    /**
+     * {@link Argon2Compression#VECTOR}를 쓸 수 없는 환경이면 스칼라 구현을 반환합니다.
+     */
+    static Argon2BlockCompressor of(Argon2Compression compression) {
+        if (compression == Argon2Compression.VECTOR && isVectorModulePresent() && VectorArgon2BlockCompressor.isSupported()) {
+            return VectorArgon2BlockCompressor.INSTANCE;
+        }
+        return ScalarArgon2BlockCompressor.INSTANCE;
+    }
+
+    // 모듈이 없으면 벡터 구현 클래스를 읽는 순간 NoClassDefFoundError가 나므로 먼저 확인합니다.
+    private static boolean isVectorModulePresent() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+}
@@ -0,0 +1,491 @@
+package letsdev.core.password.encoder.engine;
+
+import letsdev.core.password.encoder.option.Argon2Compression;
+import letsdev.core.password.exception.PasswordEncoderEncryptionException;
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.bouncycastle.util.Pack;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * RFC 9106 Argon2 구현. Bouncy Castle의 {@code Argon2BytesGenerator}와 같은 결과를 만듭니다.
+ * <p>
+ * 블록 행렬을 호출마다 새로 할당하지 않고 {@link Argon2MemoryPool}에서 빌려 씁니다.
+ * 블록 i는 평탄화된 {@code long[]} 행렬의 {@code [i * 128, (i + 1) * 128)} 구간입니다.
+ * 행렬을 빌리기 전에 {@link Argon2MemoryBudget}에서 행렬 크기만큼 예산을 점유합니다.
+ * <p>
+ * parallelism(p)이 2 이상이고 레인 실행기가 주어지면, 각 슬라이스의 레인들을 동시에 채우고
+ * 슬라이스마다 모든 레인이 끝나기를 기다립니다. (한 슬라이스 안에서 레인들은 서로의 현재 세그먼트를 참조하지 않습니다.)
+ * 실행기가 바쁘면 아직 시작되지 않은 레인은 호출 스레드가 직접 채웁니다.
+ * <p>
+ * 압축 함수의 순열 P는 {@link Argon2Compression}에 따라 스칼라 또는 Vector API 구현을 씁니다.
+ */
+public class Argon2Engine {
+
+    private static final int ARGON2_QWORDS_IN_BLOCK = 128;
+    private static final int ARGON2_BLOCK_SIZE = 1024;
+    private static final int ARGON2_ADDRESSES_IN_BLOCK = 128;
+    private static final int ARGON2_PREHASH_DIGEST_LENGTH = 64;
+    private static final int ARGON2_PREHASH_SEED_LENGTH = 72;
+    private static final int ARGON2_SYNC_POINTS = 4;
+    private static final int MIN_PARALLELISM = 1;
+    private static final int MAX_PARALLELISM = 16_777_216;
+    private static final int MIN_OUTPUT_LENGTH = 4;
+    private static final int MIN_ITERATIONS = 1;
+    private static final long M32L = 0xFFFFFFFFL;
+
+    private final Argon2MemoryPool memoryPool;
+    private final Argon2MemoryBudget memoryBudget;
+    private final Executor laneExecutor;
+    private final Argon2BlockCompressor compressor;
+
+    public Argon2Engine(Argon2MemoryPool memoryPool) {
+        this(memoryPool, Argon2MemoryBudget.unlimited());
+    }
+
+    public Argon2Engine(Argon2MemoryPool memoryPool, Argon2MemoryBudget memoryBudget) {
+        this(memoryPool, memoryBudget, null);
+    }
+
+    /**
+     * @param laneExecutor 레인을 병렬로 채울 실행기. null이면 호출 스레드에서 순서대로 채웁니다.
+     */
+    public Argon2Engine(Argon2MemoryPool memoryPool, Argon2MemoryBudget memoryBudget, Executor laneExecutor) {
+        this(memoryPool, memoryBudget, laneExecutor, Argon2Compression.SCALAR);
+    }
+
+    /**
+     * @param compression 압축 함수 구현. {@link Argon2Compression#VECTOR}를 쓸 수 없는 환경이면 스칼라로 동작합니다.
+     */
+    public Argon2Engine(
+            Argon2MemoryPool memoryPool,
+            Argon2MemoryBudget memoryBudget,
+            Executor laneExecutor,
+            Argon2Compression compression
+    ) {
+        this.memoryPool = memoryPool;
+        this.memoryBudget = memoryBudget;
+        this.laneExecutor = laneExecutor;
+        this.compressor = Argon2BlockCompressor.of(compression);
+    }
+
+    public Argon2MemoryPool memoryPool() {
+        return memoryPool;
+    }
+
+    /**
+     * 실제로 사용하는 압축 함수 구현 (벡터를 요청했지만 쓸 수 없으면 SCALAR)
+     */
+    public Argon2Compression compression() {
+        return compressor == ScalarArgon2BlockCompressor.INSTANCE ? Argon2Compression.SCALAR : Argon2Compression.VECTOR;
+    }
+
+    public void generateBytes(Argon2Parameters parameters, byte[] password, byte[] out) {
+        generateBytes(parameters, ByteBuffer.wrap(password), out);
+    }
+
+    /**
+     * @param password 비밀번호 바이트. position부터 limit까지 읽으며, 버퍼의 position은 바꾸지 않습니다.
+     */
+    public void generateBytes(Argon2Parameters parameters, ByteBuffer password, byte[] out) {
+        var instance = new Instance(parameters, out.length);
+        int acquiredKiB = memoryBudget.acquire(instance.memoryBlocks);
+        try {
+            long[] memory = memoryPool.acquire(instance.memoryBlocks);
+            try {
+                initialize(instance, parameters, password, out.length, memory);
+                fillMemoryBlocks(instance, memory);
+                digest(instance, memory, out);
+            } finally {
+                memoryPool.release(memory);
+            }
+        } finally {
+            memoryBudget.release(acquiredKiB);
+        }
+    }
+
+    private void initialize(
+            Instance instance,
+            Argon2Parameters parameters,
+            ByteBuffer password,
+            int outputLength,
+            long[] memory
+    ) {
+        var blake = new Blake2bDigest(ARGON2_PREHASH_DIGEST_LENGTH * 8);
+        addIntToLittleEndian(blake, instance.lanes);
+        addIntToLittleEndian(blake, outputLength);
+        addIntToLittleEndian(blake, parameters.getMemory());
+        addIntToLittleEndian(blake, instance.iterations);
+        addIntToLittleEndian(blake, instance.version);
+        addIntToLittleEndian(blake, instance.type);
+        addByteString(blake, password);
+        addByteString(blake, parameters.getSalt());
+        addByteString(blake, parameters.getSecret());
+        addByteString(blake, parameters.getAdditional());
+
+        byte[] initialHashWithZeros = new byte[ARGON2_PREHASH_SEED_LENGTH];
+        blake.doFinal(initialHashWithZeros, 0);
+
+        byte[] blockBytes = new byte[ARGON2_BLOCK_SIZE];
+        for (int lane = 0; lane < instance.lanes; lane++) {
+            Pack.intToLittleEndian(lane, initialHashWithZeros, ARGON2_PREHASH_DIGEST_LENGTH + 4);
+
+            Pack.intToLittleEndian(0, initialHashWithZeros, ARGON2_PREHASH_DIGEST_LENGTH);
+            hash(initialHashWithZeros, blockBytes, 0, ARGON2_BLOCK_SIZE);
+            loadBlock(blockBytes, memory, (lane * instance.laneLength) * ARGON2_QWORDS_IN_BLOCK);
+
+            Pack.intToLittleEndian(1, initialHashWithZeros, ARGON2_PREHASH_DIGEST_LENGTH);
+            hash(initialHashWithZeros, blockBytes, 0, ARGON2_BLOCK_SIZE);
+            loadBlock(blockBytes, memory, (lane * instance.laneLength + 1) * ARGON2_QWORDS_IN_BLOCK);
+        }
+        Arrays.fill(initialHashWithZeros, (byte) 0);
+        Arrays.fill(blockBytes, (byte) 0);
+    }
+
+    private void fillMemoryBlocks(Instance instance, long[] memory) {
+        if (laneExecutor == null || instance.lanes == 1) {
+            var state = new FillState();
+            for (int pass = 0; pass < instance.iterations; pass++) {
+                for (int slice = 0; slice < ARGON2_SYNC_POINTS; slice++) {
+                    for (int lane = 0; lane < instance.lanes; lane++) {
+                        fillSegment(instance, memory, state, pass, lane, slice);
+                    }
+                }
+            }
+            state.wipe();
+            return;
+        }
+
+        var states = new FillState[instance.lanes];
+        for (int lane = 0; lane < instance.lanes; lane++) {
+            states[lane] = new FillState();
+        }
+        @SuppressWarnings("unchecked")
+        var laneTasks = (FutureTask<Void>[]) new FutureTask[instance.lanes];
+        try {
+            for (int pass = 0; pass < instance.iterations; pass++) {
+                for (int slice = 0; slice < ARGON2_SYNC_POINTS; slice++) {
+                    for (int lane = 1; lane < instance.lanes; lane++) {
+                        int currentPass = pass;
+                        int currentLane = lane;
+                        int currentSlice = slice;
+                        laneTasks[lane] = new FutureTask<>(() -> fillSegment(
+                                instance, memory, states[currentLane], currentPass, currentLane, currentSlice
+                        ), null);
+                        submit(laneTasks[lane]);
+                    }
+                    fillSegment(instance, memory, states[0], pass, 0, slice);
+                    awaitLanes(laneTasks, instance.lanes);
+                }
+            }
+        } finally {
+            for (FillState state : states) {
+                state.wipe();
+            }
+        }
+    }
+
+    private void submit(FutureTask<Void> laneTask) {
+        try {
+            laneExecutor.execute(laneTask);
+        } catch (RuntimeException ignored) {
+            // 실행기가 작업을 받지 못하면 awaitLanes에서 호출 스레드가 직접 채웁니다.
+        }
+    }
+
+    // 슬라이스 경계의 동기화 지점
+    private static void awaitLanes(FutureTask<Void>[] laneTasks, int lanes) {
+        for (int lane = 1; lane < lanes; lane++) {
+            FutureTask<Void> laneTask = laneTasks[lane];
+            laneTask.run(); // 아직 시작되지 않았다면 직접 채우고, 이미 실행 중이거나 끝났다면 아무 일도 하지 않습니다.
+            try {
+                laneTask.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PasswordEncoderEncryptionException("Interrupted while filling Argon2 lanes.", e);
+            } catch (ExecutionException e) {
+                throw new PasswordEncoderEncryptionException("Failed to fill Argon2 lane.", e.getCause());
+            }
+        }
+    }
+
+    private void fillSegment(Instance instance, long[] memory, FillState state, int pass, int lane, int slice) {
+        boolean dataIndependentAddressing = isDataIndependentAddressing(instance, pass, slice);
+        int startingIndex = (pass == 0 && slice == 0) ? 2 : 0;
+
+        if (dataIndependentAddressing) {
+            Arrays.fill(state.inputBlock, 0L);
+            Arrays.fill(state.zeroBlock, 0L);
+            state.inputBlock[0] = pass;
+            state.inputBlock[1] = lane;
+            state.inputBlock[2] = slice;
+            state.inputBlock[3] = instance.memoryBlocks;
+            state.inputBlock[4] = instance.iterations;
+            state.inputBlock[5] = instance.type;
+            if (startingIndex == 2) {
+                nextAddresses(state);
+            }
+        }
+
+        int currentOffset = lane * instance.laneLength + slice * instance.segmentLength + startingIndex;
+        int prevOffset = (currentOffset % instance.laneLength == 0)
+                ? currentOffset + instance.laneLength - 1
+                : currentOffset - 1;
+        boolean withXor = instance.version != Argon2Parameters.ARGON2_VERSION_10 && pass != 0;
+
+        for (int index = startingIndex; index < instance.segmentLength; index++, currentOffset++, prevOffset++) {
+            if (currentOffset % instance.laneLength == 1) {
+                prevOffset = currentOffset - 1;
+            }
+
+            long pseudoRandom;
+            if (dataIndependentAddressing) {
+                if (index % ARGON2_ADDRESSES_IN_BLOCK == 0) {
+                    nextAddresses(state);
+                }
+                pseudoRandom = state.addressBlock[index % ARGON2_ADDRESSES_IN_BLOCK];
+            } else {
+                pseudoRandom = memory[prevOffset * ARGON2_QWORDS_IN_BLOCK];
+            }
+
+            int refLane = (pass == 0 && slice == 0)
+                    ? lane
+                    : (int) ((pseudoRandom >>> 32) % instance.lanes);
+            int refColumn = indexAlpha(instance, pass, slice, index, pseudoRandom, refLane == lane);
+            int refOffset = instance.laneLength * refLane + refColumn;
+
+            fillBlock(
+                    memory, prevOffset * ARGON2_QWORDS_IN_BLOCK,
+                    memory, refOffset * ARGON2_QWORDS_IN_BLOCK,
+                    memory, currentOffset * ARGON2_QWORDS_IN_BLOCK,
+                    withXor,
+                    state
+            );
+        }
+    }
+
+    private static boolean isDataIndependentAddressing(Instance instance, int pass, int slice) {
+        return instance.type == Argon2Parameters.ARGON2_i
+                || (instance.type == Argon2Parameters.ARGON2_id && pass == 0 && slice < ARGON2_SYNC_POINTS / 2);
+    }
+
+    private void nextAddresses(FillState state) {
+        state.inputBlock[6]++;
+        fillBlock(state.zeroBlock, 0, state.inputBlock, 0, state.addressBlock, 0, false, state);
+        fillBlock(state.zeroBlock, 0, state.addressBlock, 0, state.addressBlock, 0, false, state);
+    }
+
+    private static int indexAlpha(
+            Instance instance,
+            int pass,
+            int slice,
+            int index,
+            long pseudoRandom,
+            boolean sameLane
+    ) {
+        long referenceAreaSize;
+        if (pass == 0) {
+            if (slice == 0) {
+                referenceAreaSize = index - 1;
+            } else if (sameLane) {
+                referenceAreaSize = (long) slice * instance.segmentLength + index - 1;
+            } else {
+                referenceAreaSize = (long) slice * instance.segmentLength + (index == 0 ? -1 : 0);
+            }
+        } else if (sameLane) {
+            referenceAreaSize = instance.laneLength - instance.segmentLength + index - 1;
+        } else {
+            referenceAreaSize = instance.laneLength - instance.segmentLength + (index == 0 ? -1 : 0);
+        }
+
+        long relativePosition = pseudoRandom & M32L;
+        relativePosition = (relativePosition * relativePosition) >>> 32;
+        relativePosition = referenceAreaSize - 1 - ((referenceAreaSize * relativePosition) >>> 32);
+
+        int startPosition = 0;
+        if (pass != 0) {
+            startPosition = (slice == ARGON2_SYNC_POINTS - 1) ? 0 : (slice + 1) * instance.segmentLength;
+        }
+        return (int) ((startPosition + relativePosition) % instance.laneLength);
+    }
+
+    /**
+     * next = G(prev ⊕ ref) (⊕ next: v1.3의 두 번째 패스부터)
+     */
+    private void fillBlock(
+            long[] prev, int prevOffset,
+            long[] ref, int refOffset,
+            long[] next, int nextOffset,
+            boolean withXor,
+            FillState state
+    ) {
+        long[] r = state.blockR;
+        long[] tmp = state.blockTmp;
+        for (int i = 0; i < ARGON2_QWORDS_IN_BLOCK; i++) {
+            r[i] = prev[prevOffset + i] ^ ref[refOffset + i];
+        }
+        if (withXor) {
+            for (int i = 0; i < ARGON2_QWORDS_IN_BLOCK; i++) {
+                tmp[i] = r[i] ^ next[nextOffset + i];
+            }
+        } else {
+            System.arraycopy(r, 0, tmp, 0, ARGON2_QWORDS_IN_BLOCK);
+        }
+
+        compressor.compress(r);
+
+        for (int i = 0; i < ARGON2_QWORDS_IN_BLOCK; i++) {
+            next[nextOffset + i] = tmp[i] ^ r[i];
+        }
+    }
+
+    private void digest(Instance instance, long[] memory, byte[] out) {
+        long[] finalBlock = new long[ARGON2_QWORDS_IN_BLOCK];
+        int lastBlockInLane = instance.laneLength - 1;
+        System.arraycopy(memory, lastBlockInLane * ARGON2_QWORDS_IN_BLOCK, finalBlock, 0, ARGON2_QWORDS_IN_BLOCK);
+        for (int lane = 1; lane < instance.lanes; lane++) {
+            int offset = (lane * instance.laneLength + lastBlockInLane) * ARGON2_QWORDS_IN_BLOCK;
+            for (int i = 0; i < ARGON2_QWORDS_IN_BLOCK; i++) {
+                finalBlock[i] ^= memory[offset + i];
+            }
+        }
+
+        byte[] finalBlockBytes = new byte[ARGON2_BLOCK_SIZE];
+        Pack.longToLittleEndian(finalBlock, finalBlockBytes, 0);
+        hash(finalBlockBytes, out, 0, out.length);
+
+        Arrays.fill(finalBlock, 0L);
+        Arrays.fill(finalBlockBytes, (byte) 0);
+    }
+
+    /**
+     * H' (가변 길이 해시 함수)
+     */
+    private static void hash(byte[] input, byte[] out, int outOffset, int outLength) {
+        byte[] outLengthBytes = Pack.intToLittleEndian(outLength);
+        int blake2bLength = ARGON2_PREHASH_DIGEST_LENGTH;
+
+        if (outLength <= blake2bLength) {
+            var blake = new Blake2bDigest(outLength * 8);
+            blake.update(outLengthBytes, 0, outLengthBytes.length);
+            blake.update(input, 0, input.length);
+            blake.doFinal(out, outOffset);
+            return;
+        }
+
+        var digest = new Blake2bDigest(blake2bLength * 8);
+        byte[] outBuffer = new byte[blake2bLength];
+        int halfLength = blake2bLength / 2;
+
+        digest.update(outLengthBytes, 0, outLengthBytes.length);
+        digest.update(input, 0, input.length);
+        digest.doFinal(outBuffer, 0);
+        System.arraycopy(outBuffer, 0, out, outOffset, halfLength);
+        int outPosition = outOffset + halfLength;
+
+        int r = ((outLength + 31) / 32) - 2;
+        for (int i = 2; i <= r; i++, outPosition += halfLength) {
+            digest.update(outBuffer, 0, outBuffer.length);
+            digest.doFinal(outBuffer, 0);
+            System.arraycopy(outBuffer, 0, out, outPosition, halfLength);
+        }
+
+        int lastLength = outLength - 32 * r;
+        digest = new Blake2bDigest(lastLength * 8);
+        digest.update(outBuffer, 0, outBuffer.length);
+        digest.doFinal(out, outPosition);
+        Arrays.fill(outBuffer, (byte) 0);
+    }
+
+    private static void loadBlock(byte[] source, long[] memory, int offset) {
+        for (int i = 0; i < ARGON2_QWORDS_IN_BLOCK; i++) {
+            memory[offset + i] = Pack.littleEndianToLong(source, i * 8);
+        }
+    }
+
+    private static void addIntToLittleEndian(Blake2bDigest digest, int n) {
+        digest.update((byte) n);
+        digest.update((byte) (n >>> 8));
+        digest.update((byte) (n >>> 16));
+        digest.update((byte) (n >>> 24));
+    }
+
+    private static void addByteString(Blake2bDigest digest, ByteBuffer octets) {
+        addIntToLittleEndian(digest, octets.remaining());
+        if (octets.hasArray()) {
+            digest.update(octets.array(), octets.arrayOffset() + octets.position(), octets.remaining());
+            return;
+        }
+        // 다이렉트 버퍼는 작은 조각으로 나누어 복사합니다.
+        byte[] chunk = new byte[Math.min(octets.remaining(), 64)];
+        ByteBuffer source = octets.duplicate();
+        while (source.hasRemaining()) {
+            int length = Math.min(source.remaining(), chunk.length);
+            source.get(chunk, 0, length);
+            digest.update(chunk, 0, length);
+        }
+        Arrays.fill(chunk, (byte) 0);
+    }
+
+    private static void addByteString(Blake2bDigest digest, byte[] octets) {
+        if (octets == null) {
+            addIntToLittleEndian(digest, 0);
+            return;
+        }
+        addIntToLittleEndian(digest, octets.length);
+        digest.update(octets, 0, octets.length);
+    }
+
+    private static final class Instance {
+        private final int type;
+        private final int version;
+        private final int iterations;
+        private final int lanes;
+        private final int memoryBlocks;
+        private final int segmentLength;
+        private final int laneLength;
+
+        private Instance(Argon2Parameters parameters, int outputLength) {
+            if (parameters.getLanes() < MIN_PARALLELISM || parameters.getLanes() > MAX_PARALLELISM) {
+                throw new IllegalStateException(
+                        STR."lanes must be between \{MIN_PARALLELISM} and \{MAX_PARALLELISM}"
+                );
+            }
+            if (parameters.getIterations() < MIN_ITERATIONS) {
+                throw new IllegalStateException(STR."iterations is less than: \{MIN_ITERATIONS}");
+            }
+            if (outputLength < MIN_OUTPUT_LENGTH) {
+                throw new IllegalStateException(STR."output length less than \{MIN_OUTPUT_LENGTH}");
+            }
+
+            this.type = parameters.getType();
+            this.version = parameters.getVersion();
+            this.iterations = parameters.getIterations();
+            this.lanes = parameters.getLanes();
+
+            int requestedBlocks = Math.max(parameters.getMemory(), 2 * ARGON2_SYNC_POINTS * lanes);
+            this.segmentLength = requestedBlocks / (lanes * ARGON2_SYNC_POINTS);
+            this.laneLength = segmentLength * ARGON2_SYNC_POINTS;
+            this.memoryBlocks = segmentLength * (lanes * ARGON2_SYNC_POINTS);
+        }
+    }
+
+    private static final class FillState {
+        private final long[] blockR = new long[ARGON2_QWORDS_IN_BLOCK];
+        private final long[] blockTmp = new long[ARGON2_QWORDS_IN_BLOCK];
+        private final long[] addressBlock = new long[ARGON2_QWORDS_IN_BLOCK];
+        private final long[] inputBlock = new long[ARGON2_QWORDS_IN_BLOCK];
+        private final long[] zeroBlock = new long[ARGON2_QWORDS_IN_BLOCK];
+
+        private void wipe() {
+            Arrays.fill(blockR, 0L);
+            Arrays.fill(blockTmp, 0L);
+            Arrays.fill(addressBlock, 0L);
+        }
+    }
+}
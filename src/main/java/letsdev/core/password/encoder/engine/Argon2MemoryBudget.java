@@ -0,0 +1,78 @@
+package letsdev.core.password.encoder.engine;
+
+import letsdev.core.password.exception.PasswordEncoderOverloadErrorCode;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 사용 중인 Argon2 블록 행렬의 총량(KiB)을 제한합니다.
+ * <ul>
+ *     <li>공정한(fair) 세마포어를 각 해시의 메모리 비용(KiB)만큼 점유합니다.</li>
+ *     <li>대기 시간 안에 점유하지 못하면 {@code PasswordEncoderOverloadException}(503)을 던집니다.</li>
+ *     <li>예산보다 큰 해시 하나는 예산 전체를 점유합니다.</li>
+ * </ul>
+ */
+public class Argon2MemoryBudget {
+
+    private static final Argon2MemoryBudget UNLIMITED = new Argon2MemoryBudget();
+
+    private final Semaphore semaphore;
+    private final int maxInFlightKiB;
+    private final long acquireTimeoutNanos;
+
+    private Argon2MemoryBudget() {
+        this.semaphore = null;
+        this.maxInFlightKiB = Integer.MAX_VALUE;
+        this.acquireTimeoutNanos = 0L;
+    }
+
+    public Argon2MemoryBudget(long maxInFlightKiB, long acquireTimeout, TimeUnit acquireTimeoutUnit) {
+        if (maxInFlightKiB <= 0 || maxInFlightKiB > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(STR."maxInFlightKiB must be between 1 and \{Integer.MAX_VALUE}");
+        }
+        if (acquireTimeout < 0) {
+            throw new IllegalArgumentException("acquireTimeout은 음수일 수 없습니다.");
+        }
+        this.semaphore = new Semaphore((int) maxInFlightKiB, true);
+        this.maxInFlightKiB = (int) maxInFlightKiB;
+        this.acquireTimeoutNanos = acquireTimeoutUnit.toNanos(acquireTimeout);
+    }
+
+    public static Argon2MemoryBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * @return 점유한 양(KiB). {@link #release(int)}에 그대로 넘겨야 합니다.
+     */
+    public int acquire(int memoryKiB) {
+        if (semaphore == null) {
+            return 0;
+        }
+        int permits = Math.min(memoryKiB, maxInFlightKiB);
+        try {
+            if (semaphore.tryAcquire(permits, acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return permits;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw PasswordEncoderOverloadErrorCode.MEMORY_BUDGET_EXHAUSTED.defaultException(e);
+        }
+        throw PasswordEncoderOverloadErrorCode.MEMORY_BUDGET_EXHAUSTED.defaultException();
+    }
+
+    public void release(int acquiredKiB) {
+        if (semaphore != null && acquiredKiB > 0) {
+            semaphore.release(acquiredKiB);
+        }
+    }
+
+    public int maxInFlightKiB() {
+        return maxInFlightKiB;
+    }
+
+    public int inFlightKiB() {
+        return semaphore != null ? maxInFlightKiB - semaphore.availablePermits() : 0;
+    }
+}
@@ -0,0 +1,63 @@
+package letsdev.core.password.encoder.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 메모리 크기(블록 수)별로 Argon2 블록 행렬을 재사용합니다.
+ * <ul>
+ *     <li>크기별로 최대 {@code maxPooledPerSize}개까지 보관하고, 초과분은 GC에 맡깁니다.</li>
+ *     <li>반납된 행렬은 보관 전에 0으로 지웁니다.</li>
+ *     <li>{@link #clear()}는 보관 중인 행렬만 놓아 줍니다. 이후 호출에서 다시 채워집니다.</li>
+ * </ul>
+ */
+public class Argon2MemoryPool {
+
+    // 보관 중인 행렬은 메모리 예산에 잡히지 않으므로(크기별 최대 개수 × 옵션 수만큼 상주) 기본값은 작게 둡니다.
+    public static final int DEFAULT_MAX_POOLED_PER_SIZE = 2;
+
+    private static final int QWORDS_IN_BLOCK = 128;
+
+    private final int maxPooledPerSize;
+    private final ConcurrentMap<Integer, BlockingQueue<long[]>> idleMatrices = new ConcurrentHashMap<>();
+
+    public Argon2MemoryPool() {
+        this(DEFAULT_MAX_POOLED_PER_SIZE);
+    }
+
+    public Argon2MemoryPool(int maxPooledPerSize) {
+        if (maxPooledPerSize < 0) {
+            throw new IllegalArgumentException("maxPooledPerSize는 음수일 수 없습니다.");
+        }
+        this.maxPooledPerSize = maxPooledPerSize;
+    }
+
+    public long[] acquire(int memoryBlocks) {
+        BlockingQueue<long[]> queue = idleMatrices.get(memoryBlocks);
+        long[] matrix = queue != null ? queue.poll() : null;
+        return matrix != null ? matrix : new long[memoryBlocks * QWORDS_IN_BLOCK];
+    }
+
+    public void release(long[] matrix) {
+        Arrays.fill(matrix, 0L);
+        if (maxPooledPerSize == 0) {
+            return;
+        }
+        int memoryBlocks = matrix.length / QWORDS_IN_BLOCK;
+        idleMatrices.computeIfAbsent(memoryBlocks, key -> new ArrayBlockingQueue<>(maxPooledPerSize))
+                .offer(matrix);
+    }
+
+    public int idleCount() {
+        return idleMatrices.values().stream()
+                .mapToInt(BlockingQueue::size)
+                .sum();
+    }
+
+    public void clear() {
+        idleMatrices.clear();
+    }
+}
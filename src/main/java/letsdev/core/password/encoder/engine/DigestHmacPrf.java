@@ -0,0 +1,109 @@
+package letsdev.core.password.encoder.engine;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * JDK {@code MessageDigest}를 재사용하는 HMAC.
+ * <p>
+ * ipad, opad 블록은 비밀번호마다 한 번만 만들고, 반복 단계는 같은 다이제스트 인스턴스에 블록과 이전 결과를 넣어
+ * 결과 배열에 바로 받습니다. ({@code Mac}의 재초기화, 반복마다의 할당이 없습니다.)
+ * 반복마다 압축 함수를 네 번 호출하지만, JVM의 SHA 인트린식(SHA-NI 등)을 그대로 쓸 수 있습니다.
+ */
+final class DigestHmacPrf implements Pbkdf2Prf {
+
+    private final MessageDigest digest;
+    private final int blockLength;
+    private final int digestLength;
+    private final byte[] innerPad;
+    private final byte[] outerPad;
+    private final byte[] previous;
+    private final byte[] accumulated;
+    private final byte[] blockIndexBytes = new byte[4];
+
+    DigestHmacPrf(String algorithm, int blockLength) {
+        try {
+            this.digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        this.blockLength = blockLength;
+        this.digestLength = digest.getDigestLength();
+        this.innerPad = new byte[blockLength];
+        this.outerPad = new byte[blockLength];
+        this.previous = new byte[digestLength];
+        this.accumulated = new byte[digestLength];
+    }
+
+    @Override
+    public int digestLength() {
+        return digestLength;
+    }
+
+    @Override
+    public void init(ByteBuffer password) {
+        Arrays.fill(innerPad, (byte) 0);
+        int keyLength = password.remaining();
+        if (keyLength > blockLength) {
+            digest.update(password.duplicate());
+            digestInto(innerPad);
+        } else {
+            password.get(password.position(), innerPad, 0, keyLength);
+        }
+        for (int i = 0; i < blockLength; i++) {
+            outerPad[i] = (byte) (innerPad[i] ^ 0x5c);
+            innerPad[i] ^= 0x36;
+        }
+    }
+
+    @Override
+    public void deriveBlock(byte[] salt, int blockIndex, int iterations, byte[] out, int offset, int length) {
+        blockIndexBytes[0] = (byte) (blockIndex >>> 24);
+        blockIndexBytes[1] = (byte) (blockIndex >>> 16);
+        blockIndexBytes[2] = (byte) (blockIndex >>> 8);
+        blockIndexBytes[3] = (byte) blockIndex;
+
+        digest.update(innerPad);
+        digest.update(salt);
+        digest.update(blockIndexBytes);
+        digestInto(previous);
+        digest.update(outerPad);
+        digest.update(previous);
+        digestInto(previous);
+        System.arraycopy(previous, 0, accumulated, 0, digestLength);
+
+        for (int i = 1; i < iterations; i++) {
+            digest.update(innerPad);
+            digest.update(previous);
+            digestInto(previous);
+            digest.update(outerPad);
+            digest.update(previous);
+            digestInto(previous);
+            for (int j = 0; j < digestLength; j++) {
+                accumulated[j] ^= previous[j];
+            }
+        }
+
+        System.arraycopy(accumulated, 0, out, offset, length);
+    }
+
+    @Override
+    public void wipe() {
+        digest.reset();
+        Arrays.fill(innerPad, (byte) 0);
+        Arrays.fill(outerPad, (byte) 0);
+        Arrays.fill(previous, (byte) 0);
+        Arrays.fill(accumulated, (byte) 0);
+    }
+
+    private void digestInto(byte[] target) {
+        try {
+            digest.digest(target, 0, digestLength);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
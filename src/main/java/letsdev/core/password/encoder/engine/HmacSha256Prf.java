@@ -0,0 +1,220 @@
+package letsdev.core.password.encoder.engine;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * PBKDF2용 HMAC-SHA-256.
+ * <p>
+ * {@code Mac}을 쓰지 않고 SHA-256 압축 함수를 직접 호출합니다.
+ * 반복 단계의 입력은 항상 32바이트 다이제스트이므로, 패딩까지 포함한 한 블록을 워드 배열에 바로 채워
+ * 반복마다 압축 함수를 두 번(inner, outer)만 호출하며, 바이트 변환이나 할당이 없습니다.
+ */
+final class HmacSha256Prf implements Pbkdf2Prf {
+
+    private static final int BLOCK_LENGTH = 64;
+    private static final int DIGEST_LENGTH = 32;
+    private static final int DIGEST_WORDS = 8;
+    // 블록 하나(ipad 또는 opad) 뒤에 다이제스트 하나를 붙인 메시지의 비트 길이
+    private static final int DIGEST_MESSAGE_BITS = (BLOCK_LENGTH + DIGEST_LENGTH) * 8;
+
+    private static final int[] IV = {
+            0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+    };
+
+    private static final int[] K = {
+            0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+            0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+            0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+            0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+            0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+            0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+            0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+            0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+    };
+
+    private final int[] innerState = new int[DIGEST_WORDS];
+    private final int[] outerState = new int[DIGEST_WORDS];
+    private final int[] state = new int[DIGEST_WORDS];
+    private final int[] accumulated = new int[DIGEST_WORDS];
+    private final int[] w = new int[64];
+    private final byte[] block = new byte[BLOCK_LENGTH];
+
+    @Override
+    public int digestLength() {
+        return DIGEST_LENGTH;
+    }
+
+    @Override
+    public void init(ByteBuffer password) {
+        Arrays.fill(block, (byte) 0);
+        int keyLength = password.remaining();
+        if (keyLength > BLOCK_LENGTH) {
+            digestKey(password);
+        } else {
+            password.get(password.position(), block, 0, keyLength);
+        }
+        padState(0x36363636, innerState);
+        padState(0x5c5c5c5c, outerState);
+        Arrays.fill(block, (byte) 0);
+    }
+
+    @Override
+    public void deriveBlock(byte[] salt, int blockIndex, int iterations, byte[] out, int offset, int length) {
+        // U_1 = HMAC(P, S || INT(i))
+        System.arraycopy(innerState, 0, state, 0, DIGEST_WORDS);
+        int position = 0;
+        for (byte b : salt) {
+            position = put(position, b);
+        }
+        position = put(position, (byte) (blockIndex >>> 24));
+        position = put(position, (byte) (blockIndex >>> 16));
+        position = put(position, (byte) (blockIndex >>> 8));
+        position = put(position, (byte) blockIndex);
+        finish(position, BLOCK_LENGTH + salt.length + 4L);
+        compressDigest(outerState);
+        System.arraycopy(state, 0, accumulated, 0, DIGEST_WORDS);
+
+        // U_j = HMAC(P, U_(j-1))
+        for (int i = 1; i < iterations; i++) {
+            compressDigest(innerState);
+            compressDigest(outerState);
+            for (int j = 0; j < DIGEST_WORDS; j++) {
+                accumulated[j] ^= state[j];
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            out[offset + i] = (byte) (accumulated[i >>> 2] >>> (24 - ((i & 3) << 3)));
+        }
+    }
+
+    @Override
+    public void wipe() {
+        Arrays.fill(innerState, 0);
+        Arrays.fill(outerState, 0);
+        Arrays.fill(state, 0);
+        Arrays.fill(accumulated, 0);
+        Arrays.fill(w, 0);
+        Arrays.fill(block, (byte) 0);
+    }
+
+    private void digestKey(ByteBuffer password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(password.duplicate());
+            digest.digest(block, 0, DIGEST_LENGTH);
+        } catch (NoSuchAlgorithmException | DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void padState(int pad, int[] target) {
+        for (int i = 0; i < 16; i++) {
+            w[i] = readInt(block, i << 2) ^ pad;
+        }
+        System.arraycopy(IV, 0, target, 0, DIGEST_WORDS);
+        compress(target);
+    }
+
+    private int put(int position, byte b) {
+        block[position++] = b;
+        if (position == BLOCK_LENGTH) {
+            compressBlock();
+            return 0;
+        }
+        return position;
+    }
+
+    private void finish(int position, long messageLength) {
+        block[position++] = (byte) 0x80;
+        if (position > BLOCK_LENGTH - 8) {
+            Arrays.fill(block, position, BLOCK_LENGTH, (byte) 0);
+            compressBlock();
+            position = 0;
+        }
+        Arrays.fill(block, position, BLOCK_LENGTH - 8, (byte) 0);
+        long bits = messageLength << 3;
+        for (int i = 0; i < 8; i++) {
+            block[BLOCK_LENGTH - 1 - i] = (byte) (bits >>> (i << 3));
+        }
+        compressBlock();
+    }
+
+    private void compressBlock() {
+        for (int i = 0; i < 16; i++) {
+            w[i] = readInt(block, i << 2);
+        }
+        compress(state);
+    }
+
+    // state = compress(from, state || padding). 입력 다이제스트를 먼저 w로 옮기므로 state를 그대로 덮어씁니다.
+    private void compressDigest(int[] from) {
+        System.arraycopy(state, 0, w, 0, DIGEST_WORDS);
+        w[8] = 0x80000000;
+        w[9] = 0;
+        w[10] = 0;
+        w[11] = 0;
+        w[12] = 0;
+        w[13] = 0;
+        w[14] = 0;
+        w[15] = DIGEST_MESSAGE_BITS;
+        System.arraycopy(from, 0, state, 0, DIGEST_WORDS);
+        compress(state);
+    }
+
+    // w[0..15]의 블록으로 s를 갱신합니다.
+    private void compress(int[] s) {
+        int[] w = this.w;
+        for (int i = 16; i < 64; i++) {
+            int x = w[i - 15];
+            int y = w[i - 2];
+            int s0 = Integer.rotateRight(x, 7) ^ Integer.rotateRight(x, 18) ^ (x >>> 3);
+            int s1 = Integer.rotateRight(y, 17) ^ Integer.rotateRight(y, 19) ^ (y >>> 10);
+            w[i] = w[i - 16] + s0 + w[i - 7] + s1;
+        }
+
+        int a = s[0];
+        int b = s[1];
+        int c = s[2];
+        int d = s[3];
+        int e = s[4];
+        int f = s[5];
+        int g = s[6];
+        int h = s[7];
+        for (int i = 0; i < 64; i++) {
+            int sigma1 = Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25);
+            int choose = (e & f) ^ (~e & g);
+            int t1 = h + sigma1 + choose + K[i] + w[i];
+            int sigma0 = Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22);
+            int majority = (a & b) ^ (a & c) ^ (b & c);
+            int t2 = sigma0 + majority;
+            h = g;
+            g = f;
+            f = e;
+            e = d + t1;
+            d = c;
+            c = b;
+            b = a;
+            a = t1 + t2;
+        }
+        s[0] += a;
+        s[1] += b;
+        s[2] += c;
+        s[3] += d;
+        s[4] += e;
+        s[5] += f;
+        s[6] += g;
+        s[7] += h;
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return ((source[offset] & 0xff) << 24)
+                | ((source[offset + 1] & 0xff) << 16)
+                | ((source[offset + 2] & 0xff) << 8)
+                | (source[offset + 3] & 0xff);
+    }
+}
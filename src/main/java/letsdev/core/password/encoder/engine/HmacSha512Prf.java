@@ -0,0 +1,235 @@
+package letsdev.core.password.encoder.engine;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * PBKDF2용 HMAC-SHA-512.
+ * <p>
+ * {@code Mac}을 쓰지 않고 SHA-512 압축 함수를 직접 호출합니다.
+ * 반복 단계의 입력은 항상 64바이트 다이제스트이므로, 패딩까지 포함한 한 블록을 워드 배열에 바로 채워
+ * 반복마다 압축 함수를 두 번(inner, outer)만 호출하며, 바이트 변환이나 할당이 없습니다.
+ */
+final class HmacSha512Prf implements Pbkdf2Prf {
+
+    private static final int BLOCK_LENGTH = 128;
+    private static final int DIGEST_LENGTH = 64;
+    private static final int DIGEST_WORDS = 8;
+    // 블록 하나(ipad 또는 opad) 뒤에 다이제스트 하나를 붙인 메시지의 비트 길이
+    private static final long DIGEST_MESSAGE_BITS = (BLOCK_LENGTH + DIGEST_LENGTH) * 8;
+
+    private static final long[] IV = {
+            0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+            0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L
+    };
+
+    private static final long[] K = {
+            0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL,
+            0x3956c25bf348b538L, 0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L,
+            0xd807aa98a3030242L, 0x12835b0145706fbeL, 0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L,
+            0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L, 0xc19bf174cf692694L,
+            0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+            0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L,
+            0x983e5152ee66dfabL, 0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L,
+            0xc6e00bf33da88fc2L, 0xd5a79147930aa725L, 0x06ca6351e003826fL, 0x142929670a0e6e70L,
+            0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL, 0x53380d139d95b3dfL,
+            0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+            0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L,
+            0xd192e819d6ef5218L, 0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L,
+            0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L, 0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L,
+            0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L, 0x682e6ff3d6b2b8a3L,
+            0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+            0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL,
+            0xca273eceea26619cL, 0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L,
+            0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L, 0x113f9804bef90daeL, 0x1b710b35131c471bL,
+            0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL, 0x431d67c49c100d4cL,
+            0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L
+    };
+
+    private final long[] innerState = new long[DIGEST_WORDS];
+    private final long[] outerState = new long[DIGEST_WORDS];
+    private final long[] state = new long[DIGEST_WORDS];
+    private final long[] accumulated = new long[DIGEST_WORDS];
+    private final long[] w = new long[80];
+    private final byte[] block = new byte[BLOCK_LENGTH];
+
+    @Override
+    public int digestLength() {
+        return DIGEST_LENGTH;
+    }
+
+    @Override
+    public void init(ByteBuffer password) {
+        Arrays.fill(block, (byte) 0);
+        int keyLength = password.remaining();
+        if (keyLength > BLOCK_LENGTH) {
+            digestKey(password);
+        } else {
+            password.get(password.position(), block, 0, keyLength);
+        }
+        padState(0x3636363636363636L, innerState);
+        padState(0x5c5c5c5c5c5c5c5cL, outerState);
+        Arrays.fill(block, (byte) 0);
+    }
+
+    @Override
+    public void deriveBlock(byte[] salt, int blockIndex, int iterations, byte[] out, int offset, int length) {
+        // U_1 = HMAC(P, S || INT(i))
+        System.arraycopy(innerState, 0, state, 0, DIGEST_WORDS);
+        int position = 0;
+        for (byte b : salt) {
+            position = put(position, b);
+        }
+        position = put(position, (byte) (blockIndex >>> 24));
+        position = put(position, (byte) (blockIndex >>> 16));
+        position = put(position, (byte) (blockIndex >>> 8));
+        position = put(position, (byte) blockIndex);
+        finish(position, BLOCK_LENGTH + salt.length + 4L);
+        compressDigest(outerState);
+        System.arraycopy(state, 0, accumulated, 0, DIGEST_WORDS);
+
+        // U_j = HMAC(P, U_(j-1))
+        for (int i = 1; i < iterations; i++) {
+            compressDigest(innerState);
+            compressDigest(outerState);
+            for (int j = 0; j < DIGEST_WORDS; j++) {
+                accumulated[j] ^= state[j];
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            out[offset + i] = (byte) (accumulated[i >>> 3] >>> (56 - ((i & 7) << 3)));
+        }
+    }
+
+    @Override
+    public void wipe() {
+        Arrays.fill(innerState, 0L);
+        Arrays.fill(outerState, 0L);
+        Arrays.fill(state, 0L);
+        Arrays.fill(accumulated, 0L);
+        Arrays.fill(w, 0L);
+        Arrays.fill(block, (byte) 0);
+    }
+
+    private void digestKey(ByteBuffer password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-512");
+            digest.update(password.duplicate());
+            digest.digest(block, 0, DIGEST_LENGTH);
+        } catch (NoSuchAlgorithmException | DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void padState(long pad, long[] target) {
+        for (int i = 0; i < 16; i++) {
+            w[i] = readLong(block, i << 3) ^ pad;
+        }
+        System.arraycopy(IV, 0, target, 0, DIGEST_WORDS);
+        compress(target);
+    }
+
+    private int put(int position, byte b) {
+        block[position++] = b;
+        if (position == BLOCK_LENGTH) {
+            compressBlock();
+            return 0;
+        }
+        return position;
+    }
+
+    private void finish(int position, long messageLength) {
+        block[position++] = (byte) 0x80;
+        if (position > BLOCK_LENGTH - 16) {
+            Arrays.fill(block, position, BLOCK_LENGTH, (byte) 0);
+            compressBlock();
+            position = 0;
+        }
+        // 길이는 128비트로 적습니다. (상위 64비트는 0)
+        Arrays.fill(block, position, BLOCK_LENGTH - 8, (byte) 0);
+        long bits = messageLength << 3;
+        for (int i = 0; i < 8; i++) {
+            block[BLOCK_LENGTH - 1 - i] = (byte) (bits >>> (i << 3));
+        }
+        compressBlock();
+    }
+
+    private void compressBlock() {
+        for (int i = 0; i < 16; i++) {
+            w[i] = readLong(block, i << 3);
+        }
+        compress(state);
+    }
+
+    // state = compress(from, state || padding). 입력 다이제스트를 먼저 w로 옮기므로 state를 그대로 덮어씁니다.
+    private void compressDigest(long[] from) {
+        System.arraycopy(state, 0, w, 0, DIGEST_WORDS);
+        w[8] = 0x8000000000000000L;
+        w[9] = 0;
+        w[10] = 0;
+        w[11] = 0;
+        w[12] = 0;
+        w[13] = 0;
+        w[14] = 0;
+        w[15] = DIGEST_MESSAGE_BITS;
+        System.arraycopy(from, 0, state, 0, DIGEST_WORDS);
+        compress(state);
+    }
+
+    // w[0..15]의 블록으로 s를 갱신합니다.
+    private void compress(long[] s) {
+        long[] w = this.w;
+        for (int i = 16; i < 80; i++) {
+            long x = w[i - 15];
+            long y = w[i - 2];
+            long s0 = Long.rotateRight(x, 1) ^ Long.rotateRight(x, 8) ^ (x >>> 7);
+            long s1 = Long.rotateRight(y, 19) ^ Long.rotateRight(y, 61) ^ (y >>> 6);
+            w[i] = w[i - 16] + s0 + w[i - 7] + s1;
+        }
+
+        long a = s[0];
+        long b = s[1];
+        long c = s[2];
+        long d = s[3];
+        long e = s[4];
+        long f = s[5];
+        long g = s[6];
+        long h = s[7];
+        for (int i = 0; i < 80; i++) {
+            long sigma1 = Long.rotateRight(e, 14) ^ Long.rotateRight(e, 18) ^ Long.rotateRight(e, 41);
+            long choose = (e & f) ^ (~e & g);
+            long t1 = h + sigma1 + choose + K[i] + w[i];
+            long sigma0 = Long.rotateRight(a, 28) ^ Long.rotateRight(a, 34) ^ Long.rotateRight(a, 39);
+            long majority = (a & b) ^ (a & c) ^ (b & c);
+            long t2 = sigma0 + majority;
+            h = g;
+            g = f;
+            f = e;
+            e = d + t1;
+            d = c;
+            c = b;
+            b = a;
+            a = t1 + t2;
+        }
+        s[0] += a;
+        s[1] += b;
+        s[2] += c;
+        s[3] += d;
+        s[4] += e;
+        s[5] += f;
+        s[6] += g;
+        s[7] += h;
+    }
+
+    private static long readLong(byte[] source, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (source[offset + i] & 0xff);
+        }
+        return value;
+    }
+}
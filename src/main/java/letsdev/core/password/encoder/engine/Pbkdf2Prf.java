@@ -0,0 +1,26 @@
+package letsdev.core.password.encoder.engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * PBKDF2의 PRF(HMAC) 상태. 스레드마다 하나씩 두고 재사용합니다.
+ */
+interface Pbkdf2Prf {
+
+    int digestLength();
+
+    /**
+     * 비밀번호로 ipad, opad 블록을 한 번씩 압축해 둡니다. 이후 블록 계산은 이 상태에서 시작합니다.
+     */
+    void init(ByteBuffer password);
+
+    /**
+     * {@code T_i = U_1 ^ U_2 ^ ... ^ U_c}를 계산해 {@code out}의 {@code offset}부터 {@code length}바이트를 씁니다.
+     */
+    void deriveBlock(byte[] salt, int blockIndex, int iterations, byte[] out, int offset, int length);
+
+    /**
+     * 비밀번호에서 유도된 상태를 0으로 덮어씁니다.
+     */
+    void wipe();
+}
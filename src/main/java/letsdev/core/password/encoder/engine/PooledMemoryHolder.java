@@ -0,0 +1,8 @@
+package letsdev.core.password.encoder.engine;
+
+/**
+ * 풀링된 메모리를 보유하는 인코더. 팩토리 캐시에서 제거될 때 보관 중인 메모리를 놓아 줍니다.
+ */
+public interface PooledMemoryHolder {
+    void releasePooledMemory();
+}
@@ -0,0 +1,167 @@
+package letsdev.core.password.encoder.engine;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 솔트를 만드는 난수 공급원입니다. 팩토리가 만든 모든 어댑터가 하나를 공유합니다.
+ * <ul>
+ *     <li>스레드마다 DRBG({@code SecureRandom.getInstance("DRBG")})를 두고, 처음 한 번만 시드를 받습니다.
+ *     해싱할 때마다 엔트로피 소스를 읽거나 하나의 {@code SecureRandom}에서 스레드들이 경합하지 않습니다.</li>
+ *     <li>{@code capacity}가 0보다 크면 백그라운드 스레드가 미리 만든 난수 블록을 링 버퍼에 채워 둡니다.
+ *     스레드는 처음 솔트를 꺼낼 때 시작합니다. (만들기만 하고 쓰지 않는 공급원은 스레드를 두지 않습니다.)
+ *     꺼낼 때는 락 없이 슬롯을 비우고, 링이 비어 있으면 호출 스레드의 DRBG로 바로 만듭니다. (기다리지 않습니다.)</li>
+ *     <li>꺼낸 블록은 복사한 후 0으로 덮어씁니다.</li>
+ * </ul>
+ */
+public class SaltSource implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1_024;
+
+    private static final int BLOCK_LENGTH = 64;
+    private static final long MAX_IDLE_NANOS = 1_000_000_000L;
+    private static final SaltSource UNPOOLED = new SaltSource(0);
+    private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(SaltSource::newDrbg);
+
+    private final AtomicReferenceArray<byte[]> blocks;
+    private final int mask;
+    private final AtomicInteger takeIndex = new AtomicInteger();
+    private final AtomicBoolean refillRequested = new AtomicBoolean();
+    private final AtomicReference<Thread> refiller = new AtomicReference<>();
+    private volatile boolean closed;
+
+    /**
+     * @param capacity 미리 채워 둘 난수 블록(64바이트)의 수. 2의 거듭제곱으로 올림합니다. 0이면 링 버퍼 없이 스레드별 DRBG만 씁니다.
+     */
+    public SaltSource(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity는 음수일 수 없습니다.");
+        }
+        if (capacity == 0) {
+            this.blocks = null;
+            this.mask = 0;
+            return;
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        size = Math.max(size, 1);
+        this.blocks = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 링 버퍼 없이 스레드별 DRBG만 쓰는 공급원. 팩토리 밖에서 어댑터를 직접 만들 때 사용합니다.
+     */
+    public static SaltSource unpooled() {
+        return UNPOOLED;
+    }
+
+    public byte[] nextSalt(int length) {
+        byte[] salt = new byte[length];
+        nextBytes(salt);
+        return salt;
+    }
+
+    public void nextBytes(byte[] salt) {
+        if (blocks == null || salt.length > BLOCK_LENGTH) {
+            RANDOMS.get().nextBytes(salt);
+            return;
+        }
+        byte[] block = blocks.getAndSet(takeIndex.getAndIncrement() & mask, null);
+        requestRefill();
+        if (block == null) {
+            RANDOMS.get().nextBytes(salt);
+            return;
+        }
+        System.arraycopy(block, 0, salt, 0, salt.length);
+        Arrays.fill(block, (byte) 0);
+    }
+
+    /**
+     * 링 버퍼에 남아 있는 블록 수 (관측용, 근삿값)
+     */
+    public int available() {
+        if (blocks == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < blocks.length(); i++) {
+            if (blocks.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread = refiller.get();
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void requestRefill() {
+        Thread thread = refiller.get();
+        if (thread == null) {
+            thread = startRefiller();
+        }
+        if (!refillRequested.get() && refillRequested.compareAndSet(false, true)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    // 먼저 등록한 스레드만 시작합니다. 닫힌 후에 시작한 스레드는 채우지 않고 바로 끝납니다.
+    private Thread startRefiller() {
+        Thread thread = Thread.ofPlatform()
+                .name("salt-source-refill")
+                .daemon(true)
+                .priority(Thread.MIN_PRIORITY)
+                .unstarted(this::refillLoop);
+        if (refiller.compareAndSet(null, thread)) {
+            thread.start();
+            return thread;
+        }
+        return refiller.get();
+    }
+
+    // 요청 플래그를 먼저 내린 후 빈 슬롯을 채웁니다. 채우는 도중에 꺼낸 슬롯은 다음 요청이 다시 깨웁니다.
+    private void refillLoop() {
+        SecureRandom random = RANDOMS.get();
+        while (!closed) {
+            refillRequested.set(false);
+            for (int i = 0; i < blocks.length() && !closed; i++) {
+                if (blocks.get(i) == null) {
+                    byte[] block = new byte[BLOCK_LENGTH];
+                    random.nextBytes(block);
+                    blocks.set(i, block);
+                }
+            }
+            LockSupport.parkNanos(this, MAX_IDLE_NANOS);
+        }
+        for (int i = 0; i < blocks.length(); i++) {
+            byte[] block = blocks.getAndSet(i, null);
+            if (block != null) {
+                Arrays.fill(block, (byte) 0);
+            }
+        }
+    }
+
+    private static SecureRandom newDrbg() {
+        try {
+            return SecureRandom.getInstance(
+                    "DRBG",
+                    DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null)
+            );
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package letsdev.core.password.encoder.engine;
+
+final class ScalarArgon2BlockCompressor implements Argon2BlockCompressor {
+
+    static final ScalarArgon2BlockCompressor INSTANCE = new ScalarArgon2BlockCompressor();
+
+    private static final long M32L = 0xFFFFFFFFL;
+
+    private ScalarArgon2BlockCompressor() {
+    }
+
+    @Override
+    public void compress(long[] r) {
+        // rows
+        for (int i = 0; i < 8; i++) {
+            int i16 = 16 * i;
+            roundFunction(r,
+                    i16, i16 + 1, i16 + 2, i16 + 3,
+                    i16 + 4, i16 + 5, i16 + 6, i16 + 7,
+                    i16 + 8, i16 + 9, i16 + 10, i16 + 11,
+                    i16 + 12, i16 + 13, i16 + 14, i16 + 15
+            );
+        }
+        // columns
+        for (int i = 0; i < 8; i++) {
+            int i2 = 2 * i;
+            roundFunction(r,
+                    i2, i2 + 1, i2 + 16, i2 + 17,
+                    i2 + 32, i2 + 33, i2 + 48, i2 + 49,
+                    i2 + 64, i2 + 65, i2 + 80, i2 + 81,
+                    i2 + 96, i2 + 97, i2 + 112, i2 + 113
+            );
+        }
+    }
+
+    private static void roundFunction(
+            long[] v,
+            int v0, int v1, int v2, int v3,
+            int v4, int v5, int v6, int v7,
+            int v8, int v9, int v10, int v11,
+            int v12, int v13, int v14, int v15
+    ) {
+        g(v, v0, v4, v8, v12);
+        g(v, v1, v5, v9, v13);
+        g(v, v2, v6, v10, v14);
+        g(v, v3, v7, v11, v15);
+
+        g(v, v0, v5, v10, v15);
+        g(v, v1, v6, v11, v12);
+        g(v, v2, v7, v8, v13);
+        g(v, v3, v4, v9, v14);
+    }
+
+    private static void g(long[] v, int a, int b, int c, int d) {
+        long va = v[a];
+        long vb = v[b];
+        long vc = v[c];
+        long vd = v[d];
+
+        va = blaMka(va, vb);
+        vd = Long.rotateRight(vd ^ va, 32);
+        vc = blaMka(vc, vd);
+        vb = Long.rotateRight(vb ^ vc, 24);
+        va = blaMka(va, vb);
+        vd = Long.rotateRight(vd ^ va, 16);
+        vc = blaMka(vc, vd);
+        vb = Long.rotateRight(vb ^ vc, 63);
+
+        v[a] = va;
+        v[b] = vb;
+        v[c] = vc;
+        v[d] = vd;
+    }
+
+    private static long blaMka(long x, long y) {
+        return x + y + 2 * (x & M32L) * (y & M32L);
+    }
+}
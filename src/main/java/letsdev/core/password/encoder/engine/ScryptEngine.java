@@ -0,0 +1,291 @@
+package letsdev.core.password.encoder.engine;
+
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm;
+import letsdev.core.password.exception.PasswordEncoderEncryptionException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * RFC 7914 scrypt 구현. Bouncy Castle의 {@code SCrypt.generate}와 같은 결과를 만듭니다.
+ * <p>
+ * ROMix의 V 배열(128 × r × N 바이트)을 호출마다 새로 할당하지 않고 {@link ScryptMemoryPool}에서 빌려 씁니다.
+ * 배열을 빌리기 전에 {@link Argon2MemoryBudget}에서 사용할 크기만큼 예산을 점유합니다. (Argon2와 같은 예산을 공유합니다.)
+ * <p>
+ * parallelization(p)이 2 이상이고 실행기가 주어지면, 서로 독립인 p개의 블록을 동시에 섞습니다.
+ * 이때는 블록마다 V 배열을 하나씩 빌립니다. 실행기가 바쁘면 아직 시작되지 않은 블록은 호출 스레드가 직접 섞습니다.
+ */
+public class ScryptEngine {
+
+    private static final int BLOCK_BYTES_PER_R = 128;
+    private static final int BLOCK_WORDS_PER_R = 32;
+
+    private final ScryptMemoryPool memoryPool;
+    private final Argon2MemoryBudget memoryBudget;
+    private final Executor blockExecutor;
+
+    public ScryptEngine(ScryptMemoryPool memoryPool) {
+        this(memoryPool, Argon2MemoryBudget.unlimited(), null);
+    }
+
+    /**
+     * @param blockExecutor p개의 블록을 병렬로 섞을 실행기. null이면 호출 스레드에서 하나의 V 배열로 순서대로 섞습니다.
+     */
+    public ScryptEngine(ScryptMemoryPool memoryPool, Argon2MemoryBudget memoryBudget, Executor blockExecutor) {
+        this.memoryPool = memoryPool;
+        this.memoryBudget = memoryBudget;
+        this.blockExecutor = blockExecutor;
+    }
+
+    public ScryptMemoryPool memoryPool() {
+        return memoryPool;
+    }
+
+    /**
+     * @param password 비밀번호 바이트. position부터 limit까지 읽으며, 버퍼의 position은 바꾸지 않습니다.
+     * @param cpuCost N. 1보다 큰 2의 거듭제곱
+     * @param memoryCost r
+     * @param parallelization p
+     * @param out 유도한 키를 쓸 배열. 배열 길이만큼 만듭니다.
+     */
+    public void generateBytes(
+            ByteBuffer password,
+            byte[] salt,
+            int cpuCost,
+            int memoryCost,
+            int parallelization,
+            byte[] out
+    ) {
+        if (cpuCost <= 1 || Integer.bitCount(cpuCost) != 1) {
+            throw new PasswordEncoderEncryptionException("Cost parameter N must be > 1 and a power of 2.");
+        }
+        if (memoryCost <= 0 || parallelization <= 0) {
+            throw new PasswordEncoderEncryptionException("Parameters r and p must be positive.");
+        }
+        long vWords = (long) BLOCK_WORDS_PER_R * memoryCost * cpuCost;
+        long blocksLength = (long) BLOCK_BYTES_PER_R * memoryCost * parallelization;
+        if (vWords > Integer.MAX_VALUE - 8 || blocksLength > Integer.MAX_VALUE - 8) {
+            throw new PasswordEncoderEncryptionException("Parameters N, r and p are too large.");
+        }
+
+        byte[] blocks = new byte[(int) blocksLength];
+        Pbkdf2Engine.deriveKey(Pbkdf2Algorithm.HMAC_SHA256, password, salt, 1, blocks);
+        try {
+            boolean parallel = blockExecutor != null && parallelization > 1;
+            int vKiB = (int) Math.min(Integer.MAX_VALUE, vWords * 4 / 1024);
+            int acquiredKiB = memoryBudget.acquire(
+                    (int) Math.min(Integer.MAX_VALUE, (long) vKiB * (parallel ? parallelization : 1))
+            );
+            try {
+                if (parallel) {
+                    mixBlocksInParallel(blocks, memoryCost, cpuCost, parallelization, (int) vWords);
+                } else {
+                    mixBlocks(blocks, memoryCost, cpuCost, parallelization, (int) vWords);
+                }
+            } finally {
+                memoryBudget.release(acquiredKiB);
+            }
+            Pbkdf2Engine.deriveKey(Pbkdf2Algorithm.HMAC_SHA256, password, blocks, 1, out);
+        } finally {
+            Arrays.fill(blocks, (byte) 0);
+        }
+    }
+
+    private void mixBlocks(byte[] blocks, int r, int n, int p, int vWords) {
+        int[] v = memoryPool.acquire(vWords);
+        var state = new MixState(r);
+        try {
+            for (int i = 0; i < p; i++) {
+                smix(blocks, i * BLOCK_BYTES_PER_R * r, r, n, v, state);
+            }
+        } finally {
+            state.wipe();
+            memoryPool.release(v);
+        }
+    }
+
+    private void mixBlocksInParallel(byte[] blocks, int r, int n, int p, int vWords) {
+        @SuppressWarnings("unchecked")
+        var blockTasks = (FutureTask<Void>[]) new FutureTask[p];
+        for (int i = 1; i < p; i++) {
+            int offset = i * BLOCK_BYTES_PER_R * r;
+            blockTasks[i] = new FutureTask<>(() -> mixBlock(blocks, offset, r, n, vWords), null);
+            submit(blockTasks[i]);
+        }
+        mixBlock(blocks, 0, r, n, vWords);
+        awaitBlocks(blockTasks, p);
+    }
+
+    private void mixBlock(byte[] blocks, int offset, int r, int n, int vWords) {
+        int[] v = memoryPool.acquire(vWords);
+        var state = new MixState(r);
+        try {
+            smix(blocks, offset, r, n, v, state);
+        } finally {
+            state.wipe();
+            memoryPool.release(v);
+        }
+    }
+
+    private void submit(FutureTask<Void> blockTask) {
+        try {
+            blockExecutor.execute(blockTask);
+        } catch (RuntimeException ignored) {
+            // 실행기가 작업을 받지 못하면 awaitBlocks에서 호출 스레드가 직접 섞습니다.
+        }
+    }
+
+    private static void awaitBlocks(FutureTask<Void>[] blockTasks, int p) {
+        for (int i = 1; i < p; i++) {
+            FutureTask<Void> blockTask = blockTasks[i];
+            blockTask.run(); // 아직 시작되지 않았다면 직접 섞고, 이미 실행 중이거나 끝났다면 아무 일도 하지 않습니다.
+            try {
+                blockTask.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PasswordEncoderEncryptionException("Interrupted while mixing scrypt blocks.", e);
+            } catch (ExecutionException e) {
+                throw new PasswordEncoderEncryptionException("Failed to mix scrypt block.", e.getCause());
+            }
+        }
+    }
+
+    // ROMix: blocks[offset, offset + 128r)를 제자리에서 섞습니다.
+    private static void smix(byte[] blocks, int offset, int r, int n, int[] v, MixState state) {
+        int blockWords = BLOCK_WORDS_PER_R * r;
+        int[] x = state.x;
+        for (int k = 0; k < blockWords; k++) {
+            x[k] = readIntLittleEndian(blocks, offset + (k << 2));
+        }
+
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(x, 0, v, i * blockWords, blockWords);
+            blockMix(state, r);
+        }
+        int lastBlock = (2 * r - 1) * 16;
+        for (int i = 0; i < n; i++) {
+            int j = x[lastBlock] & (n - 1);
+            int vOffset = j * blockWords;
+            for (int k = 0; k < blockWords; k++) {
+                x[k] ^= v[vOffset + k];
+            }
+            blockMix(state, r);
+        }
+
+        for (int k = 0; k < blockWords; k++) {
+            writeIntLittleEndian(x[k], blocks, offset + (k << 2));
+        }
+    }
+
+    // BlockMix(Salsa20/8): 결과의 앞쪽 절반은 짝수 번째, 뒤쪽 절반은 홀수 번째 블록입니다.
+    private static void blockMix(MixState state, int r) {
+        int[] x = state.x;
+        int[] y = state.y;
+        int[] t = state.t;
+        System.arraycopy(x, (2 * r - 1) * 16, t, 0, 16);
+        for (int i = 0; i < 2 * r; i++) {
+            int base = i * 16;
+            for (int k = 0; k < 16; k++) {
+                t[k] ^= x[base + k];
+            }
+            salsa208(t);
+            System.arraycopy(t, 0, y, ((i & 1) * r + (i >>> 1)) * 16, 16);
+        }
+        System.arraycopy(y, 0, x, 0, 32 * r);
+    }
+
+    private static void salsa208(int[] b) {
+        int x0 = b[0], x1 = b[1], x2 = b[2], x3 = b[3];
+        int x4 = b[4], x5 = b[5], x6 = b[6], x7 = b[7];
+        int x8 = b[8], x9 = b[9], x10 = b[10], x11 = b[11];
+        int x12 = b[12], x13 = b[13], x14 = b[14], x15 = b[15];
+        for (int i = 0; i < 8; i += 2) {
+            x4 ^= Integer.rotateLeft(x0 + x12, 7);
+            x8 ^= Integer.rotateLeft(x4 + x0, 9);
+            x12 ^= Integer.rotateLeft(x8 + x4, 13);
+            x0 ^= Integer.rotateLeft(x12 + x8, 18);
+            x9 ^= Integer.rotateLeft(x5 + x1, 7);
+            x13 ^= Integer.rotateLeft(x9 + x5, 9);
+            x1 ^= Integer.rotateLeft(x13 + x9, 13);
+            x5 ^= Integer.rotateLeft(x1 + x13, 18);
+            x14 ^= Integer.rotateLeft(x10 + x6, 7);
+            x2 ^= Integer.rotateLeft(x14 + x10, 9);
+            x6 ^= Integer.rotateLeft(x2 + x14, 13);
+            x10 ^= Integer.rotateLeft(x6 + x2, 18);
+            x3 ^= Integer.rotateLeft(x15 + x11, 7);
+            x7 ^= Integer.rotateLeft(x3 + x15, 9);
+            x11 ^= Integer.rotateLeft(x7 + x3, 13);
+            x15 ^= Integer.rotateLeft(x11 + x7, 18);
+
+            x1 ^= Integer.rotateLeft(x0 + x3, 7);
+            x2 ^= Integer.rotateLeft(x1 + x0, 9);
+            x3 ^= Integer.rotateLeft(x2 + x1, 13);
+            x0 ^= Integer.rotateLeft(x3 + x2, 18);
+            x6 ^= Integer.rotateLeft(x5 + x4, 7);
+            x7 ^= Integer.rotateLeft(x6 + x5, 9);
+            x4 ^= Integer.rotateLeft(x7 + x6, 13);
+            x5 ^= Integer.rotateLeft(x4 + x7, 18);
+            x11 ^= Integer.rotateLeft(x10 + x9, 7);
+            x8 ^= Integer.rotateLeft(x11 + x10, 9);
+            x9 ^= Integer.rotateLeft(x8 + x11, 13);
+            x10 ^= Integer.rotateLeft(x9 + x8, 18);
+            x12 ^= Integer.rotateLeft(x15 + x14, 7);
+            x13 ^= Integer.rotateLeft(x12 + x15, 9);
+            x14 ^= Integer.rotateLeft(x13 + x12, 13);
+            x15 ^= Integer.rotateLeft(x14 + x13, 18);
+        }
+        b[0] += x0;
+        b[1] += x1;
+        b[2] += x2;
+        b[3] += x3;
+        b[4] += x4;
+        b[5] += x5;
+        b[6] += x6;
+        b[7] += x7;
+        b[8] += x8;
+        b[9] += x9;
+        b[10] += x10;
+        b[11] += x11;
+        b[12] += x12;
+        b[13] += x13;
+        b[14] += x14;
+        b[15] += x15;
+    }
+
+    private static int readIntLittleEndian(byte[] source, int offset) {
+        return (source[offset] & 0xff)
+                | ((source[offset + 1] & 0xff) << 8)
+                | ((source[offset + 2] & 0xff) << 16)
+                | ((source[offset + 3] & 0xff) << 24);
+    }
+
+    private static void writeIntLittleEndian(int value, byte[] target, int offset) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >>> 8);
+        target[offset + 2] = (byte) (value >>> 16);
+        target[offset + 3] = (byte) (value >>> 24);
+    }
+
+    /**
+     * 블록 하나를 섞는 동안 쓰는 작업 배열
+     */
+    private static final class MixState {
+        private final int[] x;
+        private final int[] y;
+        private final int[] t = new int[16];
+
+        private MixState(int r) {
+            this.x = new int[BLOCK_WORDS_PER_R * r];
+            this.y = new int[BLOCK_WORDS_PER_R * r];
+        }
+
+        private void wipe() {
+            Arrays.fill(x, 0);
+            Arrays.fill(y, 0);
+            Arrays.fill(t, 0);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package letsdev.core.password.encoder.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 크기(N, r)별로 scrypt ROMix의 V 배열을 재사용합니다.
+ * <ul>
+ *     <li>크기별로 최대 {@code maxPooledPerSize}개까지 보관하고, 초과분은 GC에 맡깁니다.</li>
+ *     <li>반납된 배열은 보관 전에 0으로 지웁니다.</li>
+ *     <li>{@link #clear()}는 보관 중인 배열만 놓아 줍니다. 이후 호출에서 다시 채워집니다.</li>
+ * </ul>
+ */
+public class ScryptMemoryPool {
+
+    // 보관 중인 배열은 메모리 예산에 잡히지 않으므로(크기별 최대 개수 × 옵션 수만큼 상주) 기본값은 작게 둡니다.
+    public static final int DEFAULT_MAX_POOLED_PER_SIZE = 2;
+
+    private final int maxPooledPerSize;
+    private final ConcurrentMap<Integer, BlockingQueue<int[]>> idleArrays = new ConcurrentHashMap<>();
+
+    public ScryptMemoryPool() {
+        this(DEFAULT_MAX_POOLED_PER_SIZE);
+    }
+
+    public ScryptMemoryPool(int maxPooledPerSize) {
+        if (maxPooledPerSize < 0) {
+            throw new IllegalArgumentException("maxPooledPerSize는 음수일 수 없습니다.");
+        }
+        this.maxPooledPerSize = maxPooledPerSize;
+    }
+
+    /**
+     * @param words V 배열의 길이 (32 × r × N)
+     */
+    public int[] acquire(int words) {
+        BlockingQueue<int[]> queue = idleArrays.get(words);
+        int[] array = queue != null ? queue.poll() : null;
+        return array != null ? array : new int[words];
+    }
+
+    public void release(int[] array) {
+        Arrays.fill(array, 0);
+        if (maxPooledPerSize == 0) {
+            return;
+        }
+        idleArrays.computeIfAbsent(array.length, key -> new ArrayBlockingQueue<>(maxPooledPerSize))
+                .offer(array);
+    }
+
+    public int idleCount() {
+        return idleArrays.values().stream()
+                .mapToInt(BlockingQueue::size)
+                .sum();
+    }
+
+    public void clear() {
+        idleArrays.clear();
+    }
+}
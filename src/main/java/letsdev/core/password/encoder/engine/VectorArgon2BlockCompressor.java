@@ -0,0 +1,116 @@
+package letsdev.core.password.encoder.engine;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 순열 P의 16워드를 4×4 행렬로 보고, 네 워드짜리 벡터 a, b, c, d로 G를 네 개씩 동시에 계산합니다.
+ * <ul>
+ *     <li>열 단계: a = (v0..v3), b = (v4..v7), c = (v8..v11), d = (v12..v15)</li>
+ *     <li>대각선 단계: b, c, d의 레인을 1, 2, 3칸 회전시켜 같은 G를 적용한 후 되돌립니다.</li>
+ *     <li>블록의 행 라운드는 연속된 16워드를, 열 라운드는 인덱스 맵으로 모은(gather) 16워드를 씁니다.</li>
+ * </ul>
+ */
+final class VectorArgon2BlockCompressor implements Argon2BlockCompressor {
+
+    static final VectorArgon2BlockCompressor INSTANCE = new VectorArgon2BlockCompressor();
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_256;
+    private static final VectorShuffle<Long> ROTATE_1 = VectorShuffle.iota(SPECIES, 1, 1, true);
+    private static final VectorShuffle<Long> ROTATE_2 = VectorShuffle.iota(SPECIES, 2, 1, true);
+    private static final VectorShuffle<Long> ROTATE_3 = VectorShuffle.iota(SPECIES, 3, 1, true);
+    private static final long M32L = 0xFFFFFFFFL;
+
+    // 열 라운드 i의 16워드: 2i + COLUMN_INDEX_MAP[k]
+    private static final int[] COLUMN_INDEX_MAP = {
+            0, 1, 16, 17,
+            32, 33, 48, 49,
+            64, 65, 80, 81,
+            96, 97, 112, 113
+    };
+
+    private VectorArgon2BlockCompressor() {
+    }
+
+    /**
+     * 256비트 벡터가 하드웨어에서 지원될 때만 사용합니다. (그렇지 않으면 JVM이 스칼라로 흉내 내어 더 느립니다.)
+     */
+    static boolean isSupported() {
+        return LongVector.SPECIES_PREFERRED.vectorBitSize() >= SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public void compress(long[] r) {
+        for (int i = 0; i < 8; i++) {
+            permute(r, 16 * i, null);
+        }
+        for (int i = 0; i < 8; i++) {
+            permute(r, 2 * i, COLUMN_INDEX_MAP);
+        }
+    }
+
+    /**
+     * @param indexMap null이면 {@code offset}부터 연속된 16워드를 씁니다.
+     */
+    private static void permute(long[] r, int offset, int[] indexMap) {
+        LongVector a = load(r, offset, indexMap, 0);
+        LongVector b = load(r, offset, indexMap, 4);
+        LongVector c = load(r, offset, indexMap, 8);
+        LongVector d = load(r, offset, indexMap, 12);
+
+        // 열: (v0, v4, v8, v12), (v1, v5, v9, v13), ...
+        a = blaMka(a, b);
+        d = d.lanewise(VectorOperators.XOR, a).lanewise(VectorOperators.ROR, 32);
+        c = blaMka(c, d);
+        b = b.lanewise(VectorOperators.XOR, c).lanewise(VectorOperators.ROR, 24);
+        a = blaMka(a, b);
+        d = d.lanewise(VectorOperators.XOR, a).lanewise(VectorOperators.ROR, 16);
+        c = blaMka(c, d);
+        b = b.lanewise(VectorOperators.XOR, c).lanewise(VectorOperators.ROR, 63);
+
+        // 대각선: (v0, v5, v10, v15), (v1, v6, v11, v12), ...
+        b = b.rearrange(ROTATE_1);
+        c = c.rearrange(ROTATE_2);
+        d = d.rearrange(ROTATE_3);
+
+        a = blaMka(a, b);
+        d = d.lanewise(VectorOperators.XOR, a).lanewise(VectorOperators.ROR, 32);
+        c = blaMka(c, d);
+        b = b.lanewise(VectorOperators.XOR, c).lanewise(VectorOperators.ROR, 24);
+        a = blaMka(a, b);
+        d = d.lanewise(VectorOperators.XOR, a).lanewise(VectorOperators.ROR, 16);
+        c = blaMka(c, d);
+        b = b.lanewise(VectorOperators.XOR, c).lanewise(VectorOperators.ROR, 63);
+
+        b = b.rearrange(ROTATE_3);
+        c = c.rearrange(ROTATE_2);
+        d = d.rearrange(ROTATE_1);
+
+        store(a, r, offset, indexMap, 0);
+        store(b, r, offset, indexMap, 4);
+        store(c, r, offset, indexMap, 8);
+        store(d, r, offset, indexMap, 12);
+    }
+
+    private static LongVector load(long[] r, int offset, int[] indexMap, int lane) {
+        return indexMap == null
+                ? LongVector.fromArray(SPECIES, r, offset + lane)
+                : LongVector.fromArray(SPECIES, r, offset, indexMap, lane);
+    }
+
+    private static void store(LongVector vector, long[] r, int offset, int[] indexMap, int lane) {
+        if (indexMap == null) {
+            vector.intoArray(r, offset + lane);
+        } else {
+            vector.intoArray(r, offset, indexMap, lane);
+        }
+    }
+
+    // x + y + 2 * lo32(x) * lo32(y)
+    private static LongVector blaMka(LongVector x, LongVector y) {
+        LongVector product = x.lanewise(VectorOperators.AND, M32L).mul(y.lanewise(VectorOperators.AND, M32L));
+        return x.add(y).add(product.add(product));
+    }
+}
@@ -0,0 +1,16 @@
+package letsdev.core.password.encoder.option;
+
+/**
+ * Argon2 압축 함수(G)의 구현 방식. 어느 쪽이든 해시 결과는 같습니다.
+ */
+public enum Argon2Compression {
+    /**
+     * 64비트 정수 연산을 하나씩 수행합니다.
+     */
+    SCALAR,
+    /**
+     * {@code jdk.incubator.vector}로 BLAKE2b 라운드의 네 열(또는 대각선)을 한 번에 계산합니다.
+     * JVM에 {@code --add-modules jdk.incubator.vector}가 없거나 256비트 벡터를 쓸 수 없으면 {@link #SCALAR}로 동작합니다.
+     */
+    VECTOR
+}
@@ -10,6 +10,7 @@ public interface Argon2PasswordEncoderOption extends PasswordEncoderOption {
     float alpha();
     int memory();
     float gain();
+    Argon2Compression compression();
     @Override
     Argon2Variant encoderType();
 }
@@ -12,6 +12,7 @@ import letsdev.core.password.encoder.GeneralPasswordEncoderType.Argon2Variant;
  * @param alpha α ≈ 95% where m ≲ 64 MiB, m이 충분히 크면 α를 감소시켜도 됨.
  * @param gain 메모리 비용 계수(증폭비)
  * @param memoryInput 사용자에 의해 입력된 메모리 비용 보존값
+ * @param compression 압축 함수 구현 (기본값: SCALAR). 해시 결과에는 영향이 없습니다.
  */
 public record Argon2dPasswordEncoderOption(
         int saltLength,
@@ -21,7 +22,8 @@ public record Argon2dPasswordEncoderOption(
         int iterations,
         float alpha,
         float gain,
-        int memoryInput
+        int memoryInput,
+        Argon2Compression compression
 ) implements Argon2PasswordEncoderOption {
 
     @Override
@@ -42,6 +44,7 @@ public record Argon2dPasswordEncoderOption(
         builder.alpha =  0.95f;
         builder.memoryInput =  null;
         builder.gain =  1f;
+        builder.compression = Argon2Compression.SCALAR;
         return builder;
     }
 
@@ -53,6 +56,7 @@ public record Argon2dPasswordEncoderOption(
         private Float alpha;
         private Integer memoryInput;
         private Float gain;
+        private Argon2Compression compression;
 
         private Argon2idPasswordEncoderOptionBuilder() {
 
@@ -93,6 +97,11 @@ public record Argon2dPasswordEncoderOption(
             return this;
         }
 
+        public Argon2idPasswordEncoderOptionBuilder compression(Argon2Compression compression) {
+            this.compression = compression;
+            return this;
+        }
+
         public Argon2PasswordEncoderOption build() {
             int memory = memoryInput != null ? memoryInput : 0;
             if (saltLength == null) {
@@ -140,6 +149,10 @@ public record Argon2dPasswordEncoderOption(
                 throw new Error("memory cost는 양수여야 합니다.");
             }
 
+            if (compression == null) {
+                compression = Argon2Compression.SCALAR;
+            }
+
             memory = (int) (memory * gain);
             return new Argon2dPasswordEncoderOption(
                     saltLength,
@@ -149,7 +162,8 @@ public record Argon2dPasswordEncoderOption(
                     iterations,
                     alpha,
                     gain,
-                    memoryInput
+                    memoryInput,
+                    compression
             );
         }
     }
@@ -0,0 +1,52 @@
+package letsdev.core.password.encoder.option;
+
+/**
+ * PBKDF2의 의사 난수 함수(PRF)
+ */
+public enum Pbkdf2Algorithm {
+    /**
+     * HMAC-SHA-256. 기본 반복 횟수: 600,000 (OWASP 권장값)
+     */
+    HMAC_SHA256("pbkdf2-sha256", 32, 600_000),
+    /**
+     * HMAC-SHA-512. 기본 반복 횟수: 210,000 (OWASP 권장값)
+     */
+    HMAC_SHA512("pbkdf2-sha512", 64, 210_000);
+
+    private final String identifier;
+    private final int digestLength;
+    private final int defaultIterations;
+
+    Pbkdf2Algorithm(String identifier, int digestLength, int defaultIterations) {
+        this.identifier = identifier;
+        this.digestLength = digestLength;
+        this.defaultIterations = defaultIterations;
+    }
+
+    /**
+     * 인코딩된 해시에 적는 이름 (예: {@code $pbkdf2-sha256$})
+     */
+    public String identifier() {
+        return identifier;
+    }
+
+    /**
+     * PRF 출력 길이 (단위: byte)
+     */
+    public int digestLength() {
+        return digestLength;
+    }
+
+    public int defaultIterations() {
+        return defaultIterations;
+    }
+
+    public static Pbkdf2Algorithm fromIdentifier(String identifier) {
+        for (Pbkdf2Algorithm algorithm : values()) {
+            if (algorithm.identifier.equals(identifier)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package letsdev.core.password.encoder.option;
+
+import letsdev.core.password.encoder.GeneralPasswordEncoderType;
+import letsdev.core.password.encoder.PasswordEncoderType;
+import letsdev.core.password.exception.PasswordEncoderOptionErrorCode;
+
+/**
+ * @param algorithm PRF (기본값: HMAC_SHA256)
+ * @param iterations 반복 횟수. 0이면 알고리즘의 기본값 (SHA-256: 600,000, SHA-512: 210,000)
+ * @param saltLength 0이면 16 Byte. 최소 8 Byte
+ * @param hashLength 0이면 PRF 출력 길이 (SHA-256: 32 Byte, SHA-512: 64 Byte)
+ */
+public record Pbkdf2PasswordEncoderOption(
+        Pbkdf2Algorithm algorithm,
+        int iterations,
+        int saltLength,
+        int hashLength
+) implements PasswordEncoderOption {
+
+    private static final int MIN_SALT_LENGTH = 8;
+
+    public Pbkdf2PasswordEncoderOption {
+        if (algorithm == null) {
+            algorithm = Pbkdf2Algorithm.HMAC_SHA256;
+        }
+
+        if (iterations == 0) {
+            iterations = algorithm.defaultIterations();
+        } else if (iterations < 0) {
+            throw PasswordEncoderOptionErrorCode.PBKDF2_ITERATIONS_OUT_OF_RANGE.defaultException();
+        }
+
+        if (saltLength == 0) {
+            saltLength = 16;
+        } else if (saltLength < MIN_SALT_LENGTH) {
+            throw PasswordEncoderOptionErrorCode.INVALID_PASSWORD_ENCODER_OPTION.defaultException();
+        }
+
+        if (hashLength == 0) {
+            hashLength = algorithm.digestLength();
+        } else if (hashLength < 0) {
+            throw PasswordEncoderOptionErrorCode.INVALID_PASSWORD_ENCODER_OPTION.defaultException();
+        }
+    }
+
+    public Pbkdf2PasswordEncoderOption(Pbkdf2Algorithm algorithm, int iterations) {
+        this(algorithm, iterations, 0, 0);
+    }
+
+    public Pbkdf2PasswordEncoderOption() {
+        this(Pbkdf2Algorithm.HMAC_SHA256, 0);
+    }
+
+    @Override
+    public PasswordEncoderType encoderType() {
+        return GeneralPasswordEncoderType.PBKDF2;
+    }
+}
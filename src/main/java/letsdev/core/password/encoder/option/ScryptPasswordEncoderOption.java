@@ -0,0 +1,73 @@
+package letsdev.core.password.encoder.option;
+
+import letsdev.core.password.encoder.GeneralPasswordEncoderType;
+import letsdev.core.password.encoder.PasswordEncoderType;
+import letsdev.core.password.exception.PasswordEncoderOptionErrorCode;
+
+/**
+ * 0을 넣은 항목은 Spring Security {@code SCryptPasswordEncoder}의 기본값을 사용합니다.
+ *
+ * @param cpuCost N. 1보다 큰 2의 거듭제곱. 기본값: 65536
+ * @param memoryCost r (블록 크기). 1 이상 255 이하. 기본값: 8
+ * @param parallelization p. 1 이상 255 이하. 기본값: 1
+ * @param keyLength 해시 길이. 기본값: 32 Byte
+ * @param saltLength 솔트 길이. 기본값: 16 Byte
+ */
+public record ScryptPasswordEncoderOption(
+        int cpuCost,
+        int memoryCost,
+        int parallelization,
+        int keyLength,
+        int saltLength
+) implements PasswordEncoderOption {
+
+    // 해시 문자열에 r, p를 각각 1바이트로 적습니다.
+    private static final int MAX_PARAMETER = 255;
+
+    public ScryptPasswordEncoderOption {
+        var SCRYPT_COST_OUT_OF_RANGE = PasswordEncoderOptionErrorCode.SCRYPT_COST_OUT_OF_RANGE;
+
+        if (cpuCost == 0) {
+            cpuCost = 65_536;
+        } else if (cpuCost <= 1 || Integer.bitCount(cpuCost) != 1) {
+            throw SCRYPT_COST_OUT_OF_RANGE.defaultException();
+        }
+
+        if (memoryCost == 0) {
+            memoryCost = 8;
+        } else if (memoryCost < 0 || MAX_PARAMETER < memoryCost) {
+            throw SCRYPT_COST_OUT_OF_RANGE.defaultException();
+        }
+
+        if (parallelization == 0) {
+            parallelization = 1;
+        } else if (parallelization < 0 || MAX_PARAMETER < parallelization) {
+            throw SCRYPT_COST_OUT_OF_RANGE.defaultException();
+        }
+
+        if (keyLength == 0) {
+            keyLength = 32;
+        } else if (keyLength < 0) {
+            throw PasswordEncoderOptionErrorCode.INVALID_PASSWORD_ENCODER_OPTION.defaultException();
+        }
+
+        if (saltLength == 0) {
+            saltLength = 16;
+        } else if (saltLength < 0) {
+            throw PasswordEncoderOptionErrorCode.INVALID_PASSWORD_ENCODER_OPTION.defaultException();
+        }
+    }
+
+    public ScryptPasswordEncoderOption(int cpuCost, int memoryCost, int parallelization) {
+        this(cpuCost, memoryCost, parallelization, 0, 0);
+    }
+
+    public ScryptPasswordEncoderOption() {
+        this(0, 0, 0);
+    }
+
+    @Override
+    public PasswordEncoderType encoderType() {
+        return GeneralPasswordEncoderType.SCRYPT;
+    }
+}
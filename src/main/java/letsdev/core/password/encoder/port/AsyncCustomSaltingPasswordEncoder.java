@@ -0,0 +1,7 @@
+package letsdev.core.password.encoder.port;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncCustomSaltingPasswordEncoder extends AsyncNotCastedPasswordEncoder {
+    CompletableFuture<String> encodeWithCustomSaltAsync(String rawPassword, byte[] salt);
+}
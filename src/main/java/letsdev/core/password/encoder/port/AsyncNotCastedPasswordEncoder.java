@@ -0,0 +1,7 @@
+package letsdev.core.password.encoder.port;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncNotCastedPasswordEncoder {
+    CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword);
+}
@@ -0,0 +1,12 @@
+package letsdev.core.password.encoder.port;
+
+import java.util.List;
+
+/**
+ * 여러 비밀번호를 코어 수만큼 나누어 처리합니다. 결과는 입력 순서를 따릅니다.
+ */
+public interface BatchPasswordEncoder {
+    List<String> encodeAll(List<String> rawPasswords);
+
+    List<Boolean> matchesAll(List<PasswordPair> passwordPairs);
+}
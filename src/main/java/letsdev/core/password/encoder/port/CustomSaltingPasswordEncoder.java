@@ -1,5 +1,29 @@
 package letsdev.core.password.encoder.port;
 
+import letsdev.core.password.encoder.RawPasswordBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public interface CustomSaltingPasswordEncoder extends NotCastedPasswordEncoder {
     String encodeWithCustomSalt(String rawPassword, byte[] salt);
+
+    default String encodeWithCustomSalt(char[] rawPassword, byte[] salt) {
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encodeWithCustomSalt(buffer, salt));
+    }
+
+    /**
+     * @param rawPassword UTF-8로 인코딩한 비밀번호
+     */
+    default String encodeWithCustomSalt(byte[] rawPassword, byte[] salt) {
+        return encodeWithCustomSalt(ByteBuffer.wrap(rawPassword), salt);
+    }
+
+    /**
+     * @param rawPassword UTF-8로 인코딩한 비밀번호. position부터 limit까지 읽으며, 버퍼의 position은 바꾸지 않습니다.
+     * 기본 구현은 문자열로 바꿔 인코딩하므로, 평문을 힙에 남기지 않으려면 구현체가 재정의해야 합니다.
+     */
+    default String encodeWithCustomSalt(ByteBuffer rawPassword, byte[] salt) {
+        return encodeWithCustomSalt(StandardCharsets.UTF_8.decode(rawPassword.duplicate()).toString(), salt);
+    }
 }
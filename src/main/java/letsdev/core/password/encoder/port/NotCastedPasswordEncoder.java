@@ -1,5 +1,32 @@
 package letsdev.core.password.encoder.port;
 
+import letsdev.core.password.encoder.RawPasswordBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public interface NotCastedPasswordEncoder {
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * 문자열을 만들지 않고 검증합니다. 호출한 쪽은 검증이 끝난 뒤 {@code rawPassword}를 지울 수 있습니다.
+     */
+    default boolean matches(char[] rawPassword, String encodedPassword) {
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> matches(buffer, encodedPassword));
+    }
+
+    /**
+     * @param rawPassword UTF-8로 인코딩한 비밀번호
+     */
+    default boolean matches(byte[] rawPassword, String encodedPassword) {
+        return matches(ByteBuffer.wrap(rawPassword), encodedPassword);
+    }
+
+    /**
+     * @param rawPassword UTF-8로 인코딩한 비밀번호. position부터 limit까지 읽으며, 버퍼의 position은 바꾸지 않습니다.
+     * 기본 구현은 문자열로 바꿔 검증하므로, 평문을 힙에 남기지 않으려면 구현체가 재정의해야 합니다.
+     */
+    default boolean matches(ByteBuffer rawPassword, String encodedPassword) {
+        return matches(StandardCharsets.UTF_8.decode(rawPassword.duplicate()).toString(), encodedPassword);
+    }
 }
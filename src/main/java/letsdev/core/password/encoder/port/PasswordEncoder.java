@@ -1,5 +1,41 @@
 package letsdev.core.password.encoder.port;
 
+import letsdev.core.password.encoder.RawPasswordBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public interface PasswordEncoder extends NotCastedPasswordEncoder {
     String encode(String rawPassword);
+
+    /**
+     * 문자열을 만들지 않고 인코딩합니다. 호출한 쪽은 인코딩이 끝난 뒤 {@code rawPassword}를 지울 수 있습니다.
+     */
+    default String encode(char[] rawPassword) {
+        return RawPasswordBuffer.applyUtf8(rawPassword, buffer -> encode(buffer));
+    }
+
+    /**
+     * @param rawPassword UTF-8로 인코딩한 비밀번호
+     */
+    default String encode(byte[] rawPassword) {
+        return encode(ByteBuffer.wrap(rawPassword));
+    }
+
+    /**
+     * @param rawPassword UTF-8로 인코딩한 비밀번호. position부터 limit까지 읽으며, 버퍼의 position은 바꾸지 않습니다.
+     * 기본 구현은 문자열로 바꿔 인코딩하므로, 평문을 힙에 남기지 않으려면 구현체가 재정의해야 합니다.
+     */
+    default String encode(ByteBuffer rawPassword) {
+        return encode(StandardCharsets.UTF_8.decode(rawPassword.duplicate()).toString());
+    }
+
+    /**
+     * 저장된 해시가 이 인코더의 현재 설정보다 약하거나 다른 알고리즘으로 만들어졌는지 확인합니다.
+     * 검증에 성공한 직후 다시 해싱할지 판단할 때 사용합니다.
+     * 기본 구현은 false를 반환합니다. (다시 해싱하지 않음)
+     */
+    default boolean needsUpgrade(String encodedPassword) {
+        return false;
+    }
 }
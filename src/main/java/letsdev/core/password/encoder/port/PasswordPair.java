@@ -0,0 +1,4 @@
+package letsdev.core.password.encoder.port;
+
+public record PasswordPair(String rawPassword, String encodedPassword) {
+}
@@ -0,0 +1,4 @@
+package letsdev.core.password.encoder.port;
+
+public interface Pbkdf2PasswordEncoder extends PasswordEncoder {
+}
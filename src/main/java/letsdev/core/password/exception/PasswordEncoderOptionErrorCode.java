@@ -8,6 +8,14 @@ public enum PasswordEncoderOptionErrorCode implements ErrorCode {
             "The strength(cost factor) must be between 4 and 31 inclusive.",
             HttpStatus.INTERNAL_SERVER_ERROR
     ),
+    PBKDF2_ITERATIONS_OUT_OF_RANGE(
+            "The iterations of PBKDF2 must be positive.",
+            HttpStatus.INTERNAL_SERVER_ERROR
+    ),
+    SCRYPT_COST_OUT_OF_RANGE(
+            "The cpu cost(N) of scrypt must be a power of 2 greater than 1, and the memory cost(r) and parallelization(p) must be between 1 and 255 inclusive.",
+            HttpStatus.INTERNAL_SERVER_ERROR
+    ),
     INVALID_PASSWORD_ENCODER_OPTION(
             "올바른 옵션을 입력하십시오.",
             HttpStatus.INTERNAL_SERVER_ERROR
@@ -0,0 +1,43 @@
+package letsdev.core.password.exception;
+
+import letsdev.common.exception.support.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+public enum PasswordEncoderOverloadErrorCode implements ErrorCode {
+    MEMORY_BUDGET_EXHAUSTED(
+            "요청이 많아 잠시 후 다시 시도해 주십시오.",
+            HttpStatus.SERVICE_UNAVAILABLE
+    ),
+    HASHING_QUEUE_FULL(
+            "요청이 많아 잠시 후 다시 시도해 주십시오.",
+            HttpStatus.SERVICE_UNAVAILABLE
+    );
+
+    PasswordEncoderOverloadErrorCode(String message, HttpStatus status) {
+        this.message = message;
+        this.status = status;
+    }
+
+    private final String message;
+    private final HttpStatus status;
+
+    @Override
+    public HttpStatus defaultHttpStatus() {
+        return status;
+    }
+
+    @Override
+    public String defaultMessage() {
+        return message;
+    }
+
+    @Override
+    public PasswordEncoderOverloadException defaultException() {
+        return new PasswordEncoderOverloadException(this);
+    }
+
+    @Override
+    public PasswordEncoderOverloadException defaultException(Throwable cause) {
+        return new PasswordEncoderOverloadException(this, cause);
+    }
+}
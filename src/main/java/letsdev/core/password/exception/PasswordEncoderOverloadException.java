@@ -0,0 +1,45 @@
+package letsdev.core.password.exception;
+
+import letsdev.common.exception.support.ErrorCode;
+
+public class PasswordEncoderOverloadException extends PasswordEncoderException {
+    public PasswordEncoderOverloadException() {
+        super();
+    }
+
+    public PasswordEncoderOverloadException(String message) {
+        super(message);
+    }
+
+    public PasswordEncoderOverloadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public PasswordEncoderOverloadException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public PasswordEncoderOverloadException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode, cause);
+    }
+
+    public PasswordEncoderOverloadException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public PasswordEncoderOverloadException(ErrorCode errorCode, String message, Throwable cause) {
+        super(errorCode, message, cause);
+    }
+
+    public PasswordEncoderOverloadException(Throwable cause) {
+        super(cause);
+    }
+
+    protected PasswordEncoderOverloadException(Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(cause, enableSuppression, writableStackTrace);
+    }
+
+    protected PasswordEncoderOverloadException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,182 @@
+package letsdev.core.password.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import letsdev.core.password.concurrent.PasswordHashingExecutor;
+import letsdev.core.password.encoder.adapter.VerificationCachingPasswordEncoder;
+import letsdev.core.password.encoder.engine.Argon2MemoryBudget;
+import letsdev.core.password.encoder.option.Argon2PasswordEncoderOption;
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption;
+import letsdev.core.password.encoder.option.PasswordEncoderOption;
+import letsdev.core.password.encoder.option.Pbkdf2PasswordEncoderOption;
+import letsdev.core.password.encoder.option.ScryptPasswordEncoderOption;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 패스워드 인코더 지표를 Micrometer에 등록합니다.
+ * <ul>
+ *     <li>{@code password.encoder.operation}: 해싱 시간 (히스토그램, p50/p95/p99)
+ *     태그: algorithm, cost, operation</li>
+ *     <li>{@code password.encoder.in.flight}: 진행 중인 해싱 수. 태그: algorithm</li>
+ *     <li>{@code cache.*}(cache=password.encoder.instances): 인스턴스 캐시 적중, 누락, 제거, 로드 시간</li>
+ *     <li>해싱 큐 깊이, Argon2 메모리 예산 점유량, 검증 결과 캐시 적중</li>
+ * </ul>
+ * 태그는 {@code PasswordEncoderType}과 비용 파라미터에서만 만듭니다. 저장된 해시의 파라미터로 만든 인코더도 지표를 쓰므로,
+ * 서로 다른 (algorithm, cost) 태그는 {@link #MAX_COST_TAGS}개까지만 만들고, 그 뒤의 비용은 {@code cost=other}로 모읍니다.
+ * 해싱 시간 지표는 같은 태그를 쓰는 인코더가 모두 캐시에서 제거되면 함께 제거합니다. ({@link #removeOperationMeters(OperationMeters)})
+ */
+public class PasswordEncoderMetrics {
+
+    public static final String OPERATION_TIMER = "password.encoder.operation";
+    public static final String IN_FLIGHT_GAUGE = "password.encoder.in.flight";
+
+    public static final int MAX_COST_TAGS = 16;
+    public static final String OVERFLOW_COST_TAG = "other";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, AtomicInteger> inFlightByAlgorithm = new ConcurrentHashMap<>();
+    // 태그별로 해싱 시간 지표를 쓰는 인코더 수 (비용이 같고 솔트 길이 등만 다른 옵션은 지표를 공유합니다.)
+    private final ConcurrentMap<Tags, Integer> operationMeterUsers = new ConcurrentHashMap<>();
+
+    public PasswordEncoderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public OperationMeters operationMeters(PasswordEncoderOption option) {
+        String algorithm = algorithmTag(option);
+        Tags tags = acquireOperationTags(algorithm, costTag(option));
+        AtomicInteger inFlight = inFlightByAlgorithm.computeIfAbsent(algorithm, key -> {
+            var counter = new AtomicInteger();
+            Gauge.builder(IN_FLIGHT_GAUGE, counter, AtomicInteger::get)
+                    .description("Password hashing operations in progress")
+                    .tag("algorithm", key)
+                    .register(meterRegistry);
+            return counter;
+        });
+        return new OperationMeters(
+                timer(tags, "encode"),
+                timer(tags, "encode_with_custom_salt"),
+                timer(tags, "matches"),
+                inFlight,
+                tags,
+                new AtomicBoolean()
+        );
+    }
+
+    /**
+     * 캐시에서 제거된 인코더의 지표를 반납합니다. 같은 지표를 여러 번 반납해도 한 번만 반영합니다.
+     * 같은 태그를 쓰는 인코더가 남아 있지 않으면 해싱 시간 지표(히스토그램 포함)를 레지스트리에서 제거합니다.
+     */
+    public void removeOperationMeters(OperationMeters meters) {
+        if (!meters.removed().compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (operationMeterUsers) {
+            operationMeterUsers.computeIfPresent(meters.tags(), (tags, users) -> {
+                if (users > 1) {
+                    return users - 1;
+                }
+                meterRegistry.find(OPERATION_TIMER).tags(tags).timers().forEach(meterRegistry::remove);
+                return null;
+            });
+        }
+    }
+
+    public void monitorInstanceCache(Cache<?, ?> instanceCache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, instanceCache, "password.encoder.instances");
+    }
+
+    public void monitorHashingExecutor(PasswordHashingExecutor hashingExecutor, String name) {
+        Gauge.builder("password.encoder.hashing.queue.depth", hashingExecutor, PasswordHashingExecutor::queueDepth)
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("password.encoder.hashing.active", hashingExecutor, PasswordHashingExecutor::activeCount)
+                .tag("executor", name)
+                .register(meterRegistry);
+    }
+
+    public void monitorArgon2MemoryBudget(Argon2MemoryBudget memoryBudget) {
+        Gauge.builder("password.encoder.argon2.memory.in.flight", memoryBudget, Argon2MemoryBudget::inFlightKiB)
+                .baseUnit("kibibytes")
+                .register(meterRegistry);
+        Gauge.builder("password.encoder.argon2.memory.max", memoryBudget, Argon2MemoryBudget::maxInFlightKiB)
+                .baseUnit("kibibytes")
+                .register(meterRegistry);
+    }
+
+    public void monitorVerificationCache(VerificationCachingPasswordEncoder encoder, String name) {
+        FunctionCounter.builder("password.encoder.verification.cache.requests", encoder, e -> e.stats().hitCount())
+                .tags("cache", name, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("password.encoder.verification.cache.requests", encoder, e -> e.stats().missCount())
+                .tags("cache", name, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("password.encoder.verification.cache.hit.ratio", encoder, VerificationCachingPasswordEncoder::hitRate)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    // 태그 수 확인과 등록을 한 번에 해야 상한을 넘지 않습니다. (인코더 생성, 제거 때만 호출)
+    private Tags acquireOperationTags(String algorithm, String cost) {
+        Tags tags = Tags.of("algorithm", algorithm, "cost", cost);
+        synchronized (operationMeterUsers) {
+            if (!operationMeterUsers.containsKey(tags) && operationMeterUsers.size() >= MAX_COST_TAGS) {
+                tags = Tags.of("algorithm", algorithm, "cost", OVERFLOW_COST_TAG);
+            }
+            operationMeterUsers.merge(tags, 1, Integer::sum);
+        }
+        return tags;
+    }
+
+    private Timer timer(Tags tags, String operation) {
+        return Timer.builder(OPERATION_TIMER)
+                .description("Password hashing latency")
+                .tags(tags)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    private static String algorithmTag(PasswordEncoderOption option) {
+        return option.encoderType().name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String costTag(PasswordEncoderOption option) {
+        if (option instanceof BcryptPasswordEncoderOption bcryptOption) {
+            return STR."s\{bcryptOption.strength()}";
+        }
+        if (option instanceof Argon2PasswordEncoderOption argon2Option) {
+            return STR."m\{argon2Option.memory()}-t\{argon2Option.iterations()}-p\{argon2Option.parallelism()}";
+        }
+        if (option instanceof Pbkdf2PasswordEncoderOption pbkdf2Option) {
+            return STR."\{pbkdf2Option.algorithm().identifier()}-i\{pbkdf2Option.iterations()}";
+        }
+        if (option instanceof ScryptPasswordEncoderOption scryptOption) {
+            return STR."n\{scryptOption.cpuCost()}-r\{scryptOption.memoryCost()}-p\{scryptOption.parallelization()}";
+        }
+        return "default";
+    }
+
+    public record OperationMeters(
+            Timer encode,
+            Timer encodeWithCustomSalt,
+            Timer matches,
+            AtomicInteger inFlight,
+            Tags tags,
+            AtomicBoolean removed
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+CREATE TABLE user_password_history (
+    id              BIGINT          GENERATED BY DEFAULT AS IDENTITY,
+    user_id         UUID            NOT NULL,
+    history_hash    VARCHAR(255)    NOT NULL,
+    created_at      TIMESTAMP       DEFAULT NOW(),
+
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_password_history_user_id FOREIGN KEY (user_id) REFERENCES "user" (id) ON DELETE CASCADE
+);
+
+-- 재사용 검사는 사용자의 최근 이력만, 정리는 사용자별 이력 수와 순위만 이 인덱스로 읽습니다.
+-- (user_id, history_hash) 대신 (user_id, id DESC)로 둔 이유:
+--   재사용 검사는 최근 keep개 안에서만 일치를 찾아야 합니다. (아직 지우지 않은 오래된 이력은 제외)
+--   해시 동등 조회로는 "최근 keep개"를 표현할 수 없어 결국 순위를 다시 매겨야 하지만,
+--   이 인덱스로는 최근 keep개의 항목만 순서대로 읽고 해시를 비교하면 됩니다. (keep이 작으므로 등치 조회와 비용이 비슷)
+--   정리 쿼리도 같은 인덱스로 사용자별 순위를 매기므로, 긴 VARCHAR 인덱스를 하나 더 두지 않습니다.
+CREATE INDEX idx_user_password_history_user_id_id ON user_password_history (user_id, id DESC);
@@ -0,0 +1,10 @@
+CREATE TABLE password_migration_checkpoint (
+    job_name        VARCHAR(255),
+    last_user_id    UUID,
+    processed       BIGINT          DEFAULT 0 NOT NULL,
+    wrapped         BIGINT          DEFAULT 0 NOT NULL,
+    completed_at    TIMESTAMP,
+    updated_at      TIMESTAMP       DEFAULT NOW(),
+
+    PRIMARY KEY (job_name)
+);
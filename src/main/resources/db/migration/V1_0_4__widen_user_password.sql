@@ -0,0 +1,5 @@
+-- {onion} 해시는 (가린) 안쪽 해시와 바깥 해시를 모두 담으므로, PBKDF2-SHA512나 긴 솔트의 Argon2가 바깥이면 255자를 넘습니다.
+ALTER TABLE "user" ALTER COLUMN password SET DATA TYPE VARCHAR(512);
+
+-- 그래도 길이를 넘는 해시는 감싸지 않고 건너뛴 수로 기록합니다.
+ALTER TABLE password_migration_checkpoint ADD COLUMN skipped BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,54 @@
+package letsdev.auth.actuator
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.CapturingSlot
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import letsdev.auth.configuration.AuthConfiguration
+import letsdev.auth.configuration.PasswordEncoderProperties
+import letsdev.core.password.PasswordEncoderFactory
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder
+import letsdev.core.password.encoder.option.Argon2Compression
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.option.PasswordEncoderOption
+import java.util.concurrent.CompletableFuture
+import kotlin.test.*
+
+class PasswordEncoderEndpointTest: StringSpec({
+    val primaryOption = Argon2idPasswordEncoderOption.fromDefaultBuilder()
+            .gain(AuthConfiguration.DEFAULT_ARGON2_GAIN)
+            .build()
+    lateinit var reloadedOption: CapturingSlot<PasswordEncoderOption>
+    lateinit var endpoint: PasswordEncoderEndpoint
+
+    beforeTest {
+        reloadedOption = slot()
+        val passwordEncoderFactory = mockk<PasswordEncoderFactory>(relaxed = true) {
+            every { preload(any()) } returns CompletableFuture.completedFuture(null)
+        }
+        val reloadablePasswordEncoder = mockk<ReloadablePasswordEncoder> {
+            every { reload(capture(reloadedOption)) } returns primaryOption
+        }
+        val properties = mockk<PasswordEncoderProperties> {
+            every { argon2Compression() } returns Argon2Compression.SCALAR
+        }
+        endpoint = PasswordEncoderEndpoint(passwordEncoderFactory, reloadablePasswordEncoder, properties)
+    }
+
+    "reload(argon2id): memory를 생략하면 기본 인코더와 같은 계수로 메모리를 정한다." {
+        endpoint.reload("argon2id", null, null, null, null, null, null)
+
+        val option = reloadedOption.captured as Argon2idPasswordEncoderOption
+        assertEquals(primaryOption.memory(), option.memory())
+        assertEquals(AuthConfiguration.DEFAULT_ARGON2_GAIN, option.gain())
+    }
+
+    "reload(argon2id): memory를 지정하면 계수를 곱하지 않고 그대로 쓴다." {
+        endpoint.reload("argon2id", null, 65536, 2, null, null, null)
+
+        val option = reloadedOption.captured as Argon2idPasswordEncoderOption
+        assertEquals(65536, option.memory())
+        assertEquals(2, option.iterations())
+    }
+})
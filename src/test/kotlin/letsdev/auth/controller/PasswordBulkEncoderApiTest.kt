@@ -0,0 +1,195 @@
+package letsdev.auth.controller
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import letsdev.auth.configuration.PasswordEncoderProperties
+import letsdev.auth.service.PasswordHistoryService
+import letsdev.core.password.PasswordEncoderFactory
+import letsdev.core.password.concurrent.PasswordHashingExecutor
+import letsdev.core.password.encoder.port.PasswordEncoder
+import org.springframework.mock.web.MockHttpServletResponse
+import java.time.Duration
+import java.util.UUID
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.*
+
+class PasswordBulkEncoderApiTest: StringSpec({
+    val objectMapper = ObjectMapper()
+    lateinit var passwordEncoder: PasswordEncoder
+    lateinit var passwordHistoryService: PasswordHistoryService
+    lateinit var hashingExecutor: PasswordHashingExecutor
+
+    beforeTest {
+        passwordEncoder = mockk {
+            every { encode(any<CharArray>()) } answers { "{argon2}" + String(firstArg<CharArray>()) }
+        }
+        passwordHistoryService = mockk {
+            every { historyHash(any(), any()) } answers { "{history}" + String(secondArg<CharArray>()) }
+        }
+    }
+
+    afterTest {
+        hashingExecutor.close()
+    }
+
+    fun api(
+            threads: Int,
+            queueCapacity: Int,
+            maxInFlight: Int,
+            overloadTimeout: Duration = Duration.ofSeconds(5)
+    ): PasswordBulkEncoderApi {
+        hashingExecutor = PasswordHashingExecutor(threads, queueCapacity)
+        val passwordEncoderFactory = mockk<PasswordEncoderFactory> {
+            every { hashingExecutor() } returns hashingExecutor
+        }
+        val properties = mockk<PasswordEncoderProperties> {
+            every { bulk() } returns PasswordEncoderProperties.Bulk(maxInFlight, overloadTimeout)
+        }
+        return PasswordBulkEncoderApi(
+                passwordEncoder,
+                passwordHistoryService,
+                passwordEncoderFactory,
+                objectMapper,
+                properties
+        )
+    }
+
+    fun PasswordBulkEncoderApi.post(vararg lines: String): List<Map<String, String>> {
+        val response = MockHttpServletResponse()
+        encodeBulk(lines.joinToString("\n").byteInputStream(), response)
+        return response.contentAsString.lines()
+                .filter { it.isNotBlank() }
+                .map { objectMapper.readValue(it, Map::class.java) as Map<String, String> }
+    }
+
+    fun record(id: String, password: String, userId: String? = null) = when (userId) {
+        null -> """{"id":"$id","password":"$password"}"""
+        else -> """{"id":"$id","user_id":"$userId","password":"$password"}"""
+    }
+
+    "bulk(order): 결과는 끝나는 순서대로 나오고, 각 결과는 id로 자기 레코드와 맞는다." {
+        val slow = UUID.randomUUID().toString()
+        val fast = UUID.randomUUID().toString()
+        every { passwordEncoder.encode(any<CharArray>()) } answers {
+            val password = String(firstArg<CharArray>())
+            if (password == "slow") {
+                Thread.sleep(300)
+            }
+            "{argon2}$password"
+        }
+
+        val results = api(threads = 2, queueCapacity = 2, maxInFlight = 2)
+                .post(record(slow, "slow"), record(fast, "fast", UUID.randomUUID().toString()))
+
+        assertEquals(listOf(fast, slow), results.map { it["id"] })
+        assertEquals("{argon2}slow", results.single { it["id"] == slow }["encoded_password"])
+        assertEquals("{history}fast", results.single { it["id"] == fast }["history_password"])
+    }
+
+    "bulk(error): 레코드 단위 실패는 error로 알리고 나머지 레코드는 계속 처리한다." {
+        val ok = "ok"
+        val missingPassword = "missing-password"
+        val failing = "failing"
+        every { passwordEncoder.encode(any<CharArray>()) } answers {
+            val password = String(firstArg<CharArray>())
+            if (password == "boom") {
+                throw IllegalStateException("boom")
+            }
+            "{argon2}$password"
+        }
+
+        val results = api(threads = 1, queueCapacity = 4, maxInFlight = 4).post(
+                record("invalid-user-id", "abcd1234", "not-a-uuid"),
+                """{"id":"$missingPassword"}""",
+                record(failing, "boom"),
+                record(ok, "abcd1234"),
+        ).groupBy { it["id"] }
+
+        assertEquals("INVALID_RECORD", results["invalid-user-id"]!!.single()["error"])
+        assertEquals("INVALID_RECORD", results[missingPassword]!!.single()["error"])
+        assertEquals("ENCODING_FAILED", results[failing]!!.single()["error"])
+        assertEquals("{argon2}abcd1234", results[ok]!!.single()["encoded_password"])
+    }
+
+    "bulk(history): 이력 해시는 user_id가 있을 때만 그 사용자의 솔트로 만들고, 임의의 id는 그대로 돌려준다." {
+        val userId = UUID.randomUUID()
+
+        val results = api(threads = 1, queueCapacity = 2, maxInFlight = 2).post(
+                record("with-history", "abcd1234", userId.toString()),
+                record("without-history", "abcd1234"),
+        ).associateBy { it["id"] }
+
+        assertEquals("{history}abcd1234", results["with-history"]!!["history_password"])
+        assertFalse { results["without-history"]!!.containsKey("history_password") }
+        assertEquals("{argon2}abcd1234", results["without-history"]!!["encoded_password"])
+        verify(exactly = 1) { passwordHistoryService.historyHash(userId, any()) }
+    }
+
+    "bulk(malformed): JSON이 깨진 줄에서 멈추되, 이미 맡긴 결과는 모두 내보낸 후 MALFORMED_RECORD를 쓴다." {
+        val first = UUID.randomUUID().toString()
+        val second = UUID.randomUUID().toString()
+        val third = UUID.randomUUID().toString()
+
+        val results = api(threads = 2, queueCapacity = 4, maxInFlight = 4).post(
+                record(first, "first"),
+                record(second, "second"),
+                """{"id":"broken","password":""",
+                record(third, "third"),
+        )
+
+        assertEquals(setOf(first, second), results.dropLast(1).map { it["id"] }.toSet())
+        assertEquals("MALFORMED_RECORD", results.last()["error"])
+        verify(exactly = 2) { passwordEncoder.encode(any<CharArray>()) }
+    }
+
+    "bulk(maxInFlight): 풀의 스레드가 남아도 한 요청이 동시에 맡기는 레코드는 maxInFlight개까지다." {
+        val running = AtomicInteger()
+        val maxRunning = AtomicInteger()
+        every { passwordEncoder.encode(any<CharArray>()) } answers {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), { a, b -> maxOf(a, b) })
+            Thread.sleep(50)
+            running.decrementAndGet()
+            "{argon2}" + String(firstArg<CharArray>())
+        }
+
+        val results = api(threads = 4, queueCapacity = 8, maxInFlight = 2)
+                .post(*Array(6) { record(UUID.randomUUID().toString(), "password$it") })
+
+        assertEquals(6, results.count { it["error"] == null })
+        assertTrue { maxRunning.get() <= 2 }
+    }
+
+    "bulk(overload): 풀의 대기 큐가 가득 차도 레코드를 버리지 않고 기다렸다가 다시 맡긴다." {
+        every { passwordEncoder.encode(any<CharArray>()) } answers {
+            Thread.sleep(50)
+            "{argon2}" + String(firstArg<CharArray>())
+        }
+
+        // 스레드 하나와 대기 큐 하나로는 동시에 두 레코드만 받아 줍니다.
+        val results = api(threads = 1, queueCapacity = 1, maxInFlight = 4)
+                .post(*Array(4) { record(UUID.randomUUID().toString(), "password$it") })
+
+        assertEquals(4, results.size)
+        assertTrue { results.all { it["error"] == null } }
+    }
+
+    "bulk(overload): 대기 큐가 overloadTimeout 동안 계속 가득 차 있으면 그 레코드는 HASHING_QUEUE_FULL로 알린다." {
+        every { passwordEncoder.encode(any<CharArray>()) } answers {
+            Thread.sleep(500)
+            "{argon2}" + String(firstArg<CharArray>())
+        }
+
+        // 첫 레코드는 해싱 중, 둘째는 대기 큐에 있으므로 셋째는 500ms 동안 맡길 수 없습니다.
+        val results = api(threads = 1, queueCapacity = 1, maxInFlight = 4, overloadTimeout = Duration.ofMillis(100))
+                .post(record("first", "first"), record("second", "second"), record("third", "third"))
+                .associateBy { it["id"] }
+
+        assertEquals("HASHING_QUEUE_FULL", results["third"]!!["error"])
+        assertNull(results["first"]!!["error"])
+        assertNull(results["second"]!!["error"])
+        verify(exactly = 2) { passwordEncoder.encode(any<CharArray>()) }
+    }
+})
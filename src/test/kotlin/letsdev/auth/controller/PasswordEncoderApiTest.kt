@@ -0,0 +1,102 @@
+package letsdev.auth.controller
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import letsdev.auth.controller.dto.PasswordEncodingRequest
+import letsdev.auth.service.PasswordHistoryService
+import letsdev.core.password.PasswordEncoderFactory
+import letsdev.core.password.concurrent.PasswordHashingExecutor
+import letsdev.core.password.encoder.port.PasswordEncoder
+import letsdev.core.password.exception.PasswordEncoderEncryptionException
+import letsdev.core.password.exception.PasswordEncoderOverloadException
+import java.util.UUID
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PasswordEncoderApiTest: StringSpec({
+    lateinit var passwordEncoder: PasswordEncoder
+    lateinit var passwordHistoryService: PasswordHistoryService
+    lateinit var hashingExecutor: PasswordHashingExecutor
+
+    beforeTest {
+        passwordEncoder = mockk {
+            every { encode(any<CharArray>()) } returns "{argon2}encoded"
+        }
+        passwordHistoryService = mockk {
+            every { historyHash(any(), any()) } returns "{argon2}history"
+        }
+    }
+
+    afterTest {
+        hashingExecutor.close()
+    }
+
+    fun api(threads: Int, queueCapacity: Int): PasswordEncoderApi {
+        hashingExecutor = PasswordHashingExecutor(threads, queueCapacity)
+        val passwordEncoderFactory = mockk<PasswordEncoderFactory> {
+            every { hashingExecutor() } returns hashingExecutor
+        }
+        return PasswordEncoderApi(passwordEncoder, passwordHistoryService, passwordEncoderFactory)
+    }
+
+    "encode: 사용자 ID가 있으면 그 사용자의 이력 해시를 함께 돌려주고, 평문을 지운다." {
+        val userId = UUID.randomUUID()
+        val password = "abcd1234".toCharArray()
+
+        val response = api(threads = 2, queueCapacity = 2).encode(PasswordEncodingRequest(userId, password))
+
+        assertEquals("{argon2}encoded", response.encodedPassword())
+        assertEquals("{argon2}history", response.historyPassword())
+        assertTrue { password.all { it == '\u0000' } }
+        verify(exactly = 1) { passwordHistoryService.historyHash(userId, any()) }
+    }
+
+    "encode: 사용자 ID가 없으면 이력 해시를 만들지 않는다." {
+        val response = api(threads = 1, queueCapacity = 1).encode(PasswordEncodingRequest(null, "abcd1234".toCharArray()))
+
+        assertEquals("{argon2}encoded", response.encodedPassword())
+        assertNull(response.historyPassword())
+        verify(exactly = 0) { passwordHistoryService.historyHash(any(), any()) }
+    }
+
+    "encode(cancel): 한쪽 해시가 실패하면 해싱 중인 다른 쪽을 인터럽트하고, 실패한 쪽의 예외로 응답한다." {
+        val hashingStarted = CountDownLatch(1)
+        val interrupted = CountDownLatch(1)
+        every { passwordEncoder.encode(any<CharArray>()) } answers {
+            hashingStarted.countDown()
+            try {
+                Thread.sleep(5_000)
+            } catch (e: InterruptedException) {
+                interrupted.countDown()
+            }
+            "{argon2}encoded"
+        }
+        every { passwordHistoryService.historyHash(any(), any()) } answers {
+            hashingStarted.await(5, TimeUnit.SECONDS)
+            throw PasswordEncoderEncryptionException("boom")
+        }
+
+        assertFailsWith<PasswordEncoderEncryptionException> {
+            api(threads = 2, queueCapacity = 2).encode(PasswordEncodingRequest(UUID.randomUUID(), "abcd1234".toCharArray()))
+        }
+        assertTrue { interrupted.await(1, TimeUnit.SECONDS) }
+    }
+
+    "encode(cancel): 한쪽 해시가 거절되면(대기 큐 가득 참) 대기 중인 다른 쪽을 시작하지 않는다." {
+        val api = api(threads = 1, queueCapacity = 1)
+        val release = CountDownLatch(1)
+        hashingExecutor.execute { release.await(5, TimeUnit.SECONDS) }
+
+        // 스레드는 막혀 있으므로, 비밀번호 해시는 대기 큐에 들어가고 이력 해시는 거절됩니다.
+        assertFailsWith<PasswordEncoderOverloadException> {
+            api.encode(PasswordEncodingRequest(UUID.randomUUID(), "abcd1234".toCharArray()))
+        }
+        release.countDown()
+        Thread.sleep(100)
+
+        verify(exactly = 0) { passwordEncoder.encode(any<CharArray>()) }
+    }
+})
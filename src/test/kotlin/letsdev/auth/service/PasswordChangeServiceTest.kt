@@ -0,0 +1,96 @@
+package letsdev.auth.service
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import letsdev.auth.service.PasswordChangeService.Result
+import letsdev.core.password.encoder.port.PasswordEncoder
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
+import java.util.Optional
+import java.util.UUID
+import kotlin.test.*
+
+class PasswordChangeServiceTest: StringSpec({
+    val userId = UUID.randomUUID()
+    lateinit var passwordVerificationService: PasswordVerificationService
+    lateinit var passwordHistoryService: PasswordHistoryService
+    lateinit var passwordEncoder: PasswordEncoder
+    lateinit var jdbcTemplate: JdbcTemplate
+    lateinit var service: PasswordChangeService
+
+    beforeTest {
+        passwordVerificationService = mockk {
+            every { verify("user", any()) } returns Optional.of(userId)
+            every { verify("nobody", any()) } returns Optional.empty()
+        }
+        passwordHistoryService = mockk(relaxUnitFun = true) {
+            every { historyHash(userId, any()) } returns "{argon2}history"
+            every { isReusedHash(userId, "{argon2}history") } returns false
+        }
+        passwordEncoder = mockk {
+            every { encode(any<CharArray>()) } returns "{argon2}encoded"
+        }
+        jdbcTemplate = mockk {
+            every { update(any<String>(), *anyVararg()) } returns 1
+        }
+        val transactionTemplate = mockk<TransactionTemplate> {
+            every { execute(any<TransactionCallback<Boolean>>()) } answers {
+                firstArg<TransactionCallback<Boolean>>().doInTransaction(mockk())
+            }
+        }
+        service = PasswordChangeService(
+                passwordVerificationService,
+                passwordHistoryService,
+                passwordEncoder,
+                jdbcTemplate,
+                transactionTemplate
+        )
+    }
+
+    "change: 현재 비밀번호가 맞고 최근 이력에 없으면 바꾸고, 검사에 쓴 이력 해시를 그대로 저장한다." {
+        assertEquals(Result.CHANGED, service.change("user", "old".toCharArray(), "new".toCharArray()))
+
+        verify { jdbcTemplate.update(match<String> { it.contains("UPDATE \"user\"") }, "{argon2}encoded", userId) }
+        verify(exactly = 1) { passwordHistoryService.historyHash(userId, any()) }
+        verify(exactly = 1) { passwordHistoryService.recordHash(userId, "{argon2}history") }
+    }
+
+    "change(reused): 새 비밀번호가 최근 이력에 있으면 해싱하거나 저장하지 않는다." {
+        every { passwordHistoryService.isReusedHash(userId, "{argon2}history") } returns true
+
+        assertEquals(Result.REUSED_PASSWORD, service.change("user", "old".toCharArray(), "new".toCharArray()))
+
+        verify(exactly = 0) { passwordEncoder.encode(any<CharArray>()) }
+        verify(exactly = 0) { passwordHistoryService.recordHash(any(), any()) }
+    }
+
+    "change(reused): 새 비밀번호가 현재 비밀번호와 같으면 이력을 보지 않고 거절한다." {
+        assertEquals(Result.REUSED_PASSWORD, service.change("user", "same".toCharArray(), "same".toCharArray()))
+
+        verify(exactly = 0) { passwordHistoryService.historyHash(any(), any()) }
+    }
+
+    "change(credentials): 현재 비밀번호가 틀리면 이력 해시도 만들지 않는다." {
+        assertEquals(Result.INVALID_CREDENTIALS, service.change("nobody", "old".toCharArray(), "new".toCharArray()))
+
+        verify(exactly = 0) { passwordHistoryService.historyHash(any(), any()) }
+        verify(exactly = 0) { jdbcTemplate.update(any<String>(), *anyVararg()) }
+    }
+
+    "change(deleted): 확인 후 사용자가 지워졌으면 이력을 저장하지 않는다." {
+        every { jdbcTemplate.update(any<String>(), *anyVararg()) } returns 0
+
+        assertEquals(Result.INVALID_CREDENTIALS, service.change("user", "old".toCharArray(), "new".toCharArray()))
+
+        verify(exactly = 0) { passwordHistoryService.recordHash(any(), any()) }
+    }
+
+    "change(empty): 새 비밀번호가 비어 있으면 현재 비밀번호를 확인하지 않는다." {
+        assertEquals(Result.INVALID_PASSWORD, service.change("user", "old".toCharArray(), CharArray(0)))
+
+        verify(exactly = 0) { passwordVerificationService.verify(any(), any()) }
+    }
+})
@@ -0,0 +1,83 @@
+package letsdev.auth.service
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import letsdev.auth.configuration.PasswordEncoderProperties
+import letsdev.core.password.encoder.port.CustomSaltingPasswordEncoder
+import org.springframework.jdbc.core.JdbcTemplate
+import java.nio.ByteBuffer
+import java.time.Duration
+import java.util.UUID
+import kotlin.test.*
+
+class PasswordHistoryServiceTest: StringSpec({
+    lateinit var passwordHistoryEncoder: CustomSaltingPasswordEncoder
+    lateinit var jdbcTemplate: JdbcTemplate
+    lateinit var service: PasswordHistoryService
+    val salt = slot<ByteArray>()
+
+    beforeTest {
+        passwordHistoryEncoder = mockk {
+            every { encodeWithCustomSalt(any<CharArray>(), capture(salt)) } returns "{history}hash"
+        }
+        jdbcTemplate = mockk()
+        val properties = mockk<PasswordEncoderProperties> {
+            every { history() } returns PasswordEncoderProperties.History(5, 100, Duration.ofHours(1))
+        }
+        service = PasswordHistoryService(passwordHistoryEncoder, jdbcTemplate, properties)
+    }
+
+    fun bytesOf(userId: UUID): ByteArray = ByteBuffer.allocate(16)
+            .putLong(userId.mostSignificantBits)
+            .putLong(userId.leastSignificantBits)
+            .array()
+
+    "isReused: 사용자 ID의 솔트로 해시를 한 번 계산하고, 최근 keep개의 이력에서만 찾는다." {
+        val userId = UUID.randomUUID()
+        val sql = slot<String>()
+        every { jdbcTemplate.queryForObject(capture(sql), Boolean::class.java, userId, 5, "{history}hash") } returns true
+
+        assertTrue { service.isReused(userId, "abcd1234".toCharArray()) }
+
+        assertContentEquals(bytesOf(userId), salt.captured)
+        assertTrue { sql.captured.contains("ORDER BY id DESC") && sql.captured.contains("LIMIT ?") }
+        verify(exactly = 1) { passwordHistoryEncoder.encodeWithCustomSalt(any<CharArray>(), any()) }
+    }
+
+    "isReused: 최근 이력에 없으면 false다." {
+        every { jdbcTemplate.queryForObject(any<String>(), Boolean::class.java, *anyVararg()) } returns false
+
+        assertFalse { service.isReused(UUID.randomUUID(), "abcd1234".toCharArray()) }
+    }
+
+    "record: 사용자 ID의 솔트로 만든 이력 해시를 저장한다." {
+        val userId = UUID.randomUUID()
+        every { jdbcTemplate.update(any<String>(), *anyVararg()) } returns 1
+
+        service.record(userId, "abcd1234".toCharArray())
+
+        assertContentEquals(bytesOf(userId), salt.captured)
+        verify { jdbcTemplate.update(match<String> { it.contains("INSERT INTO user_password_history") }, userId, "{history}hash") }
+    }
+
+    "prune: 이력이 keep개를 넘는 사용자만 골라, 한 번에 pruneBatchSize개씩 지울 것이 없을 때까지 지운다." {
+        val sql = slot<String>()
+        every { jdbcTemplate.update(capture(sql), 5, 5, 100) } returnsMany listOf(100, 100, 7)
+
+        assertEquals(207, service.pruneExcessEntries())
+
+        assertTrue { sql.captured.contains("HAVING COUNT(*) > ?") }
+        verify(exactly = 3) { jdbcTemplate.update(any<String>(), 5, 5, 100) }
+    }
+
+    "prune: 지울 이력이 없으면 한 번만 조회한다." {
+        every { jdbcTemplate.update(any<String>(), *anyVararg()) } returns 0
+
+        assertEquals(0, service.pruneExcessEntries())
+
+        verify(exactly = 1) { jdbcTemplate.update(any<String>(), *anyVararg()) }
+    }
+})
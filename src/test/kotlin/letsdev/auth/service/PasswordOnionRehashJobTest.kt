@@ -0,0 +1,112 @@
+package letsdev.auth.service
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import letsdev.auth.configuration.PasswordEncoderProperties
+import letsdev.core.password.PasswordEncoderFactory
+import letsdev.core.password.encoder.adapter.OnionEncodingUtil
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.port.BatchPasswordEncoder
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.RowMapper
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
+import java.sql.ResultSet
+import java.util.UUID
+import kotlin.test.*
+
+class PasswordOnionRehashJobTest: StringSpec({
+    val jobName = "onion-rehash-test"
+    val bcryptHash = "{bcrypt}\$2a\$10\$" + "a".repeat(22) + "b".repeat(31)
+
+    lateinit var batchEncoder: BatchPasswordEncoder
+    lateinit var jdbcTemplate: JdbcTemplate
+    lateinit var job: PasswordOnionRehashJob
+
+    beforeTest {
+        val option = Argon2idPasswordEncoderOption.fromDefaultBuilder().build()
+        batchEncoder = mockk()
+        val passwordEncoderFactory = mockk<PasswordEncoderFactory> {
+            every { createBatchEncoder(option) } returns batchEncoder
+        }
+        val reloadablePasswordEncoder = mockk<ReloadablePasswordEncoder> {
+            every { currentOption() } returns option
+            every { needsUpgrade(any()) } returns true
+        }
+        jdbcTemplate = mockk {
+            every { update(any<String>(), *anyVararg()) } returns 1
+            every { batchUpdate(any<String>(), any<List<Array<Any>>>()) } answers {
+                IntArray(secondArg<List<Array<Any>>>().size) { 1 }
+            }
+        }
+        val transactionTemplate = mockk<TransactionTemplate> {
+            every { execute(any<TransactionCallback<Int>>()) } answers {
+                firstArg<TransactionCallback<Int>>().doInTransaction(mockk())
+            }
+        }
+        val properties = mockk<PasswordEncoderProperties> {
+            every { migration() } returns PasswordEncoderProperties.Migration(true, jobName, 10, 1.0)
+        }
+        job = PasswordOnionRehashJob(
+                passwordEncoderFactory,
+                reloadablePasswordEncoder,
+                jdbcTemplate,
+                transactionTemplate,
+                properties
+        )
+    }
+
+    // 체크포인트는 없고, 첫 청크에만 사용자가 있습니다.
+    fun storedUsers(vararg users: Pair<UUID, String>) {
+        var chunkReads = 0
+        every { jdbcTemplate.query(any<String>(), any<RowMapper<Any>>(), *anyVararg()) } answers {
+            val sql = firstArg<String>()
+            if (sql.contains("password_migration_checkpoint") || chunkReads++ > 0) {
+                emptyList()
+            } else {
+                users.map { (id, password) ->
+                    val resultSet = mockk<ResultSet> {
+                        every { getObject("id", UUID::class.java) } returns id
+                        every { getString("password") } returns password
+                    }
+                    secondArg<RowMapper<Any>>().mapRow(resultSet, 0)
+                }
+            }
+        }
+    }
+
+    "onion(length): 감싼 해시가 password 열보다 길면 저장하지 않고 건너뛴 수로 기록한다." {
+        val fitting = UUID.fromString("00000000-0000-0000-0000-000000000001")
+        val tooLong = UUID.fromString("00000000-0000-0000-0000-000000000002")
+        storedUsers(fitting to bcryptHash, tooLong to bcryptHash)
+        val shortOuter = "{argon2}\$argon2id\$v=19\$m=19456,t=2,p=1\$" + "s".repeat(22) + "\$" + "h".repeat(43)
+        val longOuter = "{argon2}\$argon2id\$v=19\$m=19456,t=2,p=1\$" + "s".repeat(400) + "\$" + "h".repeat(43)
+        every { batchEncoder.encodeAll(any()) } returns listOf(shortOuter, longOuter)
+        val updates = slot<List<Array<Any>>>()
+        every { jdbcTemplate.batchUpdate(any<String>(), capture(updates)) } answers { IntArray(updates.captured.size) { 1 } }
+
+        assertEquals(1, job.run())
+
+        val update = updates.captured.single()
+        assertEquals(fitting, update[1])
+        assertTrue { (update[0] as String).length <= PasswordOnionRehashJob.MAX_ENCODED_PASSWORD_LENGTH }
+        assertTrue { OnionEncodingUtil.isOnion(update[0] as String) }
+        verify { jdbcTemplate.update(match<String> { it.contains("skipped = skipped + ?") }, tooLong, 2, 1, 1, jobName) }
+    }
+
+    "onion(malformed): 감쌀 수 없는 기존 해시도 건너뛴 수로 기록하고, 나머지는 저장한다." {
+        val malformed = UUID.fromString("00000000-0000-0000-0000-000000000001")
+        val valid = UUID.fromString("00000000-0000-0000-0000-000000000002")
+        storedUsers(malformed to "plain-text-password", valid to bcryptHash)
+        val outer = "{argon2}\$argon2id\$v=19\$m=19456,t=2,p=1\$" + "s".repeat(22) + "\$" + "h".repeat(43)
+        every { batchEncoder.encodeAll(any()) } returns listOf(outer, outer)
+
+        assertEquals(1, job.run())
+
+        verify { jdbcTemplate.update(match<String> { it.contains("skipped = skipped + ?") }, valid, 2, 1, 1, jobName) }
+    }
+})
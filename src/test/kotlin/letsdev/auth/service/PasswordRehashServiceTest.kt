@@ -0,0 +1,100 @@
+package letsdev.auth.service
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import letsdev.auth.configuration.PasswordEncoderProperties
+import letsdev.core.password.encoder.port.PasswordEncoder
+import org.springframework.jdbc.core.JdbcTemplate
+import java.util.UUID
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PasswordRehashServiceTest: StringSpec({
+    lateinit var passwordEncoder: PasswordEncoder
+    lateinit var jdbcTemplate: JdbcTemplate
+    lateinit var properties: PasswordEncoderProperties
+    lateinit var service: PasswordRehashService
+
+    beforeTest {
+        passwordEncoder = mockk {
+            every { needsUpgrade(any()) } returns true
+            every { encode(any<CharArray>()) } returns "{argon2}new"
+        }
+        jdbcTemplate = mockk {
+            every { batchUpdate(any<String>(), any<List<Array<Any>>>()) } returns intArrayOf(1)
+        }
+        properties = mockk {
+            every { rehash() } returns PasswordEncoderProperties.Rehash(1, 1, 50)
+        }
+        service = PasswordRehashService(passwordEncoder, jdbcTemplate, properties)
+    }
+
+    afterTest {
+        service.close()
+    }
+
+    "rehash(needsUpgrade): 현재 설정과 같은 해시는 큐에 넣지 않는다." {
+        every { passwordEncoder.needsUpgrade("{argon2}current") } returns false
+
+        assertFalse { service.rehashIfNeeded(UUID.randomUUID(), "abcd1234", "{argon2}current") }
+        assertEquals(0, service.pendingCount())
+    }
+
+    "rehash(update): 기존 해시가 그대로일 때만 갱신하도록 (새 해시, id, 기존 해시)로 저장한다." {
+        val userId = UUID.randomUUID()
+        val sql = slot<String>()
+        val updates = slot<List<Array<Any>>>()
+        val saved = CountDownLatch(1)
+        every { jdbcTemplate.batchUpdate(capture(sql), capture(updates)) } answers {
+            saved.countDown()
+            intArrayOf(1)
+        }
+
+        assertTrue { service.rehashIfNeeded(userId, "abcd1234", "{bcrypt}old") }
+
+        assertTrue { saved.await(5, TimeUnit.SECONDS) }
+        assertTrue { sql.captured.contains("WHERE id = ? AND password = ?") }
+        assertContentEquals(arrayOf<Any>("{argon2}new", userId, "{bcrypt}old"), updates.captured.single())
+    }
+
+    "rehash(overflow): 큐가 가득 차면 기다리지 않고 버린다." {
+        val hashingStarted = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        every { passwordEncoder.encode(any<CharArray>()) } answers {
+            hashingStarted.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            "{argon2}new"
+        }
+        // 스레드 하나가 첫 작업을 해싱하는 동안 큐(크기 1)에는 하나만 들어갑니다.
+        assertTrue { service.rehashIfNeeded(UUID.randomUUID(), "first", "{bcrypt}1") }
+        assertTrue { hashingStarted.await(5, TimeUnit.SECONDS) }
+        assertTrue { service.rehashIfNeeded(UUID.randomUUID(), "second", "{bcrypt}2") }
+
+        assertFalse { service.rehashIfNeeded(UUID.randomUUID(), "third", "{bcrypt}3") }
+        assertEquals(1, service.pendingCount())
+        release.countDown()
+    }
+
+    "rehash(drainer): 큐를 비운 후 멈춘 스레드는 다음 작업이 들어오면 다시 시작한다." {
+        val firstSaved = CountDownLatch(1)
+        val bothSaved = CountDownLatch(2)
+        every { jdbcTemplate.batchUpdate(any<String>(), any<List<Array<Any>>>()) } answers {
+            firstSaved.countDown()
+            bothSaved.countDown()
+            intArrayOf(1)
+        }
+
+        service.rehashIfNeeded(UUID.randomUUID(), "first", "{bcrypt}1")
+        assertTrue { firstSaved.await(5, TimeUnit.SECONDS) }
+        Thread.sleep(100)
+        service.rehashIfNeeded(UUID.randomUUID(), "second", "{bcrypt}2")
+
+        assertTrue { bothSaved.await(5, TimeUnit.SECONDS) }
+        assertEquals(0, service.pendingCount())
+        verify(exactly = 2) { passwordEncoder.encode(any<CharArray>()) }
+    }
+})
@@ -0,0 +1,103 @@
+package letsdev.auth.service
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import letsdev.core.password.encoder.adapter.ReloadablePasswordEncoder
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.port.PasswordEncoder
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.RowMapper
+import java.sql.ResultSet
+import java.util.Optional
+import java.util.UUID
+import kotlin.test.*
+
+class PasswordVerificationServiceTest: StringSpec({
+    val initialOption = Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(2).build()
+    val reloadedOption = Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(3).build()
+    lateinit var jdbcTemplate: JdbcTemplate
+    lateinit var passwordEncoder: PasswordEncoder
+    lateinit var reloadablePasswordEncoder: ReloadablePasswordEncoder
+    lateinit var passwordRehashService: PasswordRehashService
+    lateinit var service: PasswordVerificationService
+
+    beforeTest {
+        jdbcTemplate = mockk()
+        passwordEncoder = mockk {
+            every { matches(any<CharArray>(), any<String>()) } returns false
+        }
+        reloadablePasswordEncoder = mockk {
+            every { currentOption() } returns initialOption
+            every { encode(any<String>()) } returns "{argon2}dummy-1"
+        }
+        passwordRehashService = mockk {
+            every { rehashIfNeeded(any(), any<CharArray>(), any()) } returns true
+        }
+        service = PasswordVerificationService(jdbcTemplate, passwordEncoder, reloadablePasswordEncoder, passwordRehashService)
+    }
+
+    fun storedCredential(userId: UUID?, encodedPassword: String?) {
+        every { jdbcTemplate.query(any<String>(), any<RowMapper<Any>>(), *anyVararg()) } answers {
+            if (userId == null) {
+                emptyList()
+            } else {
+                val resultSet = mockk<ResultSet> {
+                    every { getObject("id", UUID::class.java) } returns userId
+                    every { getString("password") } returns encodedPassword
+                }
+                listOf(secondArg<RowMapper<Any>>().mapRow(resultSet, 0))
+            }
+        }
+    }
+
+    "verify(unknown): 없는 사용자도 기본 인코더로 더미 해시를 검증하고, 실패로 끝낸다." {
+        storedCredential(null, null)
+        val password = "abcd1234".toCharArray()
+
+        assertEquals(Optional.empty(), service.verify("nobody", password))
+
+        verify(exactly = 1) { passwordEncoder.matches(password, "{argon2}dummy-1") }
+        verify(exactly = 0) { passwordRehashService.rehashIfNeeded(any(), any<CharArray>(), any()) }
+    }
+
+    "verify(unknown): 옵션이 바뀌면 더미 해시를 현재 옵션으로 다시 만든다." {
+        storedCredential(null, null)
+        service.verify("nobody", "abcd1234".toCharArray())
+
+        every { reloadablePasswordEncoder.currentOption() } returns reloadedOption
+        every { reloadablePasswordEncoder.encode(any<String>()) } returns "{argon2}dummy-2"
+        service.verify("nobody", "abcd1234".toCharArray())
+        service.verify("nobody", "abcd1234".toCharArray())
+
+        verify(exactly = 2) { reloadablePasswordEncoder.encode(any<String>()) }
+        verify(exactly = 2) { passwordEncoder.matches(any<CharArray>(), "{argon2}dummy-2") }
+    }
+
+    "verify(null): 비밀번호가 없으면 조회하거나 해싱하지 않고 실패로 끝낸다." {
+        assertEquals(Optional.empty(), service.verify("user", null))
+
+        verify(exactly = 0) { jdbcTemplate.query(any<String>(), any<RowMapper<Any>>(), *anyVararg()) }
+        verify(exactly = 0) { passwordEncoder.matches(any<CharArray>(), any<String>()) }
+    }
+
+    "verify(success): 일치하면 사용자 ID를 돌려주고, 저장된 해시로 재해싱을 요청한다." {
+        val userId = UUID.randomUUID()
+        val password = "abcd1234".toCharArray()
+        storedCredential(userId, "{bcrypt}old")
+        every { passwordEncoder.matches(password, "{bcrypt}old") } returns true
+
+        assertEquals(Optional.of(userId), service.verify("user", password))
+
+        verify(exactly = 1) { passwordRehashService.rehashIfNeeded(userId, password, "{bcrypt}old") }
+    }
+
+    "verify(mismatch): 일치하지 않으면 재해싱을 요청하지 않는다." {
+        storedCredential(UUID.randomUUID(), "{bcrypt}old")
+
+        assertEquals(Optional.empty(), service.verify("user", "wrong".toCharArray()))
+
+        verify(exactly = 0) { passwordRehashService.rehashIfNeeded(any(), any<CharArray>(), any()) }
+    }
+})
@@ -0,0 +1,139 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.engine.Argon2Engine
+import letsdev.core.password.encoder.engine.Argon2MemoryBudget
+import letsdev.core.password.encoder.engine.Argon2MemoryPool
+import letsdev.core.password.encoder.option.Argon2Compression
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator
+import org.bouncycastle.crypto.params.Argon2Parameters
+import java.util.concurrent.Executors
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Argon2Engine: StringSpec({
+    val rawPassword = "abcd1234".toByteArray()
+    val salt = byteArrayOf(
+            0x1F, 0x2A, 0x3B, 0x4C, 0x5D, 0x6E, 0x7F, 0x7F,
+            0x9B.toByte(), 0xAC.toByte(), 0xBD.toByte(), 0xCE.toByte(), 0xDF.toByte(), 0xEA.toByte(), 0x3B, 0x0C
+    )
+
+    // 모듈이 없으면 엔진이 조용히 스칼라로 동작하므로, 벡터 구현을 검증하는 테스트는 건너뜁니다.
+    val vectorModulePresent = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent
+
+    fun parameters(type: Int, lanes: Int, memory: Int, iterations: Int): Argon2Parameters =
+            Argon2Parameters.Builder(type)
+                    .withSalt(salt)
+                    .withParallelism(lanes)
+                    .withMemoryAsKB(memory)
+                    .withIterations(iterations)
+                    .build()
+
+    fun bouncyCastleHash(parameters: Argon2Parameters): ByteArray {
+        val hash = ByteArray(32)
+        val generator = Argon2BytesGenerator()
+        generator.init(parameters)
+        generator.generateBytes(rawPassword, hash)
+        return hash
+    }
+
+    "argon2 engine: Bouncy Castle 구현과 같은 해시를 만든다." {
+        val engine = Argon2Engine(Argon2MemoryPool(1))
+        val types = listOf(Argon2Parameters.ARGON2_d, Argon2Parameters.ARGON2_i, Argon2Parameters.ARGON2_id)
+
+        for (type in types) {
+            for (lanes in 1..3) {
+                val parameters = parameters(type, lanes, 1024, 2)
+                val hash = ByteArray(32)
+
+                engine.generateBytes(parameters, rawPassword, hash)
+
+                assertContentEquals(bouncyCastleHash(parameters), hash)
+            }
+        }
+    }
+
+    "argon2 engine(parallel lanes): 레인을 병렬로 채워도 Bouncy Castle 구현과 같은 해시를 만든다." {
+        val laneExecutor = Executors.newFixedThreadPool(3)
+        val engine = Argon2Engine(Argon2MemoryPool(1), Argon2MemoryBudget.unlimited(), laneExecutor)
+        val types = listOf(Argon2Parameters.ARGON2_d, Argon2Parameters.ARGON2_i, Argon2Parameters.ARGON2_id)
+
+        try {
+            for (type in types) {
+                for (lanes in listOf(2, 4, 7)) {
+                    val parameters = parameters(type, lanes, 2048, 3)
+                    val hash = ByteArray(32)
+
+                    engine.generateBytes(parameters, rawPassword, hash)
+
+                    assertContentEquals(bouncyCastleHash(parameters), hash)
+                }
+            }
+        } finally {
+            laneExecutor.shutdown()
+        }
+    }
+
+    "argon2 engine(vector compression): Vector API 압축 함수도 Bouncy Castle 구현과 같은 해시를 만든다."
+            .config(enabledIf = { vectorModulePresent }) {
+        val engine = Argon2Engine(Argon2MemoryPool(1), Argon2MemoryBudget.unlimited(), null, Argon2Compression.VECTOR)
+        assertEquals(Argon2Compression.VECTOR, engine.compression())
+        val types = listOf(Argon2Parameters.ARGON2_d, Argon2Parameters.ARGON2_i, Argon2Parameters.ARGON2_id)
+
+        for (type in types) {
+            for (lanes in 1..3) {
+                val parameters = parameters(type, lanes, 1024, 2)
+                val hash = ByteArray(32)
+
+                engine.generateBytes(parameters, rawPassword, hash)
+
+                assertContentEquals(bouncyCastleHash(parameters), hash)
+            }
+        }
+    }
+
+    "argon2 engine: 풀에서 재사용한 행렬로도 같은 해시를 만든다." {
+        val pool = Argon2MemoryPool(1)
+        val engine = Argon2Engine(pool)
+        val parameters = parameters(Argon2Parameters.ARGON2_id, 1, 4096, 1)
+        val hashA = ByteArray(32)
+        val hashB = ByteArray(32)
+
+        engine.generateBytes(parameters, rawPassword, hashA)
+        engine.generateBytes(parameters, rawPassword, hashB)
+
+        assertEquals(1, pool.idleCount())
+        assertContentEquals(hashA, hashB)
+    }
+
+    "argon2 memory pool: 반납된 행렬은 0으로 지워지고, 크기별 최대 개수까지만 보관된다." {
+        val pool = Argon2MemoryPool(1)
+        val matrixA = pool.acquire(8)
+        val matrixB = pool.acquire(8)
+        matrixA.fill(-1L)
+
+        pool.release(matrixA)
+        pool.release(matrixB)
+
+        assertEquals(1, pool.idleCount())
+        assertTrue(matrixA.all { it == 0L })
+        assertSame(matrixA, pool.acquire(8))
+    }
+
+    "argon2 memory pool: clear 이후 보관 중인 행렬이 없다." {
+        val pool = Argon2MemoryPool(2)
+        pool.release(pool.acquire(8))
+
+        pool.clear()
+
+        assertEquals(0, pool.idleCount())
+    }
+
+    "argon2 memory pool: 기본값으로는 크기별로 적은 수의 행렬만 보관한다." {
+        val pool = Argon2MemoryPool()
+        val matrices = List(Runtime.getRuntime().availableProcessors() + 2) { pool.acquire(8) }
+
+        matrices.forEach(pool::release)
+
+        assertEquals(Argon2MemoryPool.DEFAULT_MAX_POOLED_PER_SIZE, pool.idleCount())
+    }
+})
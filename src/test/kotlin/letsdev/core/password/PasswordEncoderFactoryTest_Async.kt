@@ -0,0 +1,71 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import letsdev.core.password.encoder.GeneralPasswordEncoderType
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import letsdev.core.password.exception.PasswordEncoderOverloadException
+import org.junit.jupiter.api.assertThrows
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Async: StringSpec({
+    lateinit var bcryptOption: BcryptPasswordEncoderOption
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        bcryptOption = mockk<BcryptPasswordEncoderOption> {
+            every { encoderType() } returns GeneralPasswordEncoderType.BCRYPT
+            every { `as`(BcryptPasswordEncoderOption::class.java) } returns this
+            every { strength } returns 4
+        }
+        factory = PasswordEncoderFactory.builder()
+                .hashingExecutor(1, 1)
+                .build()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "async(encode, matches): 비동기로 암호화한 후 동일한 평문 비밀번호와 비교하면 일치한다." {
+        val encoder = factory.createAsync(bcryptOption)
+        val rawPassword = "abcd1234"
+
+        val encodedPassword = encoder.encodeAsync(rawPassword).get()
+
+        assertTrue { encoder.matchesAsync(rawPassword, encodedPassword).get() }
+        assertFalse { encoder.matchesAsync("wrongPassword", encodedPassword).get() }
+    }
+
+    "async(executor): 해싱은 요청 스레드가 아닌 해싱 전용 플랫폼 스레드에서 수행된다." {
+        val thread = CompletableFuture.supplyAsync({ Thread.currentThread() }, factory.hashingExecutor()).get()
+
+        assertTrue { thread.name.startsWith("password-hashing-") }
+        assertFalse { thread.isVirtual }
+    }
+
+    "async(queue): 대기 큐가 가득 차면 PasswordEncoderOverloadException으로 실패한 Future를 반환한다." {
+        val encoder = factory.createAsync(bcryptOption)
+        val executor = factory.hashingExecutor()
+        val release = CountDownLatch(1)
+        val started = CountDownLatch(1)
+
+        executor.execute { started.countDown(); release.await() } // 스레드 점유
+        started.await()
+        executor.execute { release.await() } // 큐 점유
+
+        try {
+            assertEquals(1, executor.queueDepth())
+            val exception = assertThrows<ExecutionException> {
+                encoder.encodeAsync("abcd1234").get()
+            }
+            assertIs<PasswordEncoderOverloadException>(exception.cause)
+        } finally {
+            release.countDown()
+        }
+    }
+})
@@ -0,0 +1,63 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import letsdev.core.password.encoder.GeneralPasswordEncoderType
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import letsdev.core.password.encoder.port.PasswordPair
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Batch: StringSpec({
+    lateinit var bcryptOption: BcryptPasswordEncoderOption
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        bcryptOption = mockk<BcryptPasswordEncoderOption> {
+            every { encoderType() } returns GeneralPasswordEncoderType.BCRYPT
+            every { `as`(BcryptPasswordEncoderOption::class.java) } returns this
+            every { strength } returns 4
+        }
+        factory = PasswordEncoderFactory.builder()
+                .batchParallelism(4)
+                .build()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "batch(encodeAll): 결과는 입력 순서를 따른다." {
+        val encoder = factory.create(bcryptOption)
+        val batchEncoder = factory.createBatchEncoder(bcryptOption)
+        val rawPasswords = (1..37).map { "password-$it" }
+
+        val encodedPasswords = batchEncoder.encodeAll(rawPasswords)
+
+        assertEquals(rawPasswords.size, encodedPasswords.size)
+        rawPasswords.zip(encodedPasswords).forEach { (rawPassword, encodedPassword) ->
+            assertTrue { encoder.matches(rawPassword, encodedPassword) }
+        }
+    }
+
+    "batch(matchesAll): 결과는 입력 순서를 따른다." {
+        val batchEncoder = factory.createBatchEncoder(bcryptOption)
+        val rawPasswords = (1..10).map { "password-$it" }
+        val encodedPasswords = batchEncoder.encodeAll(rawPasswords)
+        val pairs = rawPasswords.indices.map { index ->
+            val rawPassword = if (index % 2 == 0) rawPasswords[index] else "wrongPassword"
+            PasswordPair(rawPassword, encodedPasswords[index])
+        }
+
+        val results = batchEncoder.matchesAll(pairs)
+
+        assertEquals(rawPasswords.indices.map { it % 2 == 0 }, results)
+    }
+
+    "batch(empty): 빈 입력은 빈 결과를 반환한다." {
+        val batchEncoder = factory.createBatchEncoder(bcryptOption)
+
+        assertTrue { batchEncoder.encodeAll(emptyList()).isEmpty() }
+        assertTrue { batchEncoder.matchesAll(emptyList()).isEmpty() }
+    }
+})
@@ -4,6 +4,7 @@ import io.kotest.core.spec.style.StringSpec
 import io.mockk.every
 import io.mockk.mockk
 import letsdev.core.password.encoder.GeneralPasswordEncoderType
+import letsdev.core.password.encoder.option.Argon2Compression
 import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
 import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
 import letsdev.core.password.encoder.port.NotCastedPasswordEncoder
@@ -35,6 +36,7 @@ class PasswordEncoderFactoryTest_Cache: StringSpec({
             every { alpha } returns 0.95f
             every { gain } returns 1.0f
             every { memoryInput } returns 93750
+            every { compression } returns Argon2Compression.SCALAR
         }
 
         factory = PasswordEncoderFactory()
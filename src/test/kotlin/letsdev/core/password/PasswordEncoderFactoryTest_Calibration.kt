@@ -0,0 +1,88 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.calibration.CalibrationResult
+import letsdev.core.password.calibration.CalibrationStore
+import letsdev.core.password.calibration.CalibrationTarget
+import letsdev.core.password.calibration.PasswordEncoderCalibrator
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Calibration: StringSpec({
+    lateinit var directory: Path
+
+    beforeTest {
+        directory = Files.createTempDirectory("password-calibration")
+    }
+
+    afterTest {
+        directory.toFile().deleteRecursively()
+    }
+
+    "calibrator(minimum): 메모리 하한은 옵션의 권장 공식 m ≥ 93750 ÷ ((3 × t − 1) × α)를 따른다." {
+        assertEquals(49_343, PasswordEncoderCalibrator.recommendedMinimumMemoryKiB(1))
+        assertEquals(19_737, PasswordEncoderCalibrator.recommendedMinimumMemoryKiB(2))
+        assertEquals(
+                PasswordEncoderCalibrator.recommendedMinimumMemoryKiB(PasswordEncoderCalibrator.MIN_ARGON2_ITERATIONS),
+                PasswordEncoderCalibrator.MIN_ARGON2_MEMORY_KIB
+        )
+    }
+
+    "calibrator(floor): 목표 지연 시간이 아무리 짧아도 고른 반복 횟수의 권장 하한보다 메모리를 낮추지 않는다." {
+        val calibrator = PasswordEncoderCalibrator(64 * 1024, 1)
+
+        val result = calibrator.calibrate(CalibrationTarget(Duration.ofMillis(1), 1))
+
+        assertEquals(PasswordEncoderCalibrator.MIN_ARGON2_ITERATIONS, result.argon2Iterations())
+        assertTrue { result.argon2Memory() >= PasswordEncoderCalibrator.recommendedMinimumMemoryKiB(result.argon2Iterations()) }
+        assertEquals(result.argon2Memory(), result.argon2idOption().memory())
+    }
+
+    "calibrator(bcrypt): 최소 strength조차 목표보다 느리면 하한 strength를 고르고, 옵션으로 그대로 쓴다." {
+        val calibrator = PasswordEncoderCalibrator(64 * 1024, 1)
+
+        val result = calibrator.calibrate(CalibrationTarget(Duration.ofMillis(1), 1))
+
+        assertEquals(PasswordEncoderCalibrator.MIN_BCRYPT_STRENGTH, result.bcryptStrength())
+        assertEquals(result.bcryptStrength(), result.bcryptOption().strength())
+    }
+
+    "calibrator(load): 같은 호스트와 목표로 저장된 결과가 있으면 측정하지 않고 재사용한다." {
+        val calibrator = PasswordEncoderCalibrator(64 * 1024, 1)
+        val target = CalibrationTarget(Duration.ofMillis(250), 8)
+        val store = CalibrationStore(directory.resolve("calibration.properties"))
+        val stored = CalibrationResult(32 * 1024, 3, 1, 12)
+        store.save(calibrator.fingerprint(target), stored)
+
+        assertEquals(stored, calibrator.calibrateOrLoad(target, store))
+    }
+
+    "calibrationStore: 저장한 결과는 fingerprint가 같을 때만 읽는다." {
+        val store = CalibrationStore(directory.resolve("nested/calibration.properties"))
+        val result = CalibrationResult(20 * 1024, 2, 1, 11)
+
+        store.save("host-a", result)
+
+        assertEquals(result, store.load("host-a").orElseThrow())
+        assertTrue { store.load("host-b").isEmpty }
+    }
+
+    "calibrationStore: BCrypt strength가 없는 파일(이전 형식)은 결과가 없다." {
+        val file = directory.resolve("calibration.properties")
+        Files.writeString(file, "fingerprint=host-a\nargon2.memory=20480\nargon2.iterations=2\nargon2.parallelism=1\n")
+
+        assertTrue { CalibrationStore(file).load("host-a").isEmpty }
+    }
+
+    "calibrationStore: 파일이 없거나 값이 깨져 있으면 결과가 없다." {
+        val file = directory.resolve("calibration.properties")
+        val store = CalibrationStore(file)
+        assertTrue { store.load("host-a").isEmpty }
+
+        Files.writeString(file, "fingerprint=host-a\nargon2.memory=abc\n")
+
+        assertTrue { store.load("host-a").isEmpty }
+    }
+})
@@ -4,6 +4,7 @@ import io.mockk.every
 import io.mockk.mockk
 import letsdev.core.password.encoder.GeneralPasswordEncoderType
 import letsdev.core.password.encoder.GeneralPasswordEncoderType.Argon2Variant
+import letsdev.core.password.encoder.option.Argon2Compression
 import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption
 import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
 import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
@@ -39,6 +40,7 @@ class PasswordEncoderFactoryTest_Create {
             every { alpha } returns 0.95f
             every { gain } returns 1.0f
             every { memoryInput } returns 93750
+            every { compression } returns Argon2Compression.SCALAR
         }
         argon2dOption = mockk<Argon2dPasswordEncoderOption> {
             every { encoderType() } returns Argon2Variant.ARGON2D
@@ -50,6 +52,7 @@ class PasswordEncoderFactoryTest_Create {
             every { alpha } returns 0.95f
             every { gain } returns 1.0f
             every { memoryInput } returns 93750
+            every { compression } returns Argon2Compression.SCALAR
         }
     }
 
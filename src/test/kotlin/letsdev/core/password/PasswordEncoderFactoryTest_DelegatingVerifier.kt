@@ -0,0 +1,97 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import letsdev.core.password.encoder.adapter.EncodedPasswordOptionParser
+import letsdev.core.password.encoder.option.Argon2Compression
+import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import letsdev.core.password.exception.PasswordEncoderGenerationException
+import org.junit.jupiter.api.assertThrows
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_DelegatingVerifier: StringSpec({
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "delegatingVerifier(matches): 접두사와 파라미터가 다른 해시가 섞여 있어도 각각 검증한다." {
+        val verifier = factory.createDelegatingVerifier()
+        val rawPassword = "abcd1234"
+        val encodedPasswords = listOf(
+                factory.create(BcryptPasswordEncoderOption(4)).encode(rawPassword),
+                factory.create(BcryptPasswordEncoderOption(5)).encode(rawPassword),
+                factory.create(
+                        Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(2).build()
+                ).encode(rawPassword),
+                factory.create(
+                        Argon2dPasswordEncoderOption.fromDefaultBuilder().memoryInput(32).parallelism(2).build()
+                ).encode(rawPassword),
+        )
+
+        encodedPasswords.forEach {
+            assertTrue { verifier.matches(rawPassword, it) }
+            assertFalse { verifier.matches("wrongPassword", it) }
+        }
+    }
+
+    "delegatingVerifier(option): 해시에서 복원한 옵션은 해시를 만든 옵션과 같아서 팩토리 캐시의 같은 인스턴스를 가리킨다." {
+        val option = Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).build()
+        val encodedPassword = factory.create(option).encode("abcd1234")
+
+        val parsedOption = EncodedPasswordOptionParser.parse(encodedPassword)
+
+        assertEquals(option, parsedOption)
+        assertSame(factory.create(option), factory.create(parsedOption))
+    }
+
+    "delegatingVerifier(option): gain을 준 옵션의 해시를 검증해도 캐시에 새 인스턴스를 만들지 않는다." {
+        val meterRegistry = SimpleMeterRegistry()
+        val meteredFactory = PasswordEncoderFactory.builder()
+                .meterRegistry(meterRegistry)
+                .build()
+        val option = Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).gain(3f).build()
+        val encoder = meteredFactory.create(option)
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertTrue { meteredFactory.createDelegatingVerifier().matches("abcd1234", encodedPassword) }
+
+        val misses = meterRegistry.get("cache.gets").tags("cache", "password.encoder.instances", "result", "miss")
+                .functionCounter()
+        assertEquals(1.0, misses.count())
+        assertSame(encoder, meteredFactory.create(EncodedPasswordOptionParser.parse(encodedPassword)))
+        meteredFactory.close()
+    }
+
+    "delegatingVerifier(compression): 복원한 Argon2 옵션은 팩토리에 지정한 압축 함수 구현을 따른다." {
+        val vectorFactory = PasswordEncoderFactory.builder()
+                .argon2Compression(Argon2Compression.VECTOR)
+                .build()
+        val option = Argon2idPasswordEncoderOption.fromDefaultBuilder()
+                .memoryInput(64)
+                .compression(Argon2Compression.VECTOR)
+                .build()
+        val encoder = vectorFactory.create(option)
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertTrue { vectorFactory.createDelegatingVerifier().matches("abcd1234", encodedPassword) }
+        assertEquals(option, EncodedPasswordOptionParser.parse(encodedPassword, Argon2Compression.VECTOR))
+        assertSame(encoder, vectorFactory.create(EncodedPasswordOptionParser.parse(encodedPassword, Argon2Compression.VECTOR)))
+        vectorFactory.close()
+    }
+
+    "delegatingVerifier(unsupported): 지원하지 않는 접두사는 PasswordEncoderGenerationException을 던진다." {
+        val verifier = factory.createDelegatingVerifier()
+
+        assertThrows<PasswordEncoderGenerationException> {
+            verifier.matches("abcd1234", "{noop}abcd1234")
+        }
+    }
+})
@@ -4,6 +4,7 @@ import io.kotest.core.spec.style.StringSpec
 import io.mockk.every
 import io.mockk.mockk
 import letsdev.core.password.encoder.GeneralPasswordEncoderType.Argon2Variant
+import letsdev.core.password.encoder.option.Argon2Compression
 import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption
 import letsdev.core.password.exception.PasswordEncoderEncryptionException
 import org.junit.jupiter.api.assertThrows
@@ -27,6 +28,7 @@ class PasswordEncoderFactoryTest_Encryption_Argon2d: StringSpec({
             every { alpha } returns 0.95f
             every { gain } returns 1.0f
             every { memoryInput } returns 93750
+            every { compression } returns Argon2Compression.SCALAR
         }
         factory = PasswordEncoderFactory()
         customSalt = byteArrayOf(
@@ -101,4 +103,36 @@ class PasswordEncoderFactoryTest_Encryption_Argon2d: StringSpec({
 
         assertEquals(encodedPasswordA, encodedPasswordB)
     }
-})
\ No newline at end of file
+
+    "argon2d(matches): 해시에 저장된 파라미터로 검증하므로, 설정이 다른 인코더로도 검증할 수 있다." {
+        val previousEncoder = factory.create(
+                Argon2dPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(2).parallelism(2).build()
+        )
+        val encoder = factory.create(argon2dOption)
+        val encodedPassword = previousEncoder.encode("abcd1234")
+
+        assertTrue { encoder.matches("abcd1234", encodedPassword) }
+        assertFalse { encoder.matches("wrongPassword", encodedPassword) }
+    }
+
+    "argon2d(matches): 해시에 저장된 m, t, p가 허용 범위를 벗어나면 해싱하지 않고 일치하지 않는다." {
+        val encoder = factory.create(argon2dOption)
+        val encodedPassword = encoder.encode("abcd1234")
+        val parameters = "m=49343,t=1,p=1"
+
+        assertFalse { encoder.matches("abcd1234", encodedPassword.replace(parameters, "m=2147483647,t=1,p=1")) }
+        assertFalse { encoder.matches("abcd1234", encodedPassword.replace(parameters, "m=49343,t=100000,p=1")) }
+        assertFalse { encoder.matches("abcd1234", encodedPassword.replace(parameters, "m=49343,t=1,p=0")) }
+        assertFalse { encoder.matches("abcd1234", encodedPassword.replace(parameters, "m=8,t=1,p=16")) }
+    }
+
+    "argon2d(matches): 깨진 해시나 다이제스트가 비어 있는 해시는 예외 없이 일치하지 않는다." {
+        val encoder = factory.create(argon2dOption)
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertFalse { encoder.matches("abcd1234", encodedPassword.substringBeforeLast('$') + "$") }
+        assertFalse { encoder.matches("abcd1234", encodedPassword.substringBeforeLast('$')) }
+        assertFalse { encoder.matches("abcd1234", "{argon2}\$argon2d\$v=19\$m=abc,t=1,p=1\$c2FsdA\$ZGlnZXN0") }
+        assertFalse { encoder.matches("abcd1234", "{argon2}") }
+    }
+})
@@ -7,6 +7,7 @@ import letsdev.core.password.encoder.GeneralPasswordEncoderType
 import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
 import letsdev.core.password.exception.PasswordEncoderEncryptionException
 import org.junit.jupiter.api.assertThrows
+import org.springframework.security.crypto.bcrypt.BCrypt
 import kotlin.test.*
 
 class PasswordEncoderFactoryTest_Encryption_Bcrypt: StringSpec({
@@ -85,4 +86,18 @@ class PasswordEncoderFactoryTest_Encryption_Bcrypt: StringSpec({
 
         assertEquals(encodedPasswordA, encodedPasswordB)
     }
-})
\ No newline at end of file
+
+    "bcrypt(compatibility): Spring Security BCrypt와 같은 해시를 만들고, 서로의 해시를 검증한다." {
+        val encoder = factory.createCustomSaltingEncoder(BcryptPasswordEncoderOption(4))
+        val springEncoder = org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder(4)
+        val rawPassword = "비밀번호1234"
+
+        val encodedPassword = encoder.encodeWithCustomSalt(rawPassword, customSalt)
+        val bcryptHash = encodedPassword.removePrefix(bcryptPrefix)
+
+        assertEquals(BCrypt.hashpw(rawPassword, bcryptHash.substring(0, 29)), bcryptHash)
+        assertTrue { springEncoder.matches(rawPassword, bcryptHash) }
+        assertTrue { encoder.matches(rawPassword, bcryptPrefix + springEncoder.encode(rawPassword)) }
+        assertFalse { encoder.matches(rawPassword, "$bcryptPrefix\$2a\$04\$invalid") }
+    }
+})
@@ -0,0 +1,74 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm
+import letsdev.core.password.encoder.option.Pbkdf2PasswordEncoderOption
+import letsdev.core.password.exception.PasswordEncoderEncryptionException
+import org.junit.jupiter.api.assertThrows
+import java.util.Base64
+import javax.crypto.SecretKeyFactory
+import javax.crypto.spec.PBEKeySpec
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Encryption_Pbkdf2: StringSpec({
+    lateinit var factory: PasswordEncoderFactory
+    val pbkdf2Prefix = "{pbkdf2}"
+    val customSalt = byteArrayOf(
+            0x1F, 0x2A, 0x3B, 0x4C, 0x5D, 0x6E, 0x7F, 0x7F,
+            0x9B.toByte(), 0xAC.toByte(), 0xBD.toByte(), 0xCE.toByte(), 0xDF.toByte(), 0xEA.toByte(), 0x3B, 0x0C
+    )
+
+    beforeTest {
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "pbkdf2(parameters): PBKDF2 인코더로 인코딩 된 문자열에 알고리즘과 반복 횟수가 올바른 양식으로 입력된다." {
+        val encoder = factory.create(Pbkdf2PasswordEncoderOption(Pbkdf2Algorithm.HMAC_SHA256, 1_000))
+
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertTrue { encodedPassword.startsWith("$pbkdf2Prefix\$pbkdf2-sha256\$i=1000\$") }
+        assertTrue { encoder.matches("abcd1234", encodedPassword) }
+        assertFalse { encoder.matches("wrongPassword", encodedPassword) }
+    }
+
+    "pbkdf2(compatibility): SecretKeyFactory로 유도한 키와 같은 해시를 만든다." {
+        val cases = mapOf(
+                Pbkdf2Algorithm.HMAC_SHA256 to "PBKDF2WithHmacSHA256",
+                Pbkdf2Algorithm.HMAC_SHA512 to "PBKDF2WithHmacSHA512"
+        )
+
+        for ((algorithm, jdkAlgorithm) in cases) {
+            val encoder = factory.createCustomSaltingEncoder(Pbkdf2PasswordEncoderOption(algorithm, 1_000))
+            val expected = SecretKeyFactory.getInstance(jdkAlgorithm)
+                    .generateSecret(PBEKeySpec("비밀번호1234".toCharArray(), customSalt, 1_000, algorithm.digestLength() * 8))
+                    .encoded
+
+            val encodedPassword = encoder.encodeWithCustomSalt("비밀번호1234", customSalt)
+
+            assertTrue { encodedPassword.endsWith("$" + Base64.getEncoder().withoutPadding().encodeToString(expected)) }
+        }
+    }
+
+    "pbkdf2(encode + custom salt): 설정과 길이가 다른 솔트로 인코딩 할 수 없다." {
+        val encoder = factory.createCustomSaltingEncoder(Pbkdf2PasswordEncoderOption(Pbkdf2Algorithm.HMAC_SHA256, 1_000))
+
+        assertThrows<PasswordEncoderEncryptionException> {
+            encoder.encodeWithCustomSalt("abcd1234", ByteArray(3) { 0x1F })
+        }
+    }
+
+    "pbkdf2(delegating verifier): 해시에 저장된 반복 횟수로 검증하고, 반복 횟수가 적으면 업그레이드 대상이다." {
+        val previousEncoder = factory.create(Pbkdf2PasswordEncoderOption(Pbkdf2Algorithm.HMAC_SHA512, 1_000))
+        val currentEncoder = factory.create(Pbkdf2PasswordEncoderOption(Pbkdf2Algorithm.HMAC_SHA512, 2_000))
+        val encodedPassword = previousEncoder.encode("abcd1234")
+
+        assertTrue { factory.createDelegatingVerifier().matches("abcd1234", encodedPassword) }
+        assertFalse { previousEncoder.needsUpgrade(encodedPassword) }
+        assertTrue { currentEncoder.needsUpgrade(encodedPassword) }
+    }
+})
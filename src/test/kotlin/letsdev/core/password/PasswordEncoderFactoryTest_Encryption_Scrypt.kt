@@ -0,0 +1,86 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.engine.ScryptEngine
+import letsdev.core.password.encoder.engine.ScryptMemoryPool
+import letsdev.core.password.encoder.option.ScryptPasswordEncoderOption
+import letsdev.core.password.exception.PasswordEncoderEncryptionException
+import org.junit.jupiter.api.assertThrows
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder
+import java.nio.ByteBuffer
+import java.util.HexFormat
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Encryption_Scrypt: StringSpec({
+    lateinit var factory: PasswordEncoderFactory
+    val scryptPrefix = "{scrypt}"
+    val customSalt = byteArrayOf(
+            0x1F, 0x2A, 0x3B, 0x4C, 0x5D, 0x6E, 0x7F, 0x7F,
+            0x9B.toByte(), 0xAC.toByte(), 0xBD.toByte(), 0xCE.toByte(), 0xDF.toByte(), 0xEA.toByte(), 0x3B, 0x0C
+    )
+
+    beforeTest {
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "scrypt(engine): RFC 7914의 테스트 벡터와 같은 키를 유도한다." {
+        val out = ByteArray(64)
+
+        ScryptEngine(ScryptMemoryPool()).generateBytes(
+                ByteBuffer.wrap("password".toByteArray()), "NaCl".toByteArray(), 1024, 8, 16, out
+        )
+
+        assertEquals(
+                "fdbabe1c9d3472007856e7190d01e9fe7c6ad7cbc8237830e77376634b373162" +
+                        "2eaf30d92e22a3886ff109279d9830dac727afb94a83ee6d8360cbdfa2cc0640",
+                HexFormat.of().formatHex(out)
+        )
+    }
+
+    "scrypt(compatibility): Spring SCryptPasswordEncoder와 서로의 해시를 검증할 수 있다." {
+        val encoder = factory.create(ScryptPasswordEncoderOption(1_024, 8, 2))
+        val springEncoder = SCryptPasswordEncoder(1_024, 8, 2, 32, 16)
+
+        val encodedPassword = encoder.encode("비밀번호1234")
+        val springEncodedPassword = springEncoder.encode("비밀번호1234")
+
+        assertTrue { encodedPassword.startsWith("$scryptPrefix\$a0802\$") }
+        assertTrue { springEncoder.matches("비밀번호1234", encodedPassword.removePrefix(scryptPrefix)) }
+        assertTrue { encoder.matches("비밀번호1234", springEncodedPassword) }
+        assertFalse { encoder.matches("wrongPassword", springEncodedPassword) }
+    }
+
+    "scrypt(parallel): p개의 블록을 병렬로 섞어도 순서대로 섞은 결과와 같다." {
+        val option = ScryptPasswordEncoderOption(1_024, 8, 4)
+        val parallelEncoder = factory.createCustomSaltingEncoder(option)
+        val sequentialEncoder = PasswordEncoderFactory.builder().argon2LaneThreads(0).build().use {
+            it.createCustomSaltingEncoder(option).encodeWithCustomSalt("abcd1234", customSalt)
+        }
+
+        assertEquals(sequentialEncoder, parallelEncoder.encodeWithCustomSalt("abcd1234", customSalt))
+    }
+
+    "scrypt(memory pool): 해싱이 끝난 V 배열은 풀로 돌아가 다음 해싱에 재사용된다." {
+        val memoryPool = ScryptMemoryPool()
+        val engine = ScryptEngine(memoryPool)
+        val out = ByteArray(32)
+
+        repeat(3) {
+            engine.generateBytes(ByteBuffer.wrap("abcd1234".toByteArray()), customSalt, 1_024, 8, 1, out)
+        }
+
+        assertEquals(1, memoryPool.idleCount())
+    }
+
+    "scrypt(encode + custom salt): 설정과 길이가 다른 솔트로 인코딩 할 수 없다." {
+        val encoder = factory.createCustomSaltingEncoder(ScryptPasswordEncoderOption(1_024, 8, 1))
+
+        assertThrows<PasswordEncoderEncryptionException> {
+            encoder.encodeWithCustomSalt("abcd1234", ByteArray(3) { 0x1F })
+        }
+    }
+})
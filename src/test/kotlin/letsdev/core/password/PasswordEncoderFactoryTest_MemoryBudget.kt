@@ -0,0 +1,70 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import letsdev.core.password.encoder.GeneralPasswordEncoderType.Argon2Variant
+import letsdev.core.password.encoder.option.Argon2Compression
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.exception.PasswordEncoderOverloadException
+import org.junit.jupiter.api.assertThrows
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_MemoryBudget: StringSpec({
+    lateinit var argon2IdOption: Argon2idPasswordEncoderOption
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        argon2IdOption = mockk<Argon2idPasswordEncoderOption> {
+            every { encoderType() } returns Argon2Variant.ARGON2ID
+            every { `as`(Argon2idPasswordEncoderOption::class.java) } returns this
+            every { saltLength } returns 16
+            every { hashLength } returns 32
+            every { parallelism } returns 1
+            every { memory } returns 8192
+            every { iterations } returns 1
+            every { alpha } returns 0.95f
+            every { gain } returns 1.0f
+            every { memoryInput } returns 8192
+            every { compression } returns Argon2Compression.SCALAR
+        }
+        factory = PasswordEncoderFactory.builder()
+                .argon2MemoryBudget(16384, 10, TimeUnit.MILLISECONDS)
+                .build()
+    }
+
+    "memory budget: 예산 안에서는 인코딩하고, 사용한 예산을 반환한다." {
+        val encoder = factory.create(argon2IdOption)
+
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertTrue { encoder.matches("abcd1234", encodedPassword) }
+        assertEquals(0, factory.argon2MemoryBudget().inFlightKiB())
+    }
+
+    "memory budget: 대기 시간 안에 예산을 점유하지 못하면 PasswordEncoderOverloadException을 던진다." {
+        val encoder = factory.create(argon2IdOption)
+        val budget = factory.argon2MemoryBudget()
+        val acquired = budget.acquire(16384 - 4096)
+
+        try {
+            assertThrows<PasswordEncoderOverloadException> {
+                encoder.encode("abcd1234")
+            }
+        } finally {
+            budget.release(acquired)
+        }
+    }
+
+    "memory budget: 예산보다 큰 해시 하나는 예산 전체를 점유하여 처리된다." {
+        val smallBudgetFactory = PasswordEncoderFactory.builder()
+                .argon2MemoryBudget(1024, 10, TimeUnit.MILLISECONDS)
+                .build()
+        val encoder = smallBudgetFactory.create(argon2IdOption)
+
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertTrue { encodedPassword.startsWith("{argon2}") }
+    }
+})
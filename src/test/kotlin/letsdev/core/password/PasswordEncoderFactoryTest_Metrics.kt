@@ -0,0 +1,107 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.mockk
+import letsdev.core.password.encoder.GeneralPasswordEncoderType
+import letsdev.core.password.encoder.engine.PooledMemoryHolder
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import letsdev.core.password.metrics.PasswordEncoderMetrics
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Metrics: StringSpec({
+    lateinit var bcryptOption: BcryptPasswordEncoderOption
+    lateinit var meterRegistry: SimpleMeterRegistry
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        bcryptOption = mockk<BcryptPasswordEncoderOption> {
+            every { encoderType() } returns GeneralPasswordEncoderType.BCRYPT
+            every { `as`(BcryptPasswordEncoderOption::class.java) } returns this
+            every { strength } returns 4
+        }
+        meterRegistry = SimpleMeterRegistry()
+        factory = PasswordEncoderFactory.builder()
+                .meterRegistry(meterRegistry)
+                .build()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "metrics(timer): 연산별 해싱 시간을 algorithm, cost, operation 태그로 기록한다." {
+        val encoder = factory.create(bcryptOption)
+
+        val encodedPassword = encoder.encode("abcd1234")
+        encoder.matches("abcd1234", encodedPassword)
+        encoder.matches("wrongPassword", encodedPassword)
+
+        val encodeTimer = meterRegistry.get(PasswordEncoderMetrics.OPERATION_TIMER)
+                .tags("algorithm", "bcrypt", "cost", "s4", "operation", "encode")
+                .timer()
+        val matchesTimer = meterRegistry.get(PasswordEncoderMetrics.OPERATION_TIMER)
+                .tags("algorithm", "bcrypt", "operation", "matches")
+                .timer()
+        assertEquals(1, encodeTimer.count())
+        assertEquals(2, matchesTimer.count())
+        assertEquals(0.0, meterRegistry.get(PasswordEncoderMetrics.IN_FLIGHT_GAUGE).gauge().value())
+    }
+
+    "metrics(cache): 인스턴스 캐시의 적중과 누락을 기록한다." {
+        factory.create(bcryptOption)
+        factory.create(bcryptOption)
+
+        val hits = meterRegistry.get("cache.gets").tags("cache", "password.encoder.instances", "result", "hit")
+                .functionCounter()
+        val misses = meterRegistry.get("cache.gets").tags("cache", "password.encoder.instances", "result", "miss")
+                .functionCounter()
+        assertEquals(1.0, hits.count())
+        assertEquals(1.0, misses.count())
+    }
+
+    "metrics(wrapper): 지표를 기록하는 인코더도 커스텀 솔트 인코딩과 메모리 반납을 그대로 지원한다." {
+        val encoder = factory.createCustomSaltingEncoder(bcryptOption)
+
+        assertIs<PooledMemoryHolder>(encoder)
+        assertTrue { encoder.encodeWithCustomSalt("abcd1234", ByteArray(16)).startsWith("{bcrypt}") }
+    }
+
+    "metrics(removal): 캐시에서 제거된 인코더의 해싱 시간 지표는 레지스트리에서 제거된다." {
+        val registry = SimpleMeterRegistry()
+        val closingFactory = PasswordEncoderFactory.builder()
+                .meterRegistry(registry)
+                .build()
+        closingFactory.create(bcryptOption).encode("abcd1234")
+        assertTrue { registry.find(PasswordEncoderMetrics.OPERATION_TIMER).timers().isNotEmpty() }
+
+        closingFactory.close()
+
+        // 제거 리스너는 비동기로 실행됩니다.
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+        while (registry.find(PasswordEncoderMetrics.OPERATION_TIMER).timers().isNotEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10)
+        }
+        assertTrue { registry.find(PasswordEncoderMetrics.OPERATION_TIMER).timers().isEmpty() }
+    }
+
+    "metrics(cardinality): 서로 다른 비용 태그는 MAX_COST_TAGS개까지만 만들고, 나머지 비용은 cost=other로 모은다." {
+        val strengths = 4 until 4 + PasswordEncoderMetrics.MAX_COST_TAGS + 2
+        strengths.forEach { cost ->
+            factory.create(mockk<BcryptPasswordEncoderOption> {
+                every { encoderType() } returns GeneralPasswordEncoderType.BCRYPT
+                every { `as`(BcryptPasswordEncoderOption::class.java) } returns this
+                every { strength } returns cost
+            })
+        }
+
+        val costTags = meterRegistry.find(PasswordEncoderMetrics.OPERATION_TIMER).timers()
+                .map { it.id.getTag("cost") }
+                .toSet()
+        assertEquals(PasswordEncoderMetrics.MAX_COST_TAGS + 1, costTags.size)
+        assertContains(costTags, PasswordEncoderMetrics.OVERFLOW_COST_TAG)
+        assertContains(costTags, "s4")
+    }
+})
@@ -0,0 +1,53 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_NeedsUpgrade: StringSpec({
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "needsUpgrade(bcrypt): 현재 strength보다 낮은 해시만 업그레이드 대상이다." {
+        val weakEncodedPassword = factory.create(BcryptPasswordEncoderOption(4)).encode("abcd1234")
+        val encoder = factory.create(BcryptPasswordEncoderOption(5))
+
+        assertTrue { encoder.needsUpgrade(weakEncodedPassword) }
+        assertFalse { encoder.needsUpgrade(encoder.encode("abcd1234")) }
+    }
+
+    "needsUpgrade(argon2): 메모리 비용이나 반복 횟수가 현재 설정보다 낮으면 업그레이드 대상이다." {
+        val option = Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(2).build()
+        val encoder = factory.create(option)
+        val lowMemory = factory.create(
+                Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(32).iterations(2).build()
+        ).encode("abcd1234")
+        val lowIterations = factory.create(
+                Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(1).build()
+        ).encode("abcd1234")
+
+        assertTrue { encoder.needsUpgrade(lowMemory) }
+        assertTrue { encoder.needsUpgrade(lowIterations) }
+        assertFalse { encoder.needsUpgrade(encoder.encode("abcd1234")) }
+    }
+
+    "needsUpgrade(algorithm): 다른 알고리즘이나 다른 Argon2 타입으로 만든 해시는 업그레이드 대상이다." {
+        val encoder = factory.create(Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).build())
+        val bcryptEncodedPassword = factory.create(BcryptPasswordEncoderOption(4)).encode("abcd1234")
+        val argon2dEncodedPassword = factory.create(
+                Argon2dPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).build()
+        ).encode("abcd1234")
+
+        assertTrue { encoder.needsUpgrade(bcryptEncodedPassword) }
+        assertTrue { encoder.needsUpgrade(argon2dEncodedPassword) }
+    }
+})
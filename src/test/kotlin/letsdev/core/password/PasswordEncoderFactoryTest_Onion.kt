@@ -0,0 +1,75 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.adapter.OnionEncodingUtil
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import letsdev.core.password.encoder.option.Pbkdf2Algorithm
+import letsdev.core.password.encoder.option.Pbkdf2PasswordEncoderOption
+import letsdev.core.password.encoder.option.ScryptPasswordEncoderOption
+import letsdev.core.password.encoder.port.PasswordEncoder
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Onion: StringSpec({
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    fun wrap(innerEncodedPassword: String, outerEncoder: PasswordEncoder): String =
+            OnionEncodingUtil.wrap(innerEncodedPassword, outerEncoder.encode(OnionEncodingUtil.outerInput(innerEncodedPassword)))
+
+    "onion(matches): 기존 해시를 새 인코더로 감싼 해시를 평문으로 검증한다." {
+        val verifier = factory.createDelegatingVerifier()
+        val outerEncoder = factory.create(
+                Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(1).build()
+        )
+        val innerEncodedPasswords = listOf(
+                factory.create(BcryptPasswordEncoderOption(4)).encode("비밀번호1234"),
+                factory.create(Pbkdf2PasswordEncoderOption(Pbkdf2Algorithm.HMAC_SHA256, 1_000)).encode("비밀번호1234"),
+                factory.create(ScryptPasswordEncoderOption(1_024, 8, 1)).encode("비밀번호1234"),
+                factory.create(
+                        Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(32).iterations(2).build()
+                ).encode("비밀번호1234"),
+        )
+
+        innerEncodedPasswords.forEach { innerEncodedPassword ->
+            val onionEncodedPassword = wrap(innerEncodedPassword, outerEncoder)
+
+            assertTrue { verifier.matches("비밀번호1234", onionEncodedPassword) }
+            assertFalse { verifier.matches("wrongPassword", onionEncodedPassword) }
+            assertTrue { outerEncoder.needsUpgrade(onionEncodedPassword) }
+        }
+    }
+
+    "onion(bcrypt outer): 72바이트보다 긴 기존 해시도 BCrypt로 감싸면 다이제스트까지 검증한다." {
+        val verifier = factory.createDelegatingVerifier()
+        val outerEncoder = factory.create(BcryptPasswordEncoderOption(4))
+        val innerEncodedPassword = factory.create(
+                Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(32).iterations(2).build()
+        ).encode("비밀번호1234")
+        assertTrue { innerEncodedPassword.toByteArray().size > 72 }
+
+        val onionEncodedPassword = wrap(innerEncodedPassword, outerEncoder)
+
+        assertTrue { verifier.matches("비밀번호1234", onionEncodedPassword) }
+        assertFalse { verifier.matches("wrongPassword", onionEncodedPassword) }
+    }
+
+    "onion(wrap): 감싼 해시에는 기존 해시의 다이제스트가 남지 않는다." {
+        val innerEncodedPassword = factory.create(BcryptPasswordEncoderOption(4)).encode("abcd1234")
+        val outerEncoder = factory.create(
+                Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(1).build()
+        )
+
+        val onionEncodedPassword = wrap(innerEncodedPassword, outerEncoder)
+
+        assertTrue { onionEncodedPassword.startsWith("{onion}" + innerEncodedPassword.dropLast(31) + ".".repeat(31)) }
+        assertFalse { onionEncodedPassword.contains(innerEncodedPassword.takeLast(31)) }
+    }
+})
@@ -0,0 +1,65 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import letsdev.core.password.encoder.GeneralPasswordEncoderType
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Preload: StringSpec({
+    lateinit var bcryptOption: BcryptPasswordEncoderOption
+    lateinit var otherBcryptOption: BcryptPasswordEncoderOption
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        bcryptOption = mockk<BcryptPasswordEncoderOption> {
+            every { encoderType() } returns GeneralPasswordEncoderType.BCRYPT
+            every { `as`(BcryptPasswordEncoderOption::class.java) } returns this
+            every { strength } returns 4
+        }
+        otherBcryptOption = mockk<BcryptPasswordEncoderOption> {
+            every { encoderType() } returns GeneralPasswordEncoderType.BCRYPT
+            every { `as`(BcryptPasswordEncoderOption::class.java) } returns this
+            every { strength } returns 5
+        }
+        factory = PasswordEncoderFactory.builder()
+                .maximumSize(1)
+                .refreshAfterWrite(1, TimeUnit.MINUTES)
+                .build()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "preload: 미리 적재한 인코더는 create가 같은 인스턴스를 반환한다." {
+        factory.preload(listOf(bcryptOption)).get(10, TimeUnit.SECONDS)
+
+        val encoder = factory.create(bcryptOption)
+
+        assertSame(encoder, factory.create(bcryptOption))
+        assertTrue { encoder.matches("abcd1234", encoder.encode("abcd1234")) }
+    }
+
+    "preload: 미리 적재한 인코더는 캐시 크기 제한으로 밀려나도 같은 인스턴스를 유지한다." {
+        factory.preload(listOf(bcryptOption)).get(10, TimeUnit.SECONDS)
+        val preloadedEncoder = factory.create(bcryptOption)
+
+        repeat(3) { factory.create(otherBcryptOption) }
+
+        assertSame(preloadedEncoder, factory.create(bcryptOption))
+    }
+
+    "preload(unpin): 미리 적재한 인코더만 한 번 되돌리고, 되돌린 후에도 캐시에서 계속 사용할 수 있다." {
+        factory.preload(listOf(bcryptOption)).get(10, TimeUnit.SECONDS)
+
+        assertTrue { factory.unpin(bcryptOption) }
+        assertFalse { factory.unpin(bcryptOption) }
+        assertFalse { factory.unpin(otherBcryptOption) }
+
+        val encoder = factory.create(bcryptOption)
+        assertTrue { encoder.matches("abcd1234", encoder.encode("abcd1234")) }
+    }
+})
@@ -0,0 +1,51 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import java.nio.ByteBuffer
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_RawPasswordInput: StringSpec({
+    lateinit var factory: PasswordEncoderFactory
+    val salt = ByteArray(16) { it.toByte() }
+
+    beforeTest {
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "rawPasswordInput(argon2): char[], byte[], ByteBuffer 입력은 문자열 입력과 같은 해시를 만든다." {
+        val option = Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(1).build()
+        val encoder = factory.createCustomSaltingEncoder(option)
+        val expected = encoder.encodeWithCustomSalt("비밀번호1234", salt)
+
+        assertEquals(expected, encoder.encodeWithCustomSalt("비밀번호1234".toCharArray(), salt))
+        assertEquals(expected, encoder.encodeWithCustomSalt("비밀번호1234".toByteArray(), salt))
+        assertEquals(expected, encoder.encodeWithCustomSalt(ByteBuffer.wrap("비밀번호1234".toByteArray()), salt))
+        assertTrue { encoder.matches("비밀번호1234".toCharArray(), expected) }
+        assertFalse { encoder.matches("wrongPassword".toCharArray(), expected) }
+    }
+
+    "rawPasswordInput(bcrypt): char[]로 인코딩한 해시를 문자열로 검증할 수 있다." {
+        val encoder = factory.create(BcryptPasswordEncoderOption(4))
+        val encodedPassword = encoder.encode("abcd1234".toCharArray())
+
+        assertTrue { encoder.matches("abcd1234", encodedPassword) }
+        assertTrue { encoder.matches("abcd1234".toByteArray(), encodedPassword) }
+        assertFalse { encoder.matches("wrongPassword".toCharArray(), encodedPassword) }
+    }
+
+    "rawPasswordInput(ByteBuffer): 입력 버퍼의 position을 바꾸지 않는다." {
+        val encoder = factory.create(BcryptPasswordEncoderOption(4))
+        val rawPassword = ByteBuffer.wrap("abcd1234".toByteArray())
+
+        val encodedPassword = encoder.encode(rawPassword)
+
+        assertEquals(0, rawPassword.position())
+        assertTrue { encoder.matches(rawPassword, encodedPassword) }
+    }
+})
@@ -0,0 +1,40 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.option.Argon2idPasswordEncoderOption
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_Reloadable: StringSpec({
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "reloadable(reload): 교체 후의 새 해시는 새 옵션으로 만들어진다." {
+        val bcryptOption = BcryptPasswordEncoderOption(4)
+        val argon2IdOption = Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).build()
+        val encoder = factory.createReloadable(bcryptOption)
+
+        assertTrue { encoder.encode("abcd1234").startsWith("{bcrypt}") }
+        assertEquals(bcryptOption, encoder.reload(argon2IdOption))
+        assertEquals(argon2IdOption, encoder.currentOption())
+        assertTrue { encoder.encode("abcd1234").startsWith("{argon2}\$argon2id\$v=19\$m=64,") }
+    }
+
+    "reloadable(matches): 교체 전 옵션으로 만든 해시도 계속 검증된다." {
+        val encoder = factory.createReloadable(BcryptPasswordEncoderOption(4))
+        val oldEncodedPassword = encoder.encode("abcd1234")
+
+        encoder.reload(Argon2idPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).build())
+
+        assertTrue { encoder.matches("abcd1234", oldEncodedPassword) }
+        assertTrue { encoder.needsUpgrade(oldEncodedPassword) }
+        assertFalse { encoder.matches("wrongPassword", oldEncodedPassword) }
+    }
+})
@@ -0,0 +1,61 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import letsdev.core.password.encoder.engine.SaltSource
+import letsdev.core.password.encoder.option.Argon2dPasswordEncoderOption
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import java.util.HexFormat
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_SaltSource: StringSpec({
+
+    "saltSource: 여러 스레드가 동시에 꺼내도 같은 솔트를 받지 않는다." {
+        SaltSource(64).use { saltSource ->
+            val salts = ConcurrentHashMap.newKeySet<String>()
+            val executor = Executors.newFixedThreadPool(4)
+
+            repeat(4) {
+                executor.execute {
+                    repeat(1_000) { salts.add(HexFormat.of().formatHex(saltSource.nextSalt(16))) }
+                }
+            }
+            executor.shutdown()
+            executor.awaitTermination(10, TimeUnit.SECONDS)
+
+            assertEquals(4_000, salts.size)
+        }
+    }
+
+    "saltSource(factory): 미리 채우지 않아도 같은 비밀번호를 매번 다른 솔트로 해싱한다." {
+        PasswordEncoderFactory.builder().saltPoolCapacity(0).build().use { factory ->
+            val argon2dEncoder = factory.create(
+                    Argon2dPasswordEncoderOption.fromDefaultBuilder().memoryInput(64).iterations(1).build()
+            )
+            val bcryptEncoder = factory.create(BcryptPasswordEncoderOption(4))
+
+            assertNotEquals(argon2dEncoder.encode("abcd1234"), argon2dEncoder.encode("abcd1234"))
+            assertNotEquals(bcryptEncoder.encode("abcd1234"), bcryptEncoder.encode("abcd1234"))
+            assertTrue { bcryptEncoder.matches("abcd1234", bcryptEncoder.encode("abcd1234")) }
+        }
+    }
+
+    "saltSource(lazy): 채우는 스레드는 처음 솔트를 꺼낼 때 시작하고, 닫으면 끝난다." {
+        fun refillers() = Thread.getAllStackTraces().keys
+                .filter { it.name == "salt-source-refill" }
+                .toSet()
+        val existing = refillers()
+        SaltSource(64).use { saltSource ->
+            assertTrue { (refillers() - existing).isEmpty() }
+
+            saltSource.nextSalt(16)
+            val refiller = (refillers() - existing).single()
+            saltSource.close()
+            refiller.join(TimeUnit.SECONDS.toMillis(5))
+
+            assertFalse { refiller.isAlive }
+        }
+    }
+})
@@ -0,0 +1,62 @@
+package letsdev.core.password
+
+import io.kotest.core.spec.style.StringSpec
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.spyk
+import io.mockk.verify
+import letsdev.core.password.encoder.GeneralPasswordEncoderType
+import letsdev.core.password.encoder.adapter.VerificationCachingPasswordEncoder
+import letsdev.core.password.encoder.option.BcryptPasswordEncoderOption
+import letsdev.core.password.encoder.port.PasswordEncoder
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PasswordEncoderFactoryTest_VerificationCache: StringSpec({
+    lateinit var bcryptOption: BcryptPasswordEncoderOption
+    lateinit var factory: PasswordEncoderFactory
+
+    beforeTest {
+        bcryptOption = mockk<BcryptPasswordEncoderOption> {
+            every { encoderType() } returns GeneralPasswordEncoderType.BCRYPT
+            every { `as`(BcryptPasswordEncoderOption::class.java) } returns this
+            every { strength } returns 4
+        }
+        factory = PasswordEncoderFactory()
+    }
+
+    afterTest {
+        factory.close()
+    }
+
+    "verificationCache(hit): 일치한 결과는 TTL 안에서 다시 해싱하지 않는다." {
+        val delegatedEncoder = spyk<PasswordEncoder>(factory.create(bcryptOption))
+        val encoder = VerificationCachingPasswordEncoder(delegatedEncoder, 10, 1, TimeUnit.MINUTES)
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertTrue { encoder.matches("abcd1234", encodedPassword) }
+        assertTrue { encoder.matches("abcd1234", encodedPassword) }
+
+        verify(exactly = 1) { delegatedEncoder.matches("abcd1234", encodedPassword) }
+        assertEquals(1, encoder.stats().hitCount())
+        assertEquals(0.5, encoder.hitRate())
+    }
+
+    "verificationCache(miss): 불일치 결과는 캐싱하지 않는다." {
+        val delegatedEncoder = spyk<PasswordEncoder>(factory.create(bcryptOption))
+        val encoder = VerificationCachingPasswordEncoder(delegatedEncoder, 10, 1, TimeUnit.MINUTES)
+        val encodedPassword = encoder.encode("abcd1234")
+
+        assertFalse { encoder.matches("wrongPassword", encodedPassword) }
+        assertFalse { encoder.matches("wrongPassword", encodedPassword) }
+
+        verify(exactly = 2) { delegatedEncoder.matches("wrongPassword", encodedPassword) }
+        assertEquals(0, encoder.estimatedSize())
+    }
+
+    "verificationCache(factory): 팩토리는 캐싱된 인코더 인스턴스를 감싼다." {
+        val encoder = factory.createVerificationCachingEncoder(bcryptOption, 10, 5, TimeUnit.SECONDS)
+
+        assertSame(factory.create(bcryptOption), encoder.delegatedEncoder())
+    }
+})